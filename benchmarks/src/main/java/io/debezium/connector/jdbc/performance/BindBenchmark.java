@@ -0,0 +1,160 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc.performance;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.data.Struct;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.debezium.connector.jdbc.BindPlan;
+import io.debezium.connector.jdbc.QueryBinder;
+import io.debezium.connector.jdbc.SinkRecordDescriptor;
+import io.debezium.connector.jdbc.ValueBindDescriptor;
+
+/**
+ * Measures binding the values of records through the {@link BindPlan} of a statement, and through
+ * {@code Type#bind} of each field alone, both collected as descriptors and bound directly to the query.
+ * Values are bound to a query binder that only keeps the last index, so the cost of the JDBC driver is left out.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class BindBenchmark {
+
+    private BindPlan bindPlan;
+    private SinkRecordDescriptor.FieldDescriptor[] fields;
+    private final LastValueQueryBinder queryBinder = new LastValueQueryBinder();
+
+    @Setup
+    public void setUp(SinkState state) {
+        bindPlan = BindPlan.of(state.config, state.descriptors[0]);
+        fields = state.descriptors[0].getFields().values().toArray(new SinkRecordDescriptor.FieldDescriptor[0]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SinkState.RECORDS)
+    public int bindPlan(SinkState state) {
+        for (int i = 0; i < SinkState.RECORDS; i++) {
+            bindPlan.bind(state.descriptors[i], queryBinder, state.dialect);
+        }
+        return queryBinder.lastIndex;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SinkState.RECORDS)
+    public void typeBind(SinkState state, Blackhole blackhole) {
+        for (int i = 0; i < SinkState.RECORDS; i++) {
+            final Struct after = state.descriptors[i].getAfterStruct();
+            int index = 1;
+            for (SinkRecordDescriptor.FieldDescriptor field : fields) {
+                blackhole.consume(field.getType().bind(index++, field.getSchema(), after.get(field.getName())));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SinkState.RECORDS)
+    public int typeBindToQuery(SinkState state) {
+        for (int i = 0; i < SinkState.RECORDS; i++) {
+            final Struct after = state.descriptors[i].getAfterStruct();
+            int index = 1;
+            for (SinkRecordDescriptor.FieldDescriptor field : fields) {
+                index += field.bind(queryBinder, index, after.get(field.getName()));
+            }
+        }
+        return queryBinder.lastIndex;
+    }
+
+    private static class LastValueQueryBinder implements QueryBinder {
+
+        private int lastIndex;
+
+        @Override
+        public void bind(ValueBindDescriptor valueBindDescriptor) {
+            lastIndex = valueBindDescriptor.getIndex();
+        }
+
+        @Override
+        public void setNull(int index) {
+            lastIndex = index;
+        }
+
+        @Override
+        public void setBoolean(int index, boolean value) {
+            lastIndex = index;
+        }
+
+        @Override
+        public void setByte(int index, byte value) {
+            lastIndex = index;
+        }
+
+        @Override
+        public void setShort(int index, short value) {
+            lastIndex = index;
+        }
+
+        @Override
+        public void setInt(int index, int value) {
+            lastIndex = index;
+        }
+
+        @Override
+        public void setLong(int index, long value) {
+            lastIndex = index;
+        }
+
+        @Override
+        public void setFloat(int index, float value) {
+            lastIndex = index;
+        }
+
+        @Override
+        public void setDouble(int index, double value) {
+            lastIndex = index;
+        }
+
+        @Override
+        public void setString(int index, String value) {
+            lastIndex = index;
+        }
+
+        @Override
+        public void setBytes(int index, byte[] value) {
+            lastIndex = index;
+        }
+
+        @Override
+        public void setObject(int index, Object value) {
+            lastIndex = index;
+        }
+
+        @Override
+        public void setObject(int index, Object value, int targetSqlType) {
+            lastIndex = index;
+        }
+
+        @Override
+        public void setArray(int index, Object value, String elementTypeName) {
+            lastIndex = index;
+        }
+    }
+}
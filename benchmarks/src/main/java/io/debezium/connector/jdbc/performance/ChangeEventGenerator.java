@@ -0,0 +1,211 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc.performance;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.sink.SinkRecord;
+
+import io.debezium.data.Envelope;
+
+/**
+ * Generates Debezium change events for a number of tables, as a source connector would emit them.
+ *
+ * Every table has a key of the configured type and a configurable number of value columns of mixed types.
+ * Creates insert new keys, while updates and deletes address a random respectively the oldest live key,
+ * falling back to a create while a table has no live keys. The schemas of a table are shared by all its
+ * events, as they are when produced by the converters of Kafka Connect.
+ */
+class ChangeEventGenerator {
+
+    enum KeyType {
+        INT,
+        STRING,
+        COMPOSITE
+    }
+
+    private static final Schema SOURCE_SCHEMA = SchemaBuilder.struct()
+            .field("db", Schema.OPTIONAL_STRING_SCHEMA)
+            .field("table", Schema.OPTIONAL_STRING_SCHEMA)
+            .field("ts_ms", Schema.OPTIONAL_INT64_SCHEMA)
+            .build();
+
+    private final Table[] tables;
+    private final int createPercentage;
+    private final int updatePercentage;
+    private final boolean updates;
+    private final Random random = new Random(42);
+
+    /**
+     * @param tables the number of tables
+     * @param width the number of value columns besides the key columns
+     * @param keyType the type of the keys
+     * @param createPercentage the percentage of create events
+     * @param updatePercentage the percentage of update events, the remaining events are deletes
+     * @param updates whether updates are generated, otherwise creates are generated instead
+     */
+    ChangeEventGenerator(int tables, int width, KeyType keyType, int createPercentage, int updatePercentage, boolean updates) {
+        this.tables = new Table[tables];
+        for (int i = 0; i < tables; i++) {
+            this.tables[i] = new Table("throughput_" + i, width, keyType);
+        }
+        this.createPercentage = createPercentage;
+        this.updatePercentage = updatePercentage;
+        this.updates = updates;
+    }
+
+    /**
+     * Returns the given number of events, spread randomly across the tables.
+     */
+    List<SinkRecord> next(int count) {
+        final List<SinkRecord> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final Table table = tables[random.nextInt(tables.length)];
+            final int operation = random.nextInt(100);
+            if (operation < createPercentage || table.isEmpty()) {
+                records.add(table.create());
+            }
+            else if (operation < createPercentage + updatePercentage) {
+                records.add(updates ? table.update(random) : table.create());
+            }
+            else {
+                records.add(table.delete());
+            }
+        }
+        return records;
+    }
+
+    private static class Table {
+
+        private final String topic;
+        private final int width;
+        private final KeyType keyType;
+        private final Schema keySchema;
+        private final Schema valueSchema;
+        private final Envelope envelope;
+        private final Struct source;
+        private long oldestKey;
+        private long nextKey;
+        private long offset;
+
+        Table(String topic, int width, KeyType keyType) {
+            this.topic = topic;
+            this.width = width;
+            this.keyType = keyType;
+
+            final SchemaBuilder key = SchemaBuilder.struct().name(topic + ".Key");
+            final SchemaBuilder value = SchemaBuilder.struct().name(topic + ".Value");
+            addKeyFields(key);
+            addKeyFields(value);
+            for (int i = 1; i <= width; i++) {
+                value.field("col_" + i, getColumnSchema(i));
+            }
+            this.keySchema = key.build();
+            this.valueSchema = value.build();
+            this.envelope = Envelope.defineSchema()
+                    .withName(topic + ".Envelope")
+                    .withRecord(valueSchema)
+                    .withSource(SOURCE_SCHEMA)
+                    .build();
+            this.source = new Struct(SOURCE_SCHEMA).put("db", "benchmark").put("table", topic).put("ts_ms", 0L);
+        }
+
+        boolean isEmpty() {
+            return oldestKey == nextKey;
+        }
+
+        SinkRecord create() {
+            final long key = nextKey++;
+            return record(key, envelope.create(value(key, 0), source, Instant.now()));
+        }
+
+        SinkRecord update(Random random) {
+            final long key = oldestKey + (long) (random.nextDouble() * (nextKey - oldestKey));
+            final int version = random.nextInt(1000) + 1;
+            return record(key, envelope.update(value(key, version - 1), value(key, version), source, Instant.now()));
+        }
+
+        SinkRecord delete() {
+            final long key = oldestKey++;
+            return record(key, envelope.delete(value(key, 0), source, Instant.now()));
+        }
+
+        private SinkRecord record(long key, Struct payload) {
+            return new SinkRecord(topic, 0, keySchema, key(key), envelope.schema(), payload, offset++);
+        }
+
+        private void addKeyFields(SchemaBuilder builder) {
+            switch (keyType) {
+                case INT:
+                    builder.field("id", Schema.INT64_SCHEMA);
+                    break;
+                case STRING:
+                    builder.field("id", Schema.STRING_SCHEMA);
+                    break;
+                case COMPOSITE:
+                    builder.field("id", Schema.INT64_SCHEMA);
+                    builder.field("region", Schema.STRING_SCHEMA);
+                    break;
+            }
+        }
+
+        private Struct putKeyFields(Struct struct, long key) {
+            switch (keyType) {
+                case INT:
+                    return struct.put("id", key);
+                case STRING:
+                    return struct.put("id", "key-" + key);
+                default:
+                    return struct.put("id", key).put("region", "region-" + (key % 16));
+            }
+        }
+
+        private Struct key(long key) {
+            return putKeyFields(new Struct(keySchema), key);
+        }
+
+        private Struct value(long key, int version) {
+            final Struct value = putKeyFields(new Struct(valueSchema), key);
+            for (int i = 1; i <= width; i++) {
+                final String column = "col_" + i;
+                switch (i % 4) {
+                    case 0:
+                        value.put(column, key * i + version);
+                        break;
+                    case 1:
+                        value.put(column, "value-" + key + "-" + version);
+                        break;
+                    case 2:
+                        value.put(column, key / (double) i + version);
+                        break;
+                    default:
+                        value.put(column, (key + version) % 2 == 0);
+                        break;
+                }
+            }
+            return value;
+        }
+
+        private static Schema getColumnSchema(int column) {
+            switch (column % 4) {
+                case 0:
+                    return Schema.OPTIONAL_INT64_SCHEMA;
+                case 1:
+                    return Schema.OPTIONAL_STRING_SCHEMA;
+                case 2:
+                    return Schema.OPTIONAL_FLOAT64_SCHEMA;
+                default:
+                    return Schema.OPTIONAL_BOOLEAN_SCHEMA;
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc.performance;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+
+import io.debezium.connector.jdbc.JdbcSinkConnectorConfig;
+import io.debezium.connector.jdbc.SinkRecordDescriptor;
+import io.debezium.connector.jdbc.dialect.DatabaseDialect;
+import io.debezium.connector.jdbc.dialect.DatabaseDialectProvider;
+import io.debezium.connector.jdbc.dialect.GeneralDatabaseDialect;
+import io.debezium.connector.jdbc.dialect.SqlStatementBuilder;
+import io.debezium.connector.jdbc.relational.TableDescriptor;
+
+/**
+ * A {@link GeneralDatabaseDialect} for the embedded H2 database used by the {@link ThroughputHarness}, only
+ * adding upserts so that every insert mode can be measured. It is not shipped with the connector.
+ */
+public class H2DatabaseDialect extends GeneralDatabaseDialect {
+
+    public static class H2DatabaseDialectProvider implements DatabaseDialectProvider {
+        @Override
+        public boolean supports(Dialect dialect) {
+            return dialect instanceof H2Dialect;
+        }
+
+        @Override
+        public Class<?> name() {
+            return H2DatabaseDialect.class;
+        }
+
+        @Override
+        public DatabaseDialect instantiate(JdbcSinkConnectorConfig config, SessionFactory sessionFactory) {
+            return new H2DatabaseDialect(config, sessionFactory);
+        }
+    }
+
+    private H2DatabaseDialect(JdbcSinkConnectorConfig config, SessionFactory sessionFactory) {
+        super(config, sessionFactory);
+    }
+
+    @Override
+    public String getUpsertStatement(TableDescriptor table, SinkRecordDescriptor record) {
+        final SqlStatementBuilder builder = new SqlStatementBuilder();
+        builder.append("MERGE INTO ");
+        builder.append(getQualifiedTableName(table.getId()));
+        builder.append(" (");
+        builder.appendLists(", ", record.getKeyFieldNames(), record.getNonKeyFieldNames(), (name) -> columnNameFromField(name, record));
+        builder.append(") KEY (");
+        builder.appendList(", ", record.getKeyFieldNames(), (name) -> columnNameFromField(name, record));
+        builder.append(") VALUES (");
+        builder.appendLists(", ", record.getKeyFieldNames(), record.getNonKeyFieldNames(), (name) -> columnQueryBindingFromField(name, table, record));
+        builder.append(")");
+        return builder.build();
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc.performance;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+
+/**
+ * A Hibernate {@link ConnectionProvider} handing out in-process JDBC stubs, so that the session factory and
+ * the dialect can be built without a database. Every call on a stub does nothing: it returns another stub for
+ * JDBC interfaces, {@code 0} or {@code false} for primitives, an empty array for update counts and
+ * {@code null} otherwise, so queries return empty result sets.
+ */
+public class NoOpConnectionProvider implements ConnectionProvider {
+
+    private static final InvocationHandler NO_OP = NoOpConnectionProvider::invoke;
+
+    @Override
+    public Connection getConnection() {
+        return stub(Connection.class);
+    }
+
+    @Override
+    public void closeConnection(Connection connection) {
+    }
+
+    @Override
+    public boolean supportsAggressiveRelease() {
+        return false;
+    }
+
+    @Override
+    public boolean isUnwrappableAs(Class<?> unwrapType) {
+        return unwrapType.isInstance(this);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> unwrapType) {
+        return unwrapType.cast(this);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type) {
+        return (T) Proxy.newProxyInstance(NoOpConnectionProvider.class.getClassLoader(), new Class<?>[]{ type }, NO_OP);
+    }
+
+    private static Object invoke(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "NoOp" + method.getDeclaringClass().getSimpleName();
+            default:
+                break;
+        }
+
+        final Class<?> returnType = method.getReturnType();
+        if (returnType == boolean.class) {
+            return false;
+        }
+        else if (returnType == int.class) {
+            return 0;
+        }
+        else if (returnType == long.class) {
+            return 0L;
+        }
+        else if (returnType == short.class) {
+            return (short) 0;
+        }
+        else if (returnType == byte.class) {
+            return (byte) 0;
+        }
+        else if (returnType == float.class) {
+            return 0f;
+        }
+        else if (returnType == double.class) {
+            return 0d;
+        }
+        else if (returnType == int[].class) {
+            return new int[0];
+        }
+        else if (returnType == long[].class) {
+            return new long[0];
+        }
+        else if (returnType.isInterface() && returnType.getName().startsWith("java.sql.")) {
+            return stub(returnType);
+        }
+        return null;
+    }
+}
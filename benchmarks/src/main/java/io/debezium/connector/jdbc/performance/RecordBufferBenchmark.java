@@ -0,0 +1,60 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc.performance;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.debezium.connector.jdbc.Buffer;
+import io.debezium.connector.jdbc.RecordBuffer;
+import io.debezium.connector.jdbc.ReducedRecordBuffer;
+
+/**
+ * Measures adding records to the buffers of a table, including the batches they hand out whenever
+ * {@code batch.size} records are buffered.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class RecordBufferBenchmark {
+
+    @Benchmark
+    @OperationsPerInvocation(SinkState.RECORDS)
+    public void recordBufferAdd(SinkState state, Blackhole blackhole) {
+        try (Buffer buffer = new RecordBuffer(state.config)) {
+            addAll(state, buffer, blackhole);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SinkState.RECORDS)
+    public void reducedRecordBufferAdd(SinkState state, Blackhole blackhole) {
+        try (Buffer buffer = new ReducedRecordBuffer(state.config)) {
+            addAll(state, buffer, blackhole);
+        }
+    }
+
+    private static void addAll(SinkState state, Buffer buffer, Blackhole blackhole) {
+        for (int i = 0; i < SinkState.RECORDS; i++) {
+            blackhole.consume(buffer.add(state.descriptors[i]));
+        }
+        blackhole.consume(buffer.flush());
+    }
+}
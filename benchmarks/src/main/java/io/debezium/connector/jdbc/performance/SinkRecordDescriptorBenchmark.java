@@ -0,0 +1,59 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc.performance;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.debezium.connector.jdbc.SinkRecordDescriptor;
+
+/**
+ * Measures {@link SinkRecordDescriptor.Builder#build()}, reading the shape of every record or resolving it
+ * from the shape cache as the sink does.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class SinkRecordDescriptorBenchmark {
+
+    private SinkRecordDescriptor.ShapeCache shapeCache;
+
+    @Setup
+    public void setUp() {
+        shapeCache = new SinkRecordDescriptor.ShapeCache();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SinkState.RECORDS)
+    public void build(SinkState state, Blackhole blackhole) {
+        for (int i = 0; i < SinkState.RECORDS; i++) {
+            blackhole.consume(state.newDescriptor(state.records[i], null));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SinkState.RECORDS)
+    public void buildWithShapeCache(SinkState state, Blackhole blackhole) {
+        for (int i = 0; i < SinkState.RECORDS; i++) {
+            blackhole.consume(state.newDescriptor(state.records[i], shapeCache));
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc.performance;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.kafka.connect.sink.SinkRecord;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.debezium.connector.jdbc.JdbcSinkConnectorConfig;
+import io.debezium.connector.jdbc.SinkRecordDescriptor;
+import io.debezium.connector.jdbc.dialect.DatabaseDialect;
+import io.debezium.connector.jdbc.dialect.DatabaseDialectResolver;
+import io.debezium.connector.jdbc.relational.ColumnDescriptor;
+import io.debezium.connector.jdbc.relational.TableDescriptor;
+import io.debezium.connector.jdbc.util.DebeziumSinkRecordFactory;
+import io.debezium.connector.jdbc.util.FlatSinkRecordFactory;
+import io.debezium.connector.jdbc.util.SinkRecordFactory;
+
+/**
+ * The connector configuration, dialect, records and table shared by the sink benchmarks.
+ *
+ * The dialect is resolved from a session factory built on {@link NoOpConnectionProvider}, with the Hibernate
+ * dialect configured explicitly so that no database metadata is read.
+ */
+@State(Scope.Benchmark)
+public class SinkState {
+
+    public static final int RECORDS = 1000;
+
+    private static final String TOPIC = "server1.schema.benchmark";
+
+    @Param({ "flat", "debezium" })
+    public String envelope;
+
+    @Param({ "org.hibernate.dialect.PostgreSQLDialect" })
+    public String hibernateDialect;
+
+    public JdbcSinkConnectorConfig config;
+    public DatabaseDialect dialect;
+    public SinkRecord[] records;
+    public SinkRecordDescriptor[] descriptors;
+    public TableDescriptor table;
+
+    private SessionFactory sessionFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Map<String, String> properties = new HashMap<>();
+        properties.put(JdbcSinkConnectorConfig.CONNECTION_URL, "jdbc:postgresql://localhost/benchmark");
+        properties.put(JdbcSinkConnectorConfig.CONNECTION_USER, "benchmark");
+        properties.put(JdbcSinkConnectorConfig.CONNECTION_PASSWORD, "benchmark");
+        properties.put(JdbcSinkConnectorConfig.CONNECTION_PROVIDER, NoOpConnectionProvider.class.getName());
+        properties.put(JdbcSinkConnectorConfig.INSERT_MODE, "upsert");
+        properties.put(JdbcSinkConnectorConfig.PRIMARY_KEY_MODE, "record_key");
+        properties.put(JdbcSinkConnectorConfig.BATCH_SIZE, "500");
+        properties.put("hibernate.dialect", hibernateDialect);
+        properties.put("hibernate.boot.allow_jdbc_metadata_access", "false");
+        properties.put("hibernate.temp.use_jdbc_metadata_defaults", "false");
+
+        config = new JdbcSinkConnectorConfig(properties);
+        sessionFactory = config.getHibernateConfiguration().buildSessionFactory();
+        dialect = DatabaseDialectResolver.resolve(config, sessionFactory);
+
+        final SinkRecordFactory factory = "flat".equals(envelope) ? new FlatSinkRecordFactory() : new DebeziumSinkRecordFactory();
+        records = new SinkRecord[RECORDS];
+        descriptors = new SinkRecordDescriptor[RECORDS];
+        for (int i = 0; i < RECORDS; i++) {
+            records[i] = factory.createRecord(TOPIC, (byte) i);
+            descriptors[i] = newDescriptor(records[i], null);
+        }
+
+        final TableDescriptor.Builder builder = TableDescriptor.builder().tableName("benchmark");
+        for (SinkRecordDescriptor.FieldDescriptor field : descriptors[0].getFields().values()) {
+            builder.column(ColumnDescriptor.builder().columnName(field.getColumnName()).typeName(field.getTypeName()).build());
+            if (field.isKey()) {
+                builder.keyColumn(field.getColumnName());
+            }
+        }
+        table = builder.build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (sessionFactory != null) {
+            sessionFactory.close();
+        }
+    }
+
+    public SinkRecordDescriptor newDescriptor(SinkRecord record, SinkRecordDescriptor.ShapeCache shapeCache) {
+        return SinkRecordDescriptor.builder()
+                .withPrimaryKeyMode(config.getPrimaryKeyMode())
+                .withPrimaryKeyFields(config.getPrimaryKeyFields())
+                .withFieldFilters(config.getFieldsFilter())
+                .withSinkRecord(record)
+                .withDialect(dialect)
+                .withShapeCache(shapeCache)
+                .build();
+    }
+}
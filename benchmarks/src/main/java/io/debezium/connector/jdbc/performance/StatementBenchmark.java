@@ -0,0 +1,55 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc.performance;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures generating the SQL of the statements of a table, as done whenever the statement cache misses.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class StatementBenchmark {
+
+    @Benchmark
+    public String insertStatement(SinkState state) {
+        return state.dialect.getInsertStatement(state.table, state.descriptors[0]);
+    }
+
+    @Benchmark
+    public String upsertStatement(SinkState state) {
+        return state.dialect.getUpsertStatement(state.table, state.descriptors[0]);
+    }
+
+    @Benchmark
+    public String updateStatement(SinkState state) {
+        return state.dialect.getUpdateStatement(state.table, state.descriptors[0]);
+    }
+
+    @Benchmark
+    public String deleteStatement(SinkState state) {
+        return state.dialect.getDeleteStatement(state.table, state.descriptors[0]);
+    }
+
+    @Benchmark
+    public String multiRowInsertStatement(SinkState state) {
+        return state.dialect.getMultiRowInsertStatement(state.table, state.descriptors[0], 100);
+    }
+}
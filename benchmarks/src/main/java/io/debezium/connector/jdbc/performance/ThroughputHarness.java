@@ -0,0 +1,204 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc.performance;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.sink.SinkRecord;
+
+import io.debezium.connector.jdbc.JdbcSinkConnectorConfig;
+import io.debezium.connector.jdbc.JdbcSinkConnectorTask;
+import io.debezium.connector.jdbc.metrics.LatencyHistogram;
+
+/**
+ * Measures the end-to-end throughput of {@link JdbcSinkConnectorTask#put(java.util.Collection)} against an
+ * embedded, in-memory H2 database, for every combination of insert mode and buffer type.
+ *
+ * The change events are generated up front by {@link ChangeEventGenerator}, in the shape given on the command
+ * line, e.g. {@code --tables=4 --width=16 --key=composite --mix=60:30:10}. For every combination the harness
+ * reports the rows written per second, the latency of the calls to {@code put} and the bytes allocated per row.
+ * The allocations are those of the calling thread, which also writes the batches unless {@code flush.async}
+ * or a {@code flush.parallelism} above 1 is passed as a connector property, e.g. {@code --flush.async=true}.
+ *
+ * As the insert mode only writes creates and deletes, updates are generated as creates in this mode. In the
+ * update mode creates are written as updates too, so that the table remains empty.
+ */
+public final class ThroughputHarness {
+
+    private static final String[] INSERT_MODES = { "insert", "upsert", "update" };
+    private static final String[] BUFFERS = { "default", "reduction" };
+
+    private final Map<String, String> options;
+    private final int rows;
+    private final int warmupRows;
+    private final int recordsPerPut;
+    private final int tables;
+    private final int width;
+    private final ChangeEventGenerator.KeyType keyType;
+    private final int createPercentage;
+    private final int updatePercentage;
+    private int run;
+
+    private ThroughputHarness(Map<String, String> options) {
+        this.options = options;
+        this.rows = Integer.parseInt(options.getOrDefault("rows", "100000"));
+        this.warmupRows = Integer.parseInt(options.getOrDefault("warmup", "20000"));
+        this.recordsPerPut = Integer.parseInt(options.getOrDefault("put", "500"));
+        this.tables = Integer.parseInt(options.getOrDefault("tables", "1"));
+        this.width = Integer.parseInt(options.getOrDefault("width", "8"));
+        this.keyType = ChangeEventGenerator.KeyType.valueOf(options.getOrDefault("key", "int").toUpperCase(Locale.ROOT));
+
+        final String[] mix = options.getOrDefault("mix", "70:20:10").split(":");
+        if (mix.length != 3 || Integer.parseInt(mix[0]) + Integer.parseInt(mix[1]) + Integer.parseInt(mix[2]) != 100) {
+            throw new IllegalArgumentException("The mix must be given as <creates>:<updates>:<deletes> percentages adding up to 100");
+        }
+        this.createPercentage = Integer.parseInt(mix[0]);
+        this.updatePercentage = Integer.parseInt(mix[1]);
+    }
+
+    public static void main(String[] args) {
+        final Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            final int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Arguments must be given as --<name>=<value>: " + arg);
+            }
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        new ThroughputHarness(options).run();
+    }
+
+    private void run() {
+        System.out.printf("%d rows in %d tables with %d value columns, %s keys, %d:%d:%d mix, %d records per put%n", rows, tables, width,
+                keyType.name().toLowerCase(Locale.ROOT), createPercentage, updatePercentage, 100 - createPercentage - updatePercentage, recordsPerPut);
+        System.out.printf("%-8s %-10s %12s %12s %12s %12s %12s%n", "mode", "buffer", "rows/s", "put p50 ms", "put p99 ms", "put max ms", "bytes/row");
+        for (String insertMode : INSERT_MODES) {
+            for (String buffer : BUFFERS) {
+                try {
+                    final Result result = measure(insertMode, buffer);
+                    System.out.printf("%-8s %-10s %12.0f %12.2f %12.2f %12.2f %12.0f%n", insertMode, buffer, result.rowsPerSecond,
+                            result.putLatency.getPercentile(0.5) / 1000.0, result.putLatency.getPercentile(0.99) / 1000.0,
+                            result.putLatency.getMax() / 1000.0, result.bytesPerRow);
+                }
+                catch (RuntimeException e) {
+                    System.out.printf("%-8s %-10s failed: %s%n", insertMode, buffer, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private Result measure(String insertMode, String buffer) {
+        final ChangeEventGenerator generator = new ChangeEventGenerator(tables, width, keyType, createPercentage, updatePercentage,
+                !"insert".equals(insertMode));
+        final List<List<SinkRecord>> warmup = generate(generator, warmupRows);
+        final List<List<SinkRecord>> measured = generate(generator, rows);
+
+        final Map<String, String> properties = getConnectorProperties(insertMode, buffer);
+        final JdbcSinkConnectorTask task = new JdbcSinkConnectorTask();
+        task.start(properties);
+        try {
+            for (List<SinkRecord> records : warmup) {
+                task.put(records);
+            }
+            flush(task);
+
+            final LatencyHistogram putLatency = new LatencyHistogram();
+            final long allocatedBytes = getAllocatedBytes();
+            final long startNanos = System.nanoTime();
+            for (List<SinkRecord> records : measured) {
+                final long putStartNanos = System.nanoTime();
+                task.put(records);
+                putLatency.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - putStartNanos));
+            }
+            flush(task);
+            final long elapsedNanos = System.nanoTime() - startNanos;
+
+            return new Result(rows * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos, putLatency,
+                    (getAllocatedBytes() - allocatedBytes) / (double) rows);
+        }
+        finally {
+            task.stop();
+            shutdown(properties.get(JdbcSinkConnectorConfig.CONNECTION_URL));
+        }
+    }
+
+    private List<List<SinkRecord>> generate(ChangeEventGenerator generator, int count) {
+        final List<List<SinkRecord>> puts = new ArrayList<>();
+        for (int generated = 0; generated < count; generated += recordsPerPut) {
+            puts.add(generator.next(Math.min(recordsPerPut, count - generated)));
+        }
+        return puts;
+    }
+
+    private Map<String, String> getConnectorProperties(String insertMode, String buffer) {
+        final String name = "throughput-" + insertMode + "-" + buffer + "-" + run++;
+        final Map<String, String> properties = new HashMap<>();
+        properties.put("name", name);
+        properties.put(JdbcSinkConnectorConfig.CONNECTION_URL, "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        properties.put(JdbcSinkConnectorConfig.CONNECTION_USER, "sa");
+        properties.put(JdbcSinkConnectorConfig.CONNECTION_PASSWORD, "");
+        properties.put(JdbcSinkConnectorConfig.INSERT_MODE, insertMode);
+        properties.put(JdbcSinkConnectorConfig.PRIMARY_KEY_MODE, "record_key");
+        properties.put(JdbcSinkConnectorConfig.DELETE_ENABLED, "true");
+        properties.put(JdbcSinkConnectorConfig.SCHEMA_EVOLUTION, "basic");
+        // H2 folds unquoted identifiers to upper case, quoting keeps the table names found in the metadata
+        properties.put(JdbcSinkConnectorConfig.QUOTE_IDENTIFIERS, "true");
+        properties.put(JdbcSinkConnectorConfig.USE_REDUCTION_BUFFER, Boolean.toString("reduction".equals(buffer)));
+
+        // Any other option is passed to the connector, e.g. --batch.size=1000
+        options.forEach((key, value) -> {
+            if (key.contains(".")) {
+                properties.put(key, value);
+            }
+        });
+        return properties;
+    }
+
+    /**
+     * Writes all buffered records as Kafka Connect does before committing offsets, and throws the failure
+     * of any earlier call to {@code put}, which the task only throws on the next call.
+     */
+    private static void flush(JdbcSinkConnectorTask task) {
+        task.preCommit(Map.of());
+        task.put(List.of());
+    }
+
+    private static void shutdown(String url) {
+        try (Connection connection = DriverManager.getConnection(url, "sa", ""); Statement statement = connection.createStatement()) {
+            statement.execute("SHUTDOWN");
+        }
+        catch (SQLException e) {
+            throw new IllegalStateException("Failed to shut down the database " + url, e);
+        }
+    }
+
+    private static long getAllocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static class Result {
+
+        private final double rowsPerSecond;
+        private final LatencyHistogram putLatency;
+        private final double bytesPerRow;
+
+        Result(double rowsPerSecond, LatencyHistogram putLatency, double bytesPerRow) {
+            this.rowsPerSecond = rowsPerSecond;
+            this.putLatency = putLatency;
+            this.bytesPerRow = bytesPerRow;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+
+import io.debezium.annotation.Immutable;
+import io.debezium.connector.jdbc.JdbcSinkConnectorConfig.InsertMode;
+import io.debezium.connector.jdbc.JdbcSinkConnectorConfig.PrimaryKeyMode;
+import io.debezium.connector.jdbc.dialect.DatabaseDialect;
+
+/**
+ * The precomputed order in which a record's fields are bound to the parameters of a DML statement.
+ *
+ * Each parameter is described by a slot, holding the field's descriptor and its position in the key and
+ * value structs of the record the plan is created for. Records with the same struct schema instances, as
+ * produced by the converters for records of the same schema version, are bound positionally, while other
+ * records are bound by looking up their fields by name.
+ */
+@Immutable
+public class BindPlan {
+
+    /**
+     * Describes where the value bound to a statement parameter is sourced from.
+     */
+    enum Source {
+        KEY,
+        VALUE,
+        KAFKA_TOPIC,
+        KAFKA_PARTITION,
+        KAFKA_OFFSET
+    }
+
+    private final PrimaryKeyMode primaryKeyMode;
+    private final Slot[] slots;
+    private final Schema keySchema;
+    private final Schema valueSchema;
+
+    private BindPlan(PrimaryKeyMode primaryKeyMode, List<Slot> slots, Schema keySchema, Schema valueSchema) {
+        this.primaryKeyMode = primaryKeyMode;
+        this.slots = slots.toArray(new Slot[0]);
+        this.keySchema = keySchema;
+        this.valueSchema = valueSchema;
+    }
+
+    /**
+     * Creates the bind plan for statements generated for the given record.
+     *
+     * @param config the connector configuration, should not be {@code null}
+     * @param record the record the statement is generated for, should not be {@code null}
+     * @return the bind plan, never {@code null}
+     */
+    public static BindPlan of(JdbcSinkConnectorConfig config, SinkRecordDescriptor record) {
+        final Builder builder = new Builder(config.getPrimaryKeyMode(), record);
+        if (record.isDelete()) {
+            builder.keyFields();
+        }
+        else if (InsertMode.UPDATE.equals(config.getInsertMode())) {
+            builder.nonKeyFields();
+            builder.keyFields();
+        }
+        else {
+            builder.keyFields();
+            builder.nonKeyFields();
+        }
+        return builder.build();
+    }
+
+    /**
+     * Binds the values of the given record to the query.
+     *
+     * @param record the record to bind, should not be {@code null}
+     * @param query the query binder, should not be {@code null}
+     * @param dialect the database dialect, should not be {@code null}
+     * @return the next unused parameter index
+     */
+    public int bind(SinkRecordDescriptor record, QueryBinder query, DatabaseDialect dialect) {
+        return bind(record, query, dialect, 1);
+    }
+
+    /**
+     * Binds the values of the given record to the query, starting at the given parameter index.
+     *
+     * @param record the record to bind, should not be {@code null}
+     * @param query the query binder, should not be {@code null}
+     * @param dialect the database dialect, should not be {@code null}
+     * @param startIndex the first parameter index to bind
+     * @return the next unused parameter index
+     */
+    public int bind(SinkRecordDescriptor record, QueryBinder query, DatabaseDialect dialect, int startIndex) {
+        int index = startIndex;
+        Struct keySource = null;
+        Struct valueSource = null;
+        for (Slot slot : slots) {
+            switch (slot.source) {
+                case KAFKA_TOPIC:
+                    query.setString(index++, record.getTopicName());
+                    break;
+                case KAFKA_PARTITION:
+                    final Integer partition = record.getPartition();
+                    if (partition != null) {
+                        query.setInt(index++, partition);
+                    }
+                    else {
+                        query.setNull(index++);
+                    }
+                    break;
+                case KAFKA_OFFSET:
+                    query.setLong(index++, record.getOffset());
+                    break;
+                case KEY:
+                    if (keySource == null) {
+                        keySource = record.getKeyStruct(primaryKeyMode);
+                    }
+                    index = bindField(record, query, dialect, index, keySource, keySchema, slot);
+                    break;
+                case VALUE:
+                    if (valueSource == null) {
+                        valueSource = record.getAfterStruct();
+                    }
+                    index = bindField(record, query, dialect, index, valueSource, valueSchema, slot);
+                    break;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * @return the number of fields bound per record
+     */
+    public int size() {
+        return slots.length;
+    }
+
+    private static int bindField(SinkRecordDescriptor record, QueryBinder query, DatabaseDialect dialect, int index, Struct source,
+                                 Schema resolvedSchema, Slot slot) {
+        if (resolvedSchema != null && source.schema() == resolvedSchema) {
+            return index + dialect.bindValue(slot.field, query, index, slot.get(source));
+        }
+
+        final SinkRecordDescriptor.FieldDescriptor field = record.getFields().get(slot.fieldName);
+
+        final Object value;
+        if (field.getSchema().isOptional()) {
+            value = source.getWithoutDefault(slot.fieldName);
+        }
+        else {
+            value = source.get(slot.fieldName);
+        }
+
+        return index + dialect.bindValue(field, query, index, value);
+    }
+
+    /**
+     * A statement parameter, with the field it is bound from resolved against the schema of the source struct.
+     */
+    private static class Slot {
+
+        private final Source source;
+        private final String fieldName;
+        private final SinkRecordDescriptor.FieldDescriptor field;
+        private final Field structField;
+        private final boolean withoutDefault;
+
+        Slot(Source source, String fieldName, SinkRecordDescriptor.FieldDescriptor field, Field structField) {
+            this.source = source;
+            this.fieldName = fieldName;
+            this.field = field;
+            this.structField = structField;
+            // Optional fields are bound without their default value, which Struct#get(Field) only applies to nulls
+            this.withoutDefault = field != null && field.getSchema().isOptional()
+                    && structField != null && structField.schema().defaultValue() != null;
+        }
+
+        Object get(Struct struct) {
+            if (withoutDefault) {
+                return struct.getWithoutDefault(fieldName);
+            }
+            return struct.get(structField);
+        }
+    }
+
+    private static class Builder {
+
+        private final PrimaryKeyMode primaryKeyMode;
+        private final SinkRecordDescriptor record;
+        private final List<Slot> slots = new ArrayList<>();
+        private Schema keySchema;
+        private Schema valueSchema;
+
+        Builder(PrimaryKeyMode primaryKeyMode, SinkRecordDescriptor record) {
+            this.primaryKeyMode = primaryKeyMode;
+            this.record = record;
+        }
+
+        void keyFields() {
+            if (PrimaryKeyMode.KAFKA.equals(primaryKeyMode)) {
+                slots.add(new Slot(Source.KAFKA_TOPIC, null, null, null));
+                slots.add(new Slot(Source.KAFKA_PARTITION, null, null, null));
+                slots.add(new Slot(Source.KAFKA_OFFSET, null, null, null));
+            }
+            else if (!record.getKeyFieldNames().isEmpty()) {
+                // Header structs are assembled for every record, so their fields are always looked up by name
+                keySchema = PrimaryKeyMode.RECORD_HEADER.equals(primaryKeyMode) ? null : getSchema(record.getKeyStruct(primaryKeyMode));
+                for (String fieldName : record.getKeyFieldNames()) {
+                    add(Source.KEY, fieldName, keySchema);
+                }
+            }
+        }
+
+        void nonKeyFields() {
+            if (!record.getNonKeyFieldNames().isEmpty()) {
+                valueSchema = getSchema(record.getAfterStruct());
+                for (String fieldName : record.getNonKeyFieldNames()) {
+                    add(Source.VALUE, fieldName, valueSchema);
+                }
+            }
+        }
+
+        private void add(Source source, String fieldName, Schema schema) {
+            final Field structField = schema != null ? schema.field(fieldName) : null;
+            slots.add(new Slot(source, fieldName, record.getFields().get(fieldName), structField));
+        }
+
+        BindPlan build() {
+            // Only bind positionally when every field of a source is resolved in its schema
+            for (Slot slot : slots) {
+                if (slot.field == null || slot.structField == null) {
+                    if (Source.KEY.equals(slot.source)) {
+                        keySchema = null;
+                    }
+                    else if (Source.VALUE.equals(slot.source)) {
+                        valueSchema = null;
+                    }
+                }
+            }
+            return new BindPlan(primaryKeyMode, slots, keySchema, valueSchema);
+        }
+
+        private static Schema getSchema(Struct struct) {
+            return struct != null ? struct.schema() : null;
+        }
+    }
+}
@@ -12,11 +12,12 @@
  *
  * @author Gaurav Miglani
  */
-public interface Buffer {
+public interface Buffer extends AutoCloseable {
 
     /**
      * to add a {@link SinkRecordDescriptor} to the internal buffer and
      * call the {@link Buffer#flush()} when buffer size >= {@link JdbcSinkConnectorConfig#getBatchSize()}
+     * or the estimated size of the buffered records >= {@link JdbcSinkConnectorConfig#getBatchMaxBytes()}
      * @param recordDescriptor the Sink record descriptor
      * @return the  buffer  records
      */
@@ -33,4 +34,27 @@ public interface Buffer {
      * @return true if empty else false.
      */
     boolean isEmpty();
+
+    /**
+     * to get the estimated size of the buffered records.
+     * @return the sum of {@link SinkRecordDescriptor#getEstimatedSize()} of the buffered records.
+     */
+    long getEstimatedSize();
+
+    /**
+     * to check whether the last {@link Buffer#flush()} or {@link Buffer#add(SinkRecordDescriptor)} returned
+     * only part of the flushed records, the remaining parts are returned by calling {@link Buffer#flush()}
+     * until this is false, before any further record is added.
+     * @return true if a flush is in progress else false.
+     */
+    default boolean hasPendingFlush() {
+        return false;
+    }
+
+    /**
+     * to discard the buffered records and release any resources held by the buffer.
+     */
+    @Override
+    default void close() {
+    }
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.debezium.annotation.ThreadSafe;
+
+/**
+ * A DML statement together with the plan describing how records are bound to its parameters.
+ *
+ * A statement may also provide multi-row variants that apply several records at once. Each record
+ * is bound to such a variant using the same bind plan, with parameter indices continuing from the
+ * previous record. Variants are generated on first use from a record applied by the statement, and retained
+ * per number of rows, so that cached statements do not retain the record they were compiled for.
+ */
+@ThreadSafe
+public class CompiledStatement {
+
+    private final String sql;
+    private final BindPlan bindPlan;
+    private final int maxRows;
+    private final boolean uniqueKeysRequired;
+    private final MultiRowSqlFactory multiRowSqlFactory;
+    private final Map<Integer, String> multiRowSql;
+
+    public CompiledStatement(String sql, BindPlan bindPlan) {
+        this(sql, bindPlan, 1, false, null);
+    }
+
+    private CompiledStatement(String sql, BindPlan bindPlan, int maxRows, boolean uniqueKeysRequired, MultiRowSqlFactory multiRowSqlFactory) {
+        this.sql = sql;
+        this.bindPlan = bindPlan;
+        this.maxRows = maxRows;
+        this.uniqueKeysRequired = uniqueKeysRequired;
+        this.multiRowSqlFactory = multiRowSqlFactory;
+        this.multiRowSql = multiRowSqlFactory != null ? new ConcurrentHashMap<>() : Map.of();
+    }
+
+    /**
+     * Creates a statement that also provides multi-row variants.
+     *
+     * @param sql the single-row statement, should not be {@code null}
+     * @param bindPlan the bind plan for a single record, should not be {@code null}
+     * @param maxRows the maximum number of rows per statement, greater than 1
+     * @param uniqueKeysRequired whether the records applied by one statement must have distinct keys
+     * @param multiRowSqlFactory generates the statement for a given number of rows, should not be {@code null}
+     * @return the compiled statement, never {@code null}
+     */
+    public static CompiledStatement multiRow(String sql, BindPlan bindPlan, int maxRows, boolean uniqueKeysRequired, MultiRowSqlFactory multiRowSqlFactory) {
+        return new CompiledStatement(sql, bindPlan, maxRows, uniqueKeysRequired, multiRowSqlFactory);
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * Returns the statement applying the given number of rows.
+     *
+     * @param rows the number of rows, between 1 and {@link #getMaxRows()}
+     * @param record a record applied by the statement, should not be {@code null}
+     * @return the SQL statement, never {@code null}
+     */
+    public String getSql(int rows, SinkRecordDescriptor record) {
+        if (rows == 1) {
+            return sql;
+        }
+        if (rows > maxRows) {
+            throw new IllegalArgumentException("The statement applies at most " + maxRows + " rows");
+        }
+        return multiRowSql.computeIfAbsent(rows, key -> multiRowSqlFactory.create(record, key));
+    }
+
+    public BindPlan getBindPlan() {
+        return bindPlan;
+    }
+
+    /**
+     * @return the maximum number of rows applied by a single statement, {@code 1} if there are no multi-row variants
+     */
+    public int getMaxRows() {
+        return maxRows;
+    }
+
+    /**
+     * @return whether the records applied by a single multi-row statement must have distinct keys
+     */
+    public boolean isUniqueKeysRequired() {
+        return uniqueKeysRequired;
+    }
+
+    /**
+     * Generates the statement applying a given number of rows.
+     */
+    @FunctionalInterface
+    public interface MultiRowSqlFactory {
+
+        /**
+         * @param record a record applied by the statement, should not be {@code null}
+         * @param rows the number of rows, greater than 1
+         * @return the SQL statement, never {@code null}
+         */
+        String create(SinkRecordDescriptor record, int rows);
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledStatement{" +
+                "sql='" + sql + '\'' +
+                ", maxRows=" + maxRows +
+                '}';
+    }
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.errors.ConnectException;
+import org.hibernate.StatelessSession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Owns the dedicated {@link StatelessSession}s and {@link RecordWriter}s used to flush the buffers of the
+ * tables assigned to it. When backed by an executor, flushes are applied asynchronously but strictly
+ * in submission order, so operations against the same table are never reordered; otherwise they are
+ * applied inline on the calling thread.
+ *
+ * A pipelined worker owns two sessions and prepares each {@link Operation} on a separate thread, using
+ * the session not used by the previous operation, so the next batch is bound while the previous batch
+ * is committed. Operations are still committed in submission order.
+ */
+class FlushWorker implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FlushWorker.class);
+
+    // The number of operations a pipelined worker accepts before the submitter has to wait,
+    // one being committed and one being prepared
+    private static final int MAX_PIPELINED_OPERATIONS = 2;
+
+    private final StatelessSession[] sessions;
+    private final RecordWriter[] recordWriters;
+    private final ExecutorService executor;
+    private final ExecutorService prepareExecutor;
+    private final List<Future<?>> pending = new ArrayList<>();
+    private long submitted;
+    private volatile RuntimeException failure;
+
+    private FlushWorker(StatelessSession[] sessions, RecordWriter[] recordWriters, ExecutorService executor, ExecutorService prepareExecutor) {
+        this.sessions = sessions;
+        this.recordWriters = recordWriters;
+        this.executor = executor;
+        this.prepareExecutor = prepareExecutor;
+    }
+
+    /**
+     * Creates a worker that applies flushes on the calling thread.
+     */
+    static FlushWorker inline(StatelessSession session, RecordWriter recordWriter) {
+        return new FlushWorker(new StatelessSession[]{ session }, new RecordWriter[]{ recordWriter }, null, null);
+    }
+
+    /**
+     * Creates a worker that applies flushes on its own thread.
+     */
+    static FlushWorker threaded(StatelessSession session, RecordWriter recordWriter, String threadName) {
+        return new FlushWorker(new StatelessSession[]{ session }, new RecordWriter[]{ recordWriter }, newExecutor(threadName), null);
+    }
+
+    /**
+     * Creates a worker that prepares operations on one thread while committing the previous operation on another.
+     *
+     * @param sessions the two sessions used alternately, should not be {@code null}
+     * @param recordWriters the record writers of the sessions, should not be {@code null}
+     * @param threadName the name of the committing thread
+     */
+    static FlushWorker pipelined(StatelessSession[] sessions, RecordWriter[] recordWriters, String threadName) {
+        return new FlushWorker(sessions, recordWriters, newExecutor(threadName), newExecutor(threadName + "-prepare"));
+    }
+
+    private static ExecutorService newExecutor(String threadName) {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Submits a flush operation. Once an operation fails, all subsequently submitted operations
+     * are rejected until the failure has been reported by {@link #awaitCompletion()}.
+     *
+     * @param operation the operation to apply, should not be {@code null}
+     */
+    void submit(Runnable operation) {
+        if (executor == null) {
+            operation.run();
+            return;
+        }
+
+        throwIfFailed();
+        awaitCapacity();
+        pending.add(executor.submit(() -> {
+            if (failure != null) {
+                // An earlier operation failed, applying later changes would reorder them
+                return;
+            }
+            try {
+                operation.run();
+            }
+            catch (RuntimeException e) {
+                failure = e;
+                throw e;
+            }
+        }));
+    }
+
+    /**
+     * Submits a flush operation that is prepared and committed using one of the worker's sessions,
+     * see {@link #submit(Runnable)}.
+     *
+     * @param operation the operation to apply, should not be {@code null}
+     */
+    void submit(Operation operation) {
+        if (prepareExecutor == null) {
+            submit(() -> {
+                try (RecordWriter.PreparedWrite write = operation.prepare(sessions[0], recordWriters[0])) {
+                    write.commit();
+                }
+            });
+            return;
+        }
+
+        throwIfFailed();
+        awaitCapacity();
+        // At most one other operation is in flight, which uses the other session
+        final int index = (int) (submitted++ % sessions.length);
+        final Future<RecordWriter.PreparedWrite> prepared = prepareExecutor.submit(() -> {
+            if (failure != null) {
+                return null;
+            }
+            try {
+                return operation.prepare(sessions[index], recordWriters[index]);
+            }
+            catch (RuntimeException e) {
+                failure = e;
+                throw e;
+            }
+        });
+        pending.add(executor.submit(() -> {
+            final RecordWriter.PreparedWrite write;
+            try {
+                write = prepared.get();
+            }
+            catch (ExecutionException e) {
+                // Recorded by the preparation itself
+                return null;
+            }
+            if (write == null) {
+                return null;
+            }
+            try (write) {
+                if (failure == null) {
+                    write.commit();
+                }
+            }
+            catch (RuntimeException e) {
+                failure = e;
+                throw e;
+            }
+            return null;
+        }));
+    }
+
+    /**
+     * Blocks until all submitted operations have completed.
+     *
+     * @throws RuntimeException the failure of the first operation that did not complete successfully
+     */
+    void awaitCompletion() {
+        try {
+            for (Future<?> future : pending) {
+                awaitQuietly(future);
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConnectException("Interrupted while waiting for flush operations to complete", e);
+        }
+        finally {
+            pending.clear();
+        }
+
+        final RuntimeException error = failure;
+        if (error != null) {
+            failure = null;
+            throw error;
+        }
+    }
+
+    /**
+     * @return whether operations have been submitted since the last call to {@link #awaitCompletion()}
+     */
+    boolean hasPendingOperations() {
+        return !pending.isEmpty() || failure != null;
+    }
+
+    /**
+     * Reports the failure of a previously submitted operation without waiting for pending operations.
+     *
+     * @throws ConnectException if a previously submitted operation failed
+     */
+    void throwIfFailed() {
+        final RuntimeException error = failure;
+        if (error != null) {
+            throw new ConnectException("A previous flush operation failed", error);
+        }
+    }
+
+    private void awaitCapacity() {
+        if (prepareExecutor == null) {
+            return;
+        }
+        // Failures of completed operations are retained until reported by awaitCompletion
+        pending.removeIf(Future::isDone);
+        try {
+            while (pending.size() >= MAX_PIPELINED_OPERATIONS) {
+                awaitQuietly(pending.remove(0));
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConnectException("Interrupted while waiting for flush operations to complete", e);
+        }
+    }
+
+    private static void awaitQuietly(Future<?> future) throws InterruptedException {
+        try {
+            future.get();
+        }
+        catch (ExecutionException e) {
+            // Recorded by the operation itself
+            LOGGER.trace("Flush operation failed", e.getCause());
+        }
+    }
+
+    @Override
+    public void close() {
+        if (prepareExecutor != null) {
+            shutdown(prepareExecutor);
+        }
+        if (executor != null) {
+            shutdown(executor);
+        }
+        for (StatelessSession session : sessions) {
+            if (session != null && session.isOpen()) {
+                LOGGER.info("Closing session.");
+                session.close();
+            }
+            else {
+                LOGGER.info("Session already closed.");
+            }
+        }
+    }
+
+    private static void shutdown(ExecutorService executor) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                LOGGER.warn("Flush operations did not complete in time, forcing shutdown.");
+                executor.shutdownNow();
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * A flush operation applied in two steps, so that it can be prepared while the previous operation is committed.
+     */
+    @FunctionalInterface
+    interface Operation {
+
+        /**
+         * Prepares the operation, for example by binding the records of a batch.
+         *
+         * @param session the session to use, never {@code null}
+         * @param recordWriter the record writer of the session, never {@code null}
+         * @return the prepared write committed once all earlier operations have been committed
+         */
+        RecordWriter.PreparedWrite prepare(StatelessSession session, RecordWriter recordWriter);
+    }
+}
@@ -8,16 +8,23 @@
 import static io.debezium.connector.jdbc.JdbcSinkConnectorConfig.SchemaEvolutionMode.NONE;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import org.apache.kafka.connect.errors.ConnectException;
 import org.apache.kafka.connect.errors.DataException;
+import org.apache.kafka.connect.sink.ErrantRecordReporter;
 import org.apache.kafka.connect.sink.SinkRecord;
+import org.hibernate.SessionFactory;
 import org.hibernate.StatelessSession;
 import org.hibernate.Transaction;
 import org.hibernate.dialect.DatabaseVersion;
@@ -26,12 +33,13 @@
 import org.slf4j.LoggerFactory;
 
 import io.debezium.connector.jdbc.SinkRecordDescriptor.FieldDescriptor;
+import io.debezium.connector.jdbc.dialect.BulkWriter;
 import io.debezium.connector.jdbc.dialect.DatabaseDialect;
+import io.debezium.connector.jdbc.metrics.JdbcSinkTaskMetrics;
 import io.debezium.connector.jdbc.naming.TableNamingStrategy;
 import io.debezium.connector.jdbc.relational.TableDescriptor;
 import io.debezium.connector.jdbc.relational.TableId;
 import io.debezium.pipeline.sink.spi.ChangeEventSink;
-import io.debezium.util.Stopwatch;
 import io.debezium.util.Strings;
 
 /**
@@ -47,26 +55,273 @@ public class JdbcChangeEventSink implements ChangeEventSink {
     public static final String DETECT_SCHEMA_CHANGE_RECORD_MSG = "Schema change records are not supported by JDBC connector. Adjust `topics` or `topics.regex` to exclude schema change topic.";
     private final JdbcSinkConnectorConfig config;
     private final DatabaseDialect dialect;
-    private final StatelessSession session;
     private final TableNamingStrategy tableNamingStrategy;
-    private final RecordWriter recordWriter;
+    private final List<FlushWorker> flushWorkers;
+    private final TableDescriptorCache tableDescriptorCache;
+    private final StatementCache statementCache;
+    private final SinkRecordDescriptor.ShapeCache shapeCache;
+    private final RetryPolicy retryPolicy;
+    private final JdbcSinkTaskMetrics metrics;
+    // Concurrent, as the buffered bytes of each table are read by the metrics from other threads
+    private final Map<TableId, Buffer> updateBufferByTable = new ConcurrentHashMap<>();
+    private final Map<TableId, Buffer> deleteBufferByTable = new ConcurrentHashMap<>();
+    private long bufferedSinceNanos = -1;
+    private volatile Consumer<List<SinkRecordDescriptor>> commitListener = records -> {
+    };
+    private volatile ErrantRecordReporter errantRecordReporter;
 
     public JdbcChangeEventSink(JdbcSinkConnectorConfig config, StatelessSession session, DatabaseDialect dialect, RecordWriter recordWriter) {
+        this(config, dialect, List.of(FlushWorker.inline(session, recordWriter)), new JdbcSinkTaskMetrics());
+    }
+
+    public JdbcChangeEventSink(JdbcSinkConnectorConfig config, SessionFactory sessionFactory, DatabaseDialect dialect, QueryBinderResolver queryBinderResolver) {
+        this(config, sessionFactory, dialect, queryBinderResolver, new JdbcSinkTaskMetrics());
+    }
+
+    /**
+     * Creates a sink that flushes tables using up to {@link JdbcSinkConnectorConfig#getFlushParallelism()}
+     * sessions concurrently, each opened from the given session factory, and records its activity in the given metrics.
+     */
+    public JdbcChangeEventSink(JdbcSinkConnectorConfig config, SessionFactory sessionFactory, DatabaseDialect dialect, QueryBinderResolver queryBinderResolver,
+                               JdbcSinkTaskMetrics metrics) {
+        this(config, dialect, createFlushWorkers(config, sessionFactory, dialect, queryBinderResolver, metrics), metrics);
+    }
+
+    private JdbcChangeEventSink(JdbcSinkConnectorConfig config, DatabaseDialect dialect, List<FlushWorker> flushWorkers, JdbcSinkTaskMetrics metrics) {
 
         this.config = config;
         this.tableNamingStrategy = config.getTableNamingStrategy();
         this.dialect = dialect;
-        this.session = session;
-        this.recordWriter = recordWriter;
+        this.flushWorkers = flushWorkers;
+        this.tableDescriptorCache = new TableDescriptorCache(dialect, config.getTableMetadataCacheTtlMs());
+        this.statementCache = new StatementCache();
+        this.shapeCache = new SinkRecordDescriptor.ShapeCache();
+        this.retryPolicy = new RetryPolicy(config.getFlushMaxRetries(), config.getFlushRetryBackoffMs());
+        this.metrics = metrics;
+        metrics.setTableMetadataCache(tableDescriptorCache::getHits, tableDescriptorCache::getMisses);
+        metrics.setStatementCache(statementCache::getHits, statementCache::getMisses);
+        metrics.setRecordShapeCache(shapeCache::getHits, shapeCache::getMisses);
+        metrics.setBufferedBytesByTable(this::getBufferedBytesByTable);
         final DatabaseVersion version = this.dialect.getVersion();
         LOGGER.info("Database version {}.{}.{}", version.getMajor(), version.getMinor(), version.getMicro());
     }
 
+    private static List<FlushWorker> createFlushWorkers(JdbcSinkConnectorConfig config, SessionFactory sessionFactory, DatabaseDialect dialect,
+                                                        QueryBinderResolver queryBinderResolver, JdbcSinkTaskMetrics metrics) {
+        final int parallelism = config.getFlushParallelism();
+        if (config.isFlushAsync()) {
+            LOGGER.info("Flushing tables using {} pipelined workers with two sessions each.", parallelism);
+            final List<FlushWorker> workers = new ArrayList<>(parallelism);
+            for (int i = 0; i < parallelism; i++) {
+                final StatelessSession[] sessions = { sessionFactory.openStatelessSession(), sessionFactory.openStatelessSession() };
+                final RecordWriter[] recordWriters = {
+                        new RecordWriter(sessions[0], queryBinderResolver, config, dialect, metrics),
+                        new RecordWriter(sessions[1], queryBinderResolver, config, dialect, metrics) };
+                workers.add(FlushWorker.pipelined(sessions, recordWriters, "jdbc-sink-flush-" + i));
+            }
+            return workers;
+        }
+        if (parallelism <= 1) {
+            final StatelessSession session = sessionFactory.openStatelessSession();
+            return List.of(FlushWorker.inline(session, new RecordWriter(session, queryBinderResolver, config, dialect, metrics)));
+        }
+
+        LOGGER.info("Flushing tables using {} concurrent sessions.", parallelism);
+        final List<FlushWorker> workers = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            final StatelessSession session = sessionFactory.openStatelessSession();
+            workers.add(FlushWorker.threaded(session, new RecordWriter(session, queryBinderResolver, config, dialect, metrics), "jdbc-sink-flush-" + i));
+        }
+        return workers;
+    }
+
     @Override
     public void execute(Collection<SinkRecord> records) {
+        final Runnable action = () -> {
+            processRecords(records);
+            if (isFlushDue()) {
+                flushAllBuffers();
+            }
+        };
+        if (config.isFlushAsync()) {
+            runWithoutAwaitingFlushes(action);
+        }
+        else {
+            runAndAwaitFlushes(action);
+        }
+    }
+
+    /**
+     * Writes all buffered changes, returning once they have been committed.
+     */
+    public void flush() {
+        runAndAwaitFlushes(this::flushAllBuffers);
+    }
 
-        final Map<TableId, Buffer> updateBufferByTable = new HashMap<>();
-        final Map<TableId, Buffer> deleteBufferByTable = new HashMap<>();
+    /**
+     * Sets the listener notified of the records of each batch once the batch has been committed. As batches
+     * of different tables may be committed concurrently, the listener may be called from multiple threads,
+     * and records superseded by the reduction buffer are never passed to it.
+     *
+     * @param commitListener the listener, should not be {@code null}
+     */
+    public void setCommitListener(Consumer<List<SinkRecordDescriptor>> commitListener) {
+        this.commitListener = commitListener;
+    }
+
+    /**
+     * Sets the reporter of the records isolated from failed batches, see {@link JdbcSinkConnectorConfig#isBatchBisectOnFailure()}.
+     *
+     * @param errantRecordReporter the reporter, may be {@code null} if no dead letter queue is configured
+     */
+    public void setErrantRecordReporter(ErrantRecordReporter errantRecordReporter) {
+        this.errantRecordReporter = errantRecordReporter;
+        if (config.isBatchBisectOnFailure() && errantRecordReporter == null) {
+            LOGGER.warn("No dead letter queue is configured, records failing a batch will fail the task.");
+        }
+    }
+
+    /**
+     * Returns whether any changes passed to {@link #execute(Collection)} have not been written yet,
+     * including changes whose asynchronous write has not been awaited yet.
+     */
+    public boolean hasBufferedRecords() {
+        return updateBufferByTable.values().stream().anyMatch(buffer -> !buffer.isEmpty())
+                || deleteBufferByTable.values().stream().anyMatch(buffer -> !buffer.isEmpty())
+                || flushWorkers.stream().anyMatch(FlushWorker::hasPendingOperations);
+    }
+
+    private void runWithoutAwaitingFlushes(Runnable action) {
+        try {
+            // Writes submitted by earlier calls may have failed in the meantime
+            for (FlushWorker worker : flushWorkers) {
+                worker.throwIfFailed();
+            }
+            action.run();
+        }
+        catch (RuntimeException e) {
+            try {
+                awaitFlushes();
+            }
+            catch (RuntimeException fe) {
+                if (fe != e.getCause()) {
+                    e.addSuppressed(fe);
+                }
+            }
+            discardBuffers();
+            throw e;
+        }
+    }
+
+    private void runAndAwaitFlushes(Runnable action) {
+        try {
+            action.run();
+        }
+        catch (RuntimeException e) {
+            try {
+                awaitFlushes();
+            }
+            catch (RuntimeException fe) {
+                e.addSuppressed(fe);
+            }
+            discardBuffers();
+            throw e;
+        }
+        try {
+            // Only return once every flush submitted so far has been committed
+            awaitFlushes();
+        }
+        catch (RuntimeException e) {
+            discardBuffers();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the estimated size of the changes buffered for each table, see {@link SinkRecordDescriptor#getEstimatedSize()}.
+     * May be called from any thread, in which case the sizes of tables buffered concurrently may be outdated.
+     */
+    public Map<TableId, Long> getBufferedBytesByTable() {
+        final Map<TableId, Long> bufferedBytes = new HashMap<>();
+        updateBufferByTable.forEach((tableId, buffer) -> bufferedBytes.merge(tableId, buffer.getEstimatedSize(), Long::sum));
+        deleteBufferByTable.forEach((tableId, buffer) -> bufferedBytes.merge(tableId, buffer.getEstimatedSize(), Long::sum));
+        return bufferedBytes;
+    }
+
+    /**
+     * Returns the number of times batches were written again after failing with a transient error.
+     */
+    public long getRetryCount() {
+        return retryPolicy.getRetryCount();
+    }
+
+    /**
+     * Returns the time spent retrying batches that failed with a transient error in milliseconds, including the backoff.
+     */
+    public long getRetryTimeMs() {
+        return retryPolicy.getRetryTimeMs();
+    }
+
+    /**
+     * Returns the estimated size of all buffered records in bytes.
+     */
+    public long getBufferedBytes() {
+        long bufferedBytes = 0;
+        for (Buffer buffer : updateBufferByTable.values()) {
+            bufferedBytes += buffer.getEstimatedSize();
+        }
+        for (Buffer buffer : deleteBufferByTable.values()) {
+            bufferedBytes += buffer.getEstimatedSize();
+        }
+        return bufferedBytes;
+    }
+
+    private void applyBufferMaxBytes() {
+        final long bufferMaxBytes = config.getBufferMaxBytes();
+        if (bufferMaxBytes > 0) {
+            final long bufferedBytes = getBufferedBytes();
+            if (bufferedBytes >= bufferMaxBytes) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Buffered changes of {} bytes reached the limit of {} bytes, writing all tables: {}", bufferedBytes, bufferMaxBytes,
+                            getBufferedBytesByTable());
+                }
+                // Block until the buffered changes have been written before accepting any more
+                flushAllBuffers();
+                awaitFlushes();
+            }
+        }
+    }
+
+    private boolean isFlushDue() {
+        if (bufferedSinceNanos < 0) {
+            return false;
+        }
+        final long flushIntervalMs = config.getFlushIntervalMs();
+        return flushIntervalMs == 0 || System.nanoTime() - bufferedSinceNanos >= TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+    }
+
+    private void markBuffered() {
+        if (bufferedSinceNanos < 0) {
+            bufferedSinceNanos = System.nanoTime();
+        }
+    }
+
+    private void flushAllBuffers() {
+        flushBuffers(updateBufferByTable);
+        flushBuffers(deleteBufferByTable);
+        bufferedSinceNanos = -1;
+    }
+
+    private void discardBuffers() {
+        // The records are redelivered once the task is restarted
+        updateBufferByTable.values().forEach(Buffer::close);
+        updateBufferByTable.clear();
+        deleteBufferByTable.values().forEach(Buffer::close);
+        deleteBufferByTable.clear();
+        bufferedSinceNanos = -1;
+    }
+
+    private void processRecords(Collection<SinkRecord> records) {
 
         for (SinkRecord record : records) {
 
@@ -104,13 +359,24 @@ public void execute(Collection<SinkRecord> records) {
 
                 flushBuffers(deleteBufferByTable);
 
-                try {
-                    final TableDescriptor table = checkAndApplyTableChangesIfNeeded(tableId, sinkRecordDescriptor);
-                    writeTruncate(dialect.getTruncateStatement(table));
-                }
-                catch (SQLException e) {
-                    throw new ConnectException("Failed to process a sink record", e);
-                }
+                getFlushWorker(tableId).submit((session, recordWriter) -> {
+                    try {
+                        final String sql = dialect.getTruncateStatement(checkAndApplyTableChangesIfNeeded(session, tableId, sinkRecordDescriptor));
+                        return () -> {
+                            try {
+                                writeTruncate(session, sql);
+                            }
+                            catch (SQLException e) {
+                                tableDescriptorCache.invalidate(tableId);
+                                throw new ConnectException("Failed to process a sink record", e);
+                            }
+                        };
+                    }
+                    catch (SQLException e) {
+                        tableDescriptorCache.invalidate(tableId);
+                        throw new ConnectException("Failed to process a sink record", e);
+                    }
+                });
             }
 
             if (sinkRecordDescriptor.isDelete()) {
@@ -120,18 +386,31 @@ public void execute(Collection<SinkRecord> records) {
                     continue;
                 }
 
+                if (isReduced(sinkRecordDescriptor)) {
+                    // The reduction buffer retains deletes together with the other changes of the table, in order
+                    Buffer tableIdBuffer = resolveBuffer(updateBufferByTable, tableId, sinkRecordDescriptor);
+
+                    markBuffered();
+                    flushBuffer(tableId, tableIdBuffer, tableIdBuffer.add(sinkRecordDescriptor));
+                    applyBufferMaxBytes();
+                    continue;
+                }
+
                 if (updateBufferByTable.get(tableId) != null && !updateBufferByTable.get(tableId).isEmpty()) {
                     // When an delete arrives, update buffer must be flushed to avoid losing an
                     // delete for the same record after its update.
 
-                    flushBuffer(tableId, updateBufferByTable.get(tableId).flush());
+                    final Buffer updateBuffer = updateBufferByTable.get(tableId);
+                    flushBuffer(tableId, updateBuffer, updateBuffer.flush());
                 }
 
                 Buffer tableIdBuffer = resolveBuffer(deleteBufferByTable, tableId, sinkRecordDescriptor);
 
+                markBuffered();
                 List<SinkRecordDescriptor> toFlush = tableIdBuffer.add(sinkRecordDescriptor);
 
-                flushBuffer(tableId, toFlush);
+                flushBuffer(tableId, tableIdBuffer, toFlush);
+                applyBufferMaxBytes();
             }
             else {
 
@@ -139,26 +418,19 @@ public void execute(Collection<SinkRecord> records) {
                     // When an insert arrives, delete buffer must be flushed to avoid losing an insert for the same record after its deletion.
                     // this because at the end we will always flush inserts before deletes.
 
-                    flushBuffer(tableId, deleteBufferByTable.get(tableId).flush());
+                    final Buffer deleteBuffer = deleteBufferByTable.get(tableId);
+                    flushBuffer(tableId, deleteBuffer, deleteBuffer.flush());
                 }
 
-                Stopwatch updateBufferStopwatch = Stopwatch.reusable();
-                updateBufferStopwatch.start();
-
                 Buffer tableIdBuffer = resolveBuffer(updateBufferByTable, tableId, sinkRecordDescriptor);
 
+                markBuffered();
                 List<SinkRecordDescriptor> toFlush = tableIdBuffer.add(sinkRecordDescriptor);
-                updateBufferStopwatch.stop();
-
-                LOGGER.trace("[PERF] Update buffer execution time {}", updateBufferStopwatch.durations());
-                flushBuffer(tableId, toFlush);
+                flushBuffer(tableId, tableIdBuffer, toFlush);
+                applyBufferMaxBytes();
             }
 
         }
-
-        flushBuffers(updateBufferByTable);
-
-        flushBuffers(deleteBufferByTable);
     }
 
     private void validate(SinkRecord record) {
@@ -175,8 +447,15 @@ private static boolean isSchemaChange(SinkRecord record) {
                 && record.valueSchema().name().contains(SCHEMA_CHANGE_VALUE);
     }
 
+    private boolean isReduced(SinkRecordDescriptor sinkRecordDescriptor) {
+        return config.isUseReductionBuffer() && !sinkRecordDescriptor.getKeyFieldNames().isEmpty();
+    }
+
     private Buffer resolveBuffer(Map<TableId, Buffer> bufferMap, TableId tableId, SinkRecordDescriptor sinkRecordDescriptor) {
-        if (config.isUseReductionBuffer() && !sinkRecordDescriptor.getKeyFieldNames().isEmpty()) {
+        if (isReduced(sinkRecordDescriptor) && config.getReductionBufferSpillBytes() > 0) {
+            return bufferMap.computeIfAbsent(tableId, k -> new SpillingReducedRecordBuffer(config, tableId.toString(), this::buildRecordSinkDescriptor));
+        }
+        else if (isReduced(sinkRecordDescriptor)) {
             return bufferMap.computeIfAbsent(tableId, k -> new ReducedRecordBuffer(config));
         }
         else {
@@ -194,6 +473,7 @@ private SinkRecordDescriptor buildRecordSinkDescriptor(SinkRecord record) {
                     .withFieldFilters(config.getFieldsFilter())
                     .withSinkRecord(record)
                     .withDialect(dialect)
+                    .withShapeCache(shapeCache)
                     .build();
         }
         catch (Exception e) {
@@ -204,31 +484,135 @@ private SinkRecordDescriptor buildRecordSinkDescriptor(SinkRecord record) {
 
     private void flushBuffers(Map<TableId, Buffer> bufferByTable) {
 
-        bufferByTable.forEach((tableId, recordBuffer) -> flushBuffer(tableId, recordBuffer.flush()));
+        bufferByTable.forEach((tableId, recordBuffer) -> flushBuffer(tableId, recordBuffer, recordBuffer.flush()));
+    }
+
+    private void flushBuffer(TableId tableId, Buffer buffer, List<SinkRecordDescriptor> toFlush) {
+        flushBuffer(tableId, toFlush);
+        while (buffer.hasPendingFlush()) {
+            // The next part is read while the previous one is written, but no more than one part is queued
+            final List<SinkRecordDescriptor> next = buffer.flush();
+            getFlushWorker(tableId).awaitCompletion();
+            flushBuffer(tableId, next);
+        }
     }
 
     private void flushBuffer(TableId tableId, List<SinkRecordDescriptor> toFlush) {
+        // A reduction buffer returns its deletes followed by its other changes, and a record buffer its records
+        // grouped by schema, each run written with their own statement
+        int start = 0;
+        for (int i = 1; i <= toFlush.size(); i++) {
+            if (i == toFlush.size() || !isSameStatement(toFlush.get(start), toFlush.get(i))) {
+                final List<SinkRecordDescriptor> batch = toFlush.subList(start, i);
+                getFlushWorker(tableId).submit((session, recordWriter) -> prepareBuffer(session, recordWriter, tableId, batch));
+                start = i;
+            }
+        }
+    }
+
+    private static boolean isSameStatement(SinkRecordDescriptor record, SinkRecordDescriptor other) {
+        return record.isDelete() == other.isDelete()
+                && (record.getKeySchema() == other.getKeySchema() || Objects.equals(record.getKeySchema(), other.getKeySchema()))
+                && (record.getValueSchema() == other.getValueSchema() || Objects.equals(record.getValueSchema(), other.getValueSchema()));
+    }
+
+    private RecordWriter.PreparedWrite prepareBuffer(StatelessSession session, RecordWriter recordWriter, TableId tableId,
+                                                     List<SinkRecordDescriptor> toFlush) {
+
+        if (toFlush.isEmpty()) {
+            return () -> {
+            };
+        }
+
+        LOGGER.debug("Flushing records in JDBC Writer for table: {}", tableId.getTableName());
+        try {
+            final long startNanos = System.nanoTime();
+            final TableDescriptor table = checkAndApplyTableChangesIfNeeded(session, tableId, toFlush.get(0));
+            metrics.recordTableChanges(System.nanoTime() - startNanos);
+            final CompiledStatement statement = getCompiledStatement(table, toFlush.get(0));
+            final BulkWriter bulkWriter = dialect.getBulkWriter(table, toFlush.get(0)).orElse(null);
+            final RecordWriter.PreparedWrite write = recordWriter.prepare(toFlush, statement, bulkWriter);
+            return new RecordWriter.PreparedWrite() {
+                @Override
+                public void commit() {
+                    try {
+                        final long startNanos = System.nanoTime();
+                        // A retry writes the batch again with the descriptors and statement already built for it
+                        retryPolicy.run(tableId.getTableName(), write::commit, () -> recordWriter.write(toFlush, statement, bulkWriter),
+                                recordWriter::isTransientFailure);
+                        metrics.recordBatch(tableId, toFlush.size(), System.nanoTime() - startNanos);
+                    }
+                    catch (Exception e) {
+                        // The table may have changed underneath us, make sure the next attempt re-reads it
+                        tableDescriptorCache.invalidate(tableId);
+                        final ErrantRecordReporter reporter = errantRecordReporter;
+                        if (!config.isBatchBisectOnFailure() || reporter == null || !recordWriter.isRecordFailure(e)) {
+                            throw new ConnectException("Failed to process a sink record", e);
+                        }
+                        writeIsolatingFailures(recordWriter, reporter, tableId, toFlush, statement, e);
+                    }
+                    commitListener.accept(toFlush);
+                }
+
+                @Override
+                public void close() {
+                    write.close();
+                }
+            };
+        }
+        catch (Exception e) {
+            // The table may have changed underneath us, make sure the next attempt re-reads it
+            tableDescriptorCache.invalidate(tableId);
+            throw new ConnectException("Failed to process a sink record", e);
+        }
+    }
 
-        Stopwatch flushBufferStopwatch = Stopwatch.reusable();
-        Stopwatch tableChangesStopwatch = Stopwatch.reusable();
-        if (!toFlush.isEmpty()) {
-            LOGGER.debug("Flushing records in JDBC Writer for table: {}", tableId.getTableName());
+    private void writeIsolatingFailures(RecordWriter recordWriter, ErrantRecordReporter reporter, TableId tableId, List<SinkRecordDescriptor> records,
+                                        CompiledStatement statement, Exception failure) {
+        LOGGER.warn("Failed to write a batch of {} records to table '{}', isolating the failed records: {}", records.size(), tableId.getTableName(),
+                failure.getMessage());
+        final int[] failed = { 0 };
+        try {
+            recordWriter.writeIsolatingFailures(records, statement, failure, (record, recordFailure) -> {
+                LOGGER.warn("Reporting record at offset {} of topic '{}' to the dead letter queue: {}", record.getOffset(), record.getTopicName(),
+                        recordFailure.getMessage());
+                reporter.report(record.getRecord(), recordFailure);
+                failed[0]++;
+            });
+        }
+        catch (Exception e) {
+            if (e != failure) {
+                e.addSuppressed(failure);
+            }
+            throw new ConnectException("Failed to process a sink record", e);
+        }
+        LOGGER.info("Wrote {} records of the failed batch to table '{}', reported {} failed records.", records.size() - failed[0],
+                tableId.getTableName(), failed[0]);
+    }
+
+    private FlushWorker getFlushWorker(TableId tableId) {
+        // All operations for a given table are always routed to the same worker to retain their order
+        return flushWorkers.get(Math.floorMod(tableId.hashCode(), flushWorkers.size()));
+    }
+
+    private void awaitFlushes() {
+        RuntimeException failure = null;
+        for (FlushWorker worker : flushWorkers) {
             try {
-                tableChangesStopwatch.start();
-                final TableDescriptor table = checkAndApplyTableChangesIfNeeded(tableId, toFlush.get(0));
-                tableChangesStopwatch.stop();
-                String sqlStatement = getSqlStatement(table, toFlush.get(0));
-                flushBufferStopwatch.start();
-                recordWriter.write(toFlush, sqlStatement);
-                flushBufferStopwatch.stop();
-
-                LOGGER.trace("[PERF] Flush buffer execution time {}", flushBufferStopwatch.durations());
-                LOGGER.trace("[PERF] Table changes execution time {}", tableChangesStopwatch.durations());
+                worker.awaitCompletion();
             }
-            catch (Exception e) {
-                throw new ConnectException("Failed to process a sink record", e);
+            catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+                else {
+                    failure.addSuppressed(e);
+                }
             }
         }
+        if (failure != null) {
+            throw failure;
+        }
     }
 
     private Optional<TableId> getTableId(SinkRecord record) {
@@ -243,26 +627,38 @@ private Optional<TableId> getTableId(SinkRecord record) {
 
     @Override
     public void close() {
-        if (session != null && session.isOpen()) {
-            LOGGER.info("Closing session.");
-            session.close();
+        LOGGER.info("Table metadata cache hits: {}, misses: {}.", tableDescriptorCache.getHits(), tableDescriptorCache.getMisses());
+        LOGGER.info("Statement cache hits: {}, misses: {}.", statementCache.getHits(), statementCache.getMisses());
+        LOGGER.info("Record shape cache hits: {}, misses: {}.", shapeCache.getHits(), shapeCache.getMisses());
+        discardBuffers();
+        for (FlushWorker worker : flushWorkers) {
+            worker.close();
         }
-        else {
-            LOGGER.info("Session already closed.");
+    }
+
+    private TableDescriptor checkAndApplyTableChangesIfNeeded(StatelessSession session, TableId tableId, SinkRecordDescriptor descriptor) throws SQLException {
+        final TableDescriptor cachedTable = tableDescriptorCache.get(tableId, descriptor);
+        if (cachedTable != null) {
+            return cachedTable;
         }
+
+        final TableDescriptor table = resolveTableChanges(session, tableId, descriptor);
+        tableDescriptorCache.put(tableId, table, descriptor);
+        return table;
     }
 
-    private TableDescriptor checkAndApplyTableChangesIfNeeded(TableId tableId, SinkRecordDescriptor descriptor) throws SQLException {
-        if (!hasTable(tableId)) {
+    private TableDescriptor resolveTableChanges(StatelessSession session, TableId tableId, SinkRecordDescriptor descriptor) throws SQLException {
+        final TableDescriptor existingTable = readTableIfExists(session, tableId);
+        if (existingTable == null) {
             // Table does not exist, lets attempt to create it.
             try {
-                return createTable(tableId, descriptor);
+                return createTable(session, tableId, descriptor);
             }
             catch (SQLException ce) {
                 // It's possible the table may have been created in the interim, so try to alter.
                 LOGGER.warn("Table creation failed for '{}', attempting to alter the table", tableId.toFullIdentiferString(), ce);
                 try {
-                    return alterTableIfNeeded(tableId, descriptor);
+                    return alterTableIfNeeded(session, tableId, descriptor);
                 }
                 catch (SQLException ae) {
                     // The alter failed, hard stop.
@@ -274,7 +670,8 @@ private TableDescriptor checkAndApplyTableChangesIfNeeded(TableId tableId, SinkR
         else {
             // Table exists, lets attempt to alter it if necessary.
             try {
-                return alterTableIfNeeded(tableId, descriptor);
+                LOGGER.debug("Attempting to alter table '{}'.", tableId.toFullIdentiferString());
+                return alterTableIfNeeded(session, tableId, existingTable, descriptor);
             }
             catch (SQLException ae) {
                 LOGGER.error("Failed to alter the table '{}'.", tableId.toFullIdentiferString(), ae);
@@ -283,15 +680,19 @@ private TableDescriptor checkAndApplyTableChangesIfNeeded(TableId tableId, SinkR
         }
     }
 
-    private boolean hasTable(TableId tableId) {
+    private boolean hasTable(StatelessSession session, TableId tableId) {
         return session.doReturningWork((connection) -> dialect.tableExists(connection, tableId));
     }
 
-    private TableDescriptor readTable(TableId tableId) {
+    private TableDescriptor readTable(StatelessSession session, TableId tableId) {
         return session.doReturningWork((connection) -> dialect.readTable(connection, tableId));
     }
 
-    private TableDescriptor createTable(TableId tableId, SinkRecordDescriptor record) throws SQLException {
+    private TableDescriptor readTableIfExists(StatelessSession session, TableId tableId) {
+        return session.doReturningWork((connection) -> dialect.tableExists(connection, tableId) ? dialect.readTable(connection, tableId) : null);
+    }
+
+    private TableDescriptor createTable(StatelessSession session, TableId tableId, SinkRecordDescriptor record) throws SQLException {
         LOGGER.debug("Attempting to create table '{}'.", tableId.toFullIdentiferString());
 
         if (NONE.equals(config.getSchemaEvolutionMode())) {
@@ -311,20 +712,23 @@ private TableDescriptor createTable(TableId tableId, SinkRecordDescriptor record
             throw e;
         }
 
-        return readTable(tableId);
+        return readTable(session, tableId);
     }
 
-    private TableDescriptor alterTableIfNeeded(TableId tableId, SinkRecordDescriptor record) throws SQLException {
+    private TableDescriptor alterTableIfNeeded(StatelessSession session, TableId tableId, SinkRecordDescriptor record) throws SQLException {
         LOGGER.debug("Attempting to alter table '{}'.", tableId.toFullIdentiferString());
 
-        if (!hasTable(tableId)) {
+        if (!hasTable(session, tableId)) {
             LOGGER.error("Table '{}' does not exist and cannot be altered.", tableId.toFullIdentiferString());
             throw new SQLException("Could not find table: " + tableId.toFullIdentiferString());
         }
 
         // Resolve table metadata from the database
-        final TableDescriptor table = readTable(tableId);
+        return alterTableIfNeeded(session, tableId, readTable(session, tableId), record);
+    }
 
+    private TableDescriptor alterTableIfNeeded(StatelessSession session, TableId tableId, TableDescriptor table, SinkRecordDescriptor record)
+            throws SQLException {
         // Delegating to dialect to deal with database case sensitivity.
         Set<String> missingFields = dialect.resolveMissingFields(record, table);
         if (missingFields.isEmpty()) {
@@ -360,7 +764,42 @@ private TableDescriptor alterTableIfNeeded(TableId tableId, SinkRecordDescriptor
             throw e;
         }
 
-        return readTable(tableId);
+        return readTable(session, tableId);
+    }
+
+    private CompiledStatement getCompiledStatement(TableDescriptor table, SinkRecordDescriptor record) {
+        return statementCache.get(table, record, config.getInsertMode(), () -> compileStatement(table, record));
+    }
+
+    private CompiledStatement compileStatement(TableDescriptor table, SinkRecordDescriptor record) {
+        final String sql = getSqlStatement(table, record);
+        final BindPlan bindPlan = BindPlan.of(config, record);
+
+        final int maxRows = getMaxRowsPerStatement(record, bindPlan);
+        if (maxRows > 1) {
+            switch (config.getInsertMode()) {
+                case INSERT:
+                    return CompiledStatement.multiRow(sql, bindPlan, maxRows, false,
+                            (first, rows) -> dialect.getMultiRowInsertStatement(table, first, rows));
+                case UPSERT:
+                    return CompiledStatement.multiRow(sql, bindPlan, maxRows, true,
+                            (first, rows) -> dialect.getMultiRowUpsertStatement(table, first, rows));
+                default:
+                    break;
+            }
+        }
+        return new CompiledStatement(sql, bindPlan);
+    }
+
+    private int getMaxRowsPerStatement(SinkRecordDescriptor record, BindPlan bindPlan) {
+        if (!config.isUseMultiRowStatements() || record.isDelete() || bindPlan.size() == 0) {
+            return 1;
+        }
+        // Multi-row statements repeat the bindings of the first record, which is only valid when they do not depend on the values
+        if (StatementCache.hasValueDependentQueryBinding(record)) {
+            return 1;
+        }
+        return dialect.getMaxRowsPerStatement(bindPlan.size());
     }
 
     private String getSqlStatement(TableDescriptor table, SinkRecordDescriptor record) {
@@ -385,7 +824,7 @@ private String getSqlStatement(TableDescriptor table, SinkRecordDescriptor recor
         throw new DataException(String.format("Unable to get SQL statement for %s", record));
     }
 
-    private void writeTruncate(String sql) throws SQLException {
+    private void writeTruncate(StatelessSession session, String sql) throws SQLException {
 
         final Transaction transaction = session.beginTransaction();
         try {
@@ -70,6 +70,23 @@ public class JdbcSinkConnectorConfig {
     public static final String FIELD_INCLUDE_LIST = "field.include.list";
     public static final String FIELD_EXCLUDE_LIST = "field.exclude.list";
     public static final String USE_REDUCTION_BUFFER = "use.reduction.buffer";
+    public static final String TABLE_METADATA_CACHE_TTL_MS = "table.metadata.cache.ttl.ms";
+    public static final String FLUSH_PARALLELISM = "flush.parallelism";
+    public static final String POSTGRES_COPY_INSERT = "dialect.postgres.copy.insert";
+    public static final String POSTGRES_STAGING_UPSERT = "dialect.postgres.staging.upsert";
+    public static final String USE_MULTI_ROW_STATEMENTS = "use.multi.row.statements";
+    public static final String SQLSERVER_BULK_COPY = "dialect.sqlserver.bulk.copy";
+    public static final String ORACLE_ARRAY_MERGE = "dialect.oracle.array.merge";
+    public static final String MYSQL_LOAD_DATA = "dialect.mysql.load.data";
+    public static final String FLUSH_INTERVAL_MS = "flush.interval.ms";
+    public static final String BATCH_MAX_BYTES = "batch.max.bytes";
+    public static final String BUFFER_MAX_BYTES = "buffer.max.bytes";
+    public static final String REDUCTION_BUFFER_SPILL_BYTES = "reduction.buffer.spill.bytes";
+    public static final String REDUCTION_BUFFER_SPILL_DIRECTORY = "reduction.buffer.spill.directory";
+    public static final String FLUSH_ASYNC = "flush.async";
+    public static final String BATCH_BISECT_ON_FAILURE = "batch.bisect.on.failure";
+    public static final String FLUSH_MAX_RETRIES = "flush.max.retries";
+    public static final String FLUSH_RETRY_BACKOFF_MS = "flush.retry.backoff.ms";
 
     // todo add support for the ValueConverter contract
 
@@ -319,6 +336,215 @@ public class JdbcSinkConnectorConfig {
             .withDescription(
                     "A reduction buffer consolidates the execution of SQL statements by primary key to reduce the SQL load on the target database. When set to false (the default), each incoming event is applied as a logical SQL change. When set to true, incoming events that refer to the same row will be reduced to a single logical change based on the most recent row state.");
 
+    public static final Field TABLE_METADATA_CACHE_TTL_MS_FIELD = Field.create(TABLE_METADATA_CACHE_TTL_MS)
+            .withDisplayName("Table metadata cache time-to-live in milliseconds")
+            .withType(Type.LONG)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 5))
+            .withWidth(ConfigDef.Width.SHORT)
+            .withImportance(ConfigDef.Importance.LOW)
+            .withDefault(-1L)
+            .withDescription("Controls how long the relational model of a destination table is cached by the connector between flushes. " +
+                    "A negative value (the default) caches the table until an incoming event has fields that do not map to the cached columns " +
+                    "or a write to the table fails. A value of 0 disables the cache, reading the table metadata on every flush.");
+
+    public static final Field FLUSH_PARALLELISM_FIELD = Field.create(FLUSH_PARALLELISM)
+            .withDisplayName("Number of tables flushed concurrently")
+            .withType(Type.INT)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 6))
+            .withWidth(ConfigDef.Width.SHORT)
+            .withImportance(ConfigDef.Importance.LOW)
+            .withDefault(1)
+            .withValidation(Field::isPositiveInteger)
+            .withDescription("The maximum number of tables whose buffered changes are written concurrently. " +
+                    "Each table is always written by the same worker using its own connection, so the order of changes within a table is retained. " +
+                    "The default of 1 writes all tables sequentially on the task thread. " +
+                    "The connection pool must allow at least this many connections.");
+
+    public static final Field POSTGRES_COPY_INSERT_FIELD = Field.create(POSTGRES_COPY_INSERT)
+            .withDisplayName("Use COPY for inserts into PostgreSQL")
+            .withType(Type.BOOLEAN)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 7))
+            .withWidth(ConfigDef.Width.SHORT)
+            .withImportance(ConfigDef.Importance.LOW)
+            .withDefault(false)
+            .withDescription("When set to true and insert.mode is insert, batches written to PostgreSQL are streamed using COPY in binary format " +
+                    "rather than batched INSERT statements. Batches with values whose column types cannot be encoded in the binary format " +
+                    "are written using INSERT statements.");
+
+    public static final Field POSTGRES_STAGING_UPSERT_FIELD = Field.create(POSTGRES_STAGING_UPSERT)
+            .withDisplayName("Use a staging table for upserts and deletes in PostgreSQL")
+            .withType(Type.BOOLEAN)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 8))
+            .withWidth(ConfigDef.Width.SHORT)
+            .withImportance(ConfigDef.Importance.LOW)
+            .withDefault(false)
+            .withDescription("When set to true, batches of upserts (insert.mode is upsert) and deletes written to PostgreSQL are copied " +
+                    "into a temporary staging table and applied with a single INSERT ... ON CONFLICT or DELETE ... USING statement. " +
+                    "When a key occurs several times in a batch, only its most recent change is applied. " +
+                    "Batches with values whose column types cannot be encoded in the COPY binary format are written using individual statements.");
+
+    public static final Field USE_MULTI_ROW_STATEMENTS_FIELD = Field.create(USE_MULTI_ROW_STATEMENTS)
+            .withDisplayName("Specifies whether to write several rows per insert or upsert statement.")
+            .withType(Type.BOOLEAN)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 9))
+            .withWidth(ConfigDef.Width.SHORT)
+            .withImportance(ConfigDef.Importance.LOW)
+            .withDefault(false)
+            .withDescription("When set to true, inserts and upserts are written using statements that each apply several rows, " +
+                    "such as INSERT ... VALUES (...),(...) or MERGE using a multi-row source, for dialects whose JDBC driver does not rewrite batches itself " +
+                    "(SQL Server, Db2 and Oracle). The number of rows per statement is limited by the number of parameters the database allows per statement. " +
+                    "Records with column types whose binding depends on the value are written one row per statement.");
+
+    public static final Field SQLSERVER_BULK_COPY_FIELD = Field.create(SQLSERVER_BULK_COPY)
+            .withDisplayName("Use bulk copy for SQL Server")
+            .withType(Type.BOOLEAN)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 10))
+            .withWidth(ConfigDef.Width.SHORT)
+            .withImportance(ConfigDef.Importance.LOW)
+            .withDefault(false)
+            .withDescription("When set to true, batches written to SQL Server use the driver's bulk copy API. " +
+                    "Inserts are bulk copied into the destination table, retaining identity values when " + SQLSERVER_IDENTITY_INSERT + " is enabled. " +
+                    "Upserts and deletes are bulk copied into a temporary table and applied with a single MERGE or DELETE statement. " +
+                    "Check and foreign key constraints are checked and insert triggers are fired, as for individual statements. " +
+                    "Batches with values whose column types cannot be bulk copied are written using individual statements.");
+
+    public static final Field ORACLE_ARRAY_MERGE_FIELD = Field.create(ORACLE_ARRAY_MERGE)
+            .withDisplayName("Use array-bound merges for Oracle")
+            .withType(Type.BOOLEAN)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 11))
+            .withWidth(ConfigDef.Width.SHORT)
+            .withImportance(ConfigDef.Importance.LOW)
+            .withDefault(false)
+            .withDescription("When set to true, upserts written to Oracle bind the values of each column as a collection " +
+                    "and apply the whole batch with a single PL/SQL FORALL MERGE call rather than executing the MERGE once per record. " +
+                    "Batches with values that cannot be bound as collections are written using individual statements.");
+
+    public static final Field MYSQL_LOAD_DATA_FIELD = Field.create(MYSQL_LOAD_DATA)
+            .withDisplayName("Use LOAD DATA for MySQL and MariaDB inserts")
+            .withType(Type.BOOLEAN)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 12))
+            .withWidth(ConfigDef.Width.SHORT)
+            .withImportance(ConfigDef.Importance.LOW)
+            .withDefault(false)
+            .withDescription("When set to true and " + INSERT_MODE + " is 'insert', batches written to MySQL or MariaDB are streamed " +
+                    "from memory using LOAD DATA LOCAL INFILE rather than executing an INSERT per record. " +
+                    "Local infile must be allowed by the server and the connection, e.g. allowLoadLocalInfile=true for MySQL Connector/J. " +
+                    "Batches with values that cannot be represented as text are written using individual statements.");
+
+    public static final Field FLUSH_INTERVAL_MS_FIELD = Field.create(FLUSH_INTERVAL_MS)
+            .withDisplayName("Maximum time changes are buffered in milliseconds")
+            .withType(Type.LONG)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 13))
+            .withWidth(ConfigDef.Width.SHORT)
+            .withImportance(ConfigDef.Importance.MEDIUM)
+            .withDefault(0L)
+            .withValidation(Field::isNonNegativeLong)
+            .withDescription("Controls how long changes may be buffered across consecutive polls before they are written. " +
+                    "A table's buffer is written as soon as it reaches " + BATCH_SIZE + " records, all buffers are written once the oldest " +
+                    "buffered change is older than this interval, and whenever Kafka Connect commits offsets. " +
+                    "Offsets are only committed for changes that have been written. " +
+                    "The default of 0 writes all buffered changes at the end of every poll.");
+
+    public static final Field BATCH_MAX_BYTES_FIELD = Field.create(BATCH_MAX_BYTES)
+            .withDisplayName("Maximum estimated size of a batch in bytes")
+            .withType(Type.LONG)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 14))
+            .withWidth(ConfigDef.Width.SHORT)
+            .withImportance(ConfigDef.Importance.MEDIUM)
+            .withDefault(0L)
+            .withValidation(Field::isNonNegativeLong)
+            .withDescription("The estimated size of the buffered changes of a table at which they are written, even if fewer than " +
+                    BATCH_SIZE + " changes are buffered. The size of a change is estimated from the schemas and values of its key and value. " +
+                    "The default of 0 only limits batches by " + BATCH_SIZE + ".");
+
+    public static final Field BUFFER_MAX_BYTES_FIELD = Field.create(BUFFER_MAX_BYTES)
+            .withDisplayName("Maximum estimated size of all buffered changes in bytes")
+            .withType(Type.LONG)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 15))
+            .withWidth(ConfigDef.Width.SHORT)
+            .withImportance(ConfigDef.Importance.MEDIUM)
+            .withDefault(0L)
+            .withValidation(Field::isNonNegativeLong)
+            .withDescription("The estimated size of the changes buffered by a task across all tables at which every buffer is written. " +
+                    "No further changes are accepted until these writes complete, which bounds the memory used by the task. " +
+                    "The default of 0 disables this limit.");
+
+    public static final Field REDUCTION_BUFFER_SPILL_BYTES_FIELD = Field.create(REDUCTION_BUFFER_SPILL_BYTES)
+            .withDisplayName("Estimated size of the reduction buffer in memory at which changes are spilled to disk")
+            .withType(Type.LONG)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 16))
+            .withWidth(ConfigDef.Width.SHORT)
+            .withImportance(ConfigDef.Importance.LOW)
+            .withDefault(0L)
+            .withValidation(Field::isNonNegativeLong)
+            .withDescription("When " + USE_REDUCTION_BUFFER + " is true and this is greater than 0, the reduction buffer of a table " +
+                    "writes its changes to a file in " + REDUCTION_BUFFER_SPILL_DIRECTORY + " whenever their estimated size in memory " +
+                    "reaches this size, retaining only the position of the last change per primary key in memory. " +
+                    "This allows reducing up to " + BATCH_SIZE + " keys at a time without holding their changes in memory. " +
+                    "The reduced changes are read back and written in batches of at most this estimated size. " +
+                    "The default of 0 keeps all changes in memory.");
+
+    public static final Field REDUCTION_BUFFER_SPILL_DIRECTORY_FIELD = Field.create(REDUCTION_BUFFER_SPILL_DIRECTORY)
+            .withDisplayName("Directory of the reduction buffer spill files")
+            .withType(Type.STRING)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 17))
+            .withWidth(ConfigDef.Width.MEDIUM)
+            .withImportance(ConfigDef.Importance.LOW)
+            .withDescription("The directory in which reduction buffers create their spill files, see " + REDUCTION_BUFFER_SPILL_BYTES + ". " +
+                    "Spill files are deleted once their changes have been written. " +
+                    "Defaults to the temporary directory of the Kafka Connect worker.");
+
+    public static final Field FLUSH_ASYNC_FIELD = Field.create(FLUSH_ASYNC)
+            .withDisplayName("Commit flushed batches asynchronously")
+            .withType(Type.BOOLEAN)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 18))
+            .withWidth(ConfigDef.Width.SHORT)
+            .withImportance(ConfigDef.Importance.LOW)
+            .withDefault(false)
+            .withDescription("When enabled, each of the " + FLUSH_PARALLELISM + " workers writes its batches using two connections, " +
+                    "binding the next batch of its tables while the previous batch is committed, and the connector accepts further " +
+                    "records without waiting for the commit. The order of changes within a table is retained. " +
+                    "A failed write is reported when the next records are received, and offsets are only committed once all " +
+                    "changes up to them have been committed. The connection pool must allow twice as many connections as " + FLUSH_PARALLELISM + ".");
+
+    public static final Field BATCH_BISECT_ON_FAILURE_FIELD = Field.create(BATCH_BISECT_ON_FAILURE)
+            .withDisplayName("Isolate the records failing a batch")
+            .withType(Type.BOOLEAN)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 19))
+            .withWidth(ConfigDef.Width.SHORT)
+            .withImportance(ConfigDef.Importance.LOW)
+            .withDefault(false)
+            .withDescription("When enabled and the database rejects a batch because of the records it contains, the connector identifies " +
+                    "the failed records from the update counts reported by the driver or otherwise by splitting the batch in halves, " +
+                    "writes the remaining records and reports the failed records to the dead letter queue instead of failing the task. " +
+                    "Requires a dead letter queue, see errors.tolerance and errors.deadletterqueue.topic.name. " +
+                    "Connection failures and transaction rollbacks still fail the task.");
+
+    public static final Field FLUSH_MAX_RETRIES_FIELD = Field.create(FLUSH_MAX_RETRIES)
+            .withDisplayName("Maximum retries of a batch failing with a transient error")
+            .withType(Type.INT)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 20))
+            .withWidth(ConfigDef.Width.SHORT)
+            .withImportance(ConfigDef.Importance.LOW)
+            .withDefault(3)
+            .withValidation(Field::isNonNegativeInteger)
+            .withDescription("The number of times a batch is written again when it fails with a transient error, such as a deadlock, " +
+                    "a serialization failure, a lock timeout or a lost connection, as recognized by the database dialect. " +
+                    "The batch is retried in place with the statement already compiled for it, before the failure is reported. " +
+                    "A value of 0 disables retries.");
+
+    public static final Field FLUSH_RETRY_BACKOFF_MS_FIELD = Field.create(FLUSH_RETRY_BACKOFF_MS)
+            .withDisplayName("Initial backoff before retrying a batch, in milliseconds")
+            .withType(Type.LONG)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 21))
+            .withWidth(ConfigDef.Width.SHORT)
+            .withImportance(ConfigDef.Importance.LOW)
+            .withDefault(500L)
+            .withValidation(Field::isNonNegativeLong)
+            .withDescription("The time to wait before the first retry of a batch, see " + FLUSH_MAX_RETRIES + ". " +
+                    "The time doubles with every further retry, up to one minute, and is randomized by up to half " +
+                    "to avoid tasks retrying conflicting writes at the same time.");
+
     protected static final ConfigDefinition CONFIG_DEFINITION = ConfigDefinition.editor()
             .connector(
                     CONNECTION_URL_FIELD,
@@ -344,7 +570,24 @@ public class JdbcSinkConnectorConfig {
                     SQLSERVER_IDENTITY_INSERT_FIELD,
                     BATCH_SIZE_FIELD,
                     FIELD_INCLUDE_LIST_FIELD,
-                    FIELD_EXCLUDE_LIST_FIELD)
+                    FIELD_EXCLUDE_LIST_FIELD,
+                    TABLE_METADATA_CACHE_TTL_MS_FIELD,
+                    FLUSH_PARALLELISM_FIELD,
+                    POSTGRES_COPY_INSERT_FIELD,
+                    POSTGRES_STAGING_UPSERT_FIELD,
+                    USE_MULTI_ROW_STATEMENTS_FIELD,
+                    SQLSERVER_BULK_COPY_FIELD,
+                    ORACLE_ARRAY_MERGE_FIELD,
+                    MYSQL_LOAD_DATA_FIELD,
+                    FLUSH_INTERVAL_MS_FIELD,
+                    BATCH_MAX_BYTES_FIELD,
+                    BUFFER_MAX_BYTES_FIELD,
+                    REDUCTION_BUFFER_SPILL_BYTES_FIELD,
+                    REDUCTION_BUFFER_SPILL_DIRECTORY_FIELD,
+                    FLUSH_ASYNC_FIELD,
+                    BATCH_BISECT_ON_FAILURE_FIELD,
+                    FLUSH_MAX_RETRIES_FIELD,
+                    FLUSH_RETRY_BACKOFF_MS_FIELD)
             .create();
 
     /**
@@ -522,6 +765,24 @@ public String getValue() {
 
     private final boolean useReductionBuffer;
 
+    private final long tableMetadataCacheTtlMs;
+    private final int flushParallelism;
+    private final boolean postgresCopyInsert;
+    private final boolean postgresStagingUpsert;
+    private final boolean useMultiRowStatements;
+    private final boolean sqlServerBulkCopy;
+    private final boolean oracleArrayMerge;
+    private final boolean mysqlLoadData;
+    private final long flushIntervalMs;
+    private final long batchMaxBytes;
+    private final long bufferMaxBytes;
+    private final long reductionBufferSpillBytes;
+    private final String reductionBufferSpillDirectory;
+    private final boolean flushAsync;
+    private final boolean batchBisectOnFailure;
+    private final int flushMaxRetries;
+    private final long flushRetryBackoffMs;
+
     public JdbcSinkConnectorConfig(Map<String, String> props) {
         config = Configuration.from(props);
         this.insertMode = InsertMode.parse(config.getString(INSERT_MODE));
@@ -540,6 +801,23 @@ public JdbcSinkConnectorConfig(Map<String, String> props) {
         this.sqlServerIdentityInsert = config.getBoolean(SQLSERVER_IDENTITY_INSERT_FIELD);
         this.batchSize = config.getLong(BATCH_SIZE_FIELD);
         this.useReductionBuffer = config.getBoolean(USE_REDUCTION_BUFFER_FIELD);
+        this.tableMetadataCacheTtlMs = config.getLong(TABLE_METADATA_CACHE_TTL_MS_FIELD);
+        this.flushParallelism = config.getInteger(FLUSH_PARALLELISM_FIELD);
+        this.postgresCopyInsert = config.getBoolean(POSTGRES_COPY_INSERT_FIELD);
+        this.postgresStagingUpsert = config.getBoolean(POSTGRES_STAGING_UPSERT_FIELD);
+        this.useMultiRowStatements = config.getBoolean(USE_MULTI_ROW_STATEMENTS_FIELD);
+        this.sqlServerBulkCopy = config.getBoolean(SQLSERVER_BULK_COPY_FIELD);
+        this.oracleArrayMerge = config.getBoolean(ORACLE_ARRAY_MERGE_FIELD);
+        this.mysqlLoadData = config.getBoolean(MYSQL_LOAD_DATA_FIELD);
+        this.flushIntervalMs = config.getLong(FLUSH_INTERVAL_MS_FIELD);
+        this.batchMaxBytes = config.getLong(BATCH_MAX_BYTES_FIELD);
+        this.bufferMaxBytes = config.getLong(BUFFER_MAX_BYTES_FIELD);
+        this.reductionBufferSpillBytes = config.getLong(REDUCTION_BUFFER_SPILL_BYTES_FIELD);
+        this.reductionBufferSpillDirectory = config.getString(REDUCTION_BUFFER_SPILL_DIRECTORY_FIELD);
+        this.flushAsync = config.getBoolean(FLUSH_ASYNC_FIELD);
+        this.batchBisectOnFailure = config.getBoolean(BATCH_BISECT_ON_FAILURE_FIELD);
+        this.flushMaxRetries = config.getInteger(FLUSH_MAX_RETRIES_FIELD);
+        this.flushRetryBackoffMs = config.getLong(FLUSH_RETRY_BACKOFF_MS_FIELD);
 
         String fieldExcludeList = config.getString(FIELD_EXCLUDE_LIST);
         String fieldIncludeList = config.getString(FIELD_INCLUDE_LIST);
@@ -610,6 +888,38 @@ public boolean isSqlServerIdentityInsert() {
         return sqlServerIdentityInsert;
     }
 
+    public boolean isSqlServerBulkCopy() {
+        return sqlServerBulkCopy;
+    }
+
+    public boolean isOracleArrayMerge() {
+        return oracleArrayMerge;
+    }
+
+    public boolean isMySqlLoadData() {
+        return mysqlLoadData;
+    }
+
+    public long getFlushIntervalMs() {
+        return flushIntervalMs;
+    }
+
+    public long getBatchMaxBytes() {
+        return batchMaxBytes;
+    }
+
+    public long getBufferMaxBytes() {
+        return bufferMaxBytes;
+    }
+
+    public long getReductionBufferSpillBytes() {
+        return reductionBufferSpillBytes;
+    }
+
+    public String getReductionBufferSpillDirectory() {
+        return reductionBufferSpillDirectory;
+    }
+
     public long getBatchSize() {
         return batchSize;
     }
@@ -618,6 +928,34 @@ public boolean isUseReductionBuffer() {
         return useReductionBuffer;
     }
 
+    public boolean isUseMultiRowStatements() {
+        return useMultiRowStatements;
+    }
+
+    public long getTableMetadataCacheTtlMs() {
+        return tableMetadataCacheTtlMs;
+    }
+
+    public int getFlushParallelism() {
+        return flushParallelism;
+    }
+
+    public boolean isFlushAsync() {
+        return flushAsync;
+    }
+
+    public boolean isBatchBisectOnFailure() {
+        return batchBisectOnFailure;
+    }
+
+    public int getFlushMaxRetries() {
+        return flushMaxRetries;
+    }
+
+    public long getFlushRetryBackoffMs() {
+        return flushRetryBackoffMs;
+    }
+
     // public Set<String> getDataTypeMapping() {
     // return dataTypeMapping;
     // }
@@ -641,6 +979,14 @@ public String getPostgresPostgisSchema() {
         return postgresPostgisSchema;
     }
 
+    public boolean isPostgresCopyInsert() {
+        return postgresCopyInsert;
+    }
+
+    public boolean isPostgresStagingUpsert() {
+        return postgresStagingUpsert;
+    }
+
     /** makes {@link org.hibernate.cfg.Configuration} from connector config
      *
      * @return {@link org.hibernate.cfg.Configuration}
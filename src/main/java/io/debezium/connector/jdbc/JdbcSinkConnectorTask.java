@@ -6,7 +6,7 @@
 package io.debezium.connector.jdbc;
 
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
@@ -14,19 +14,16 @@
 import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.connect.errors.ConnectException;
-import org.apache.kafka.connect.runtime.InternalSinkRecord;
+import org.apache.kafka.connect.sink.ErrantRecordReporter;
 import org.apache.kafka.connect.sink.SinkRecord;
 import org.apache.kafka.connect.sink.SinkTask;
 import org.hibernate.SessionFactory;
-import org.hibernate.StatelessSession;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.debezium.connector.jdbc.dialect.DatabaseDialect;
 import io.debezium.connector.jdbc.dialect.DatabaseDialectResolver;
-import io.debezium.pipeline.sink.spi.ChangeEventSink;
-import io.debezium.util.Stopwatch;
-import io.debezium.util.Strings;
+import io.debezium.connector.jdbc.metrics.JdbcSinkTaskMetrics;
 
 /**
  * The main task executing streaming from sink connector.
@@ -47,8 +44,9 @@ private enum State {
     private final AtomicReference<State> state = new AtomicReference<>(State.STOPPED);
     private final ReentrantLock stateLock = new ReentrantLock();
 
-    private ChangeEventSink changeEventSink;
-    private final Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+    private JdbcChangeEventSink changeEventSink;
+    private final OffsetTracker offsetTracker = new OffsetTracker();
+    private JdbcSinkTaskMetrics metrics;
     private Throwable previousPutException;
 
     @Override
@@ -73,24 +71,39 @@ public void start(Map<String, String> props) {
             config.validate();
 
             sessionFactory = config.getHibernateConfiguration().buildSessionFactory();
-            StatelessSession session = sessionFactory.openStatelessSession();
             DatabaseDialect databaseDialect = DatabaseDialectResolver.resolve(config, sessionFactory);
             QueryBinderResolver queryBinderResolver = new QueryBinderResolver();
-            RecordWriter recordWriter = new RecordWriter(session, queryBinderResolver, config, databaseDialect);
 
-            changeEventSink = new JdbcChangeEventSink(config, session, databaseDialect, recordWriter);
+            final JdbcSinkTaskMetrics taskMetrics = new JdbcSinkTaskMetrics();
+            start(new JdbcChangeEventSink(config, sessionFactory, databaseDialect, queryBinderResolver, taskMetrics), taskMetrics,
+                    props.getOrDefault("name", JdbcSinkConnector.class.getSimpleName()));
         }
         finally {
             stateLock.unlock();
         }
     }
 
+    /**
+     * Starts the task writing the records using the given sink.
+     *
+     * @param changeEventSink the sink, should not be {@code null}
+     * @param metrics the metrics the sink records its activity in, should not be {@code null}
+     * @param connectorName the name of the connector the metrics are registered for
+     */
+    void start(JdbcChangeEventSink changeEventSink, JdbcSinkTaskMetrics metrics, String connectorName) {
+        this.changeEventSink = changeEventSink;
+        this.metrics = metrics;
+        changeEventSink.setCommitListener(this::markProcessed);
+        changeEventSink.setErrantRecordReporter(getErrantRecordReporter());
+
+        metrics.setOffsetLag(offsetTracker::getTotalLag);
+        metrics.setRetries(changeEventSink::getRetryCount, changeEventSink::getRetryTimeMs);
+        metrics.register(connectorName);
+    }
+
     @Override
     public void put(Collection<SinkRecord> records) {
-        Stopwatch putStopWatch = Stopwatch.reusable();
-        Stopwatch executeStopWatch = Stopwatch.reusable();
-        Stopwatch markProcessedStopWatch = Stopwatch.reusable();
-        putStopWatch.start();
+        final long startNanos = System.nanoTime();
         if (previousPutException != null) {
             LOGGER.error("JDBC sink connector failure", previousPutException);
             throw new ConnectException("JDBC sink connector failure", previousPutException);
@@ -99,27 +112,21 @@ public void put(Collection<SinkRecord> records) {
         LOGGER.debug("Received {} changes.", records.size());
 
         try {
-            executeStopWatch.start();
+            records.forEach(offsetTracker::received);
             changeEventSink.execute(records);
-            executeStopWatch.stop();
-            markProcessedStopWatch.start();
-            records.forEach(this::markProcessed);
-            markProcessedStopWatch.stop();
+            if (!changeEventSink.hasBufferedRecords()) {
+                offsetTracker.committedAllReceived();
+            }
+            metrics.recordBufferedBytes(changeEventSink.getBufferedBytes());
         }
         catch (Throwable throwable) {
 
-            // Capture failure
+            // Capture failure, the committed offsets remain at the first record not written
             LOGGER.error("Failed to process record: {}", throwable.getMessage(), throwable);
             previousPutException = throwable;
-
-            // Stash all records
-            records.forEach(this::markNotProcessed);
         }
 
-        putStopWatch.stop();
-        LOGGER.trace("[PERF] Total put execution time {}", putStopWatch.durations());
-        LOGGER.trace("[PERF] Sink execute execution time {}", executeStopWatch.durations());
-        LOGGER.trace("[PERF] Mark processed execution time {}", markProcessedStopWatch.durations());
+        metrics.recordPut(records.size(), System.nanoTime() - startNanos);
     }
 
     @Override
@@ -133,18 +140,30 @@ public void open(Collection<TopicPartition> partitions) {
 
     @Override
     public void close(Collection<TopicPartition> partitions) {
-        for (TopicPartition partition : partitions) {
-            if (offsets.containsKey(partition)) {
+        if (LOGGER.isTraceEnabled()) {
+            for (TopicPartition partition : partitions) {
                 LOGGER.trace("Requested close TopicPartition request for '{}'", partition);
-                offsets.remove(partition);
             }
         }
+        offsetTracker.remove(partitions);
     }
 
     @Override
     public Map<TopicPartition, OffsetAndMetadata> preCommit(Map<TopicPartition, OffsetAndMetadata> currentOffsets) {
+        if (changeEventSink != null && previousPutException == null && changeEventSink.hasBufferedRecords()) {
+            try {
+                changeEventSink.flush();
+                offsetTracker.committedAllReceived();
+            }
+            catch (Throwable throwable) {
+                LOGGER.error("Failed to flush buffered records: {}", throwable.getMessage(), throwable);
+                previousPutException = throwable;
+            }
+        }
+
         // Flush only up to the records processed by this sink
-        LOGGER.debug("Flushing offsets: {}", offsets);
+        final Map<TopicPartition, OffsetAndMetadata> offsets = offsetTracker.getCommittedOffsets();
+        LOGGER.debug("Flushing offsets: {}, lag: {}", offsets, offsetTracker.getLag());
         flush(offsets);
         return offsets;
     }
@@ -178,96 +197,36 @@ public void stop() {
             if (changeEventSink != null) {
                 changeEventSink = null;
             }
+            if (metrics != null) {
+                metrics.unregister();
+                metrics = null;
+            }
             stateLock.unlock();
         }
     }
 
-    /**
-     * Marks a sink record as processed.
-     *
-     * @param record sink record, should not be {@code null}
-     */
-    private void markProcessed(SinkRecord record) {
-        final String topicName = getOriginalTopicName(record);
-        if (Strings.isNullOrBlank(topicName)) {
-            return;
+    private ErrantRecordReporter getErrantRecordReporter() {
+        if (context == null) {
+            return null;
         }
-
-        LOGGER.trace("Marking processed record for topic {}", topicName);
-
-        final long kafkaOffset = getOriginalKafkaOffset(record);
-        final TopicPartition topicPartition = new TopicPartition(topicName, getOriginalKafkaPartition(record));
-        final OffsetAndMetadata offsetAndMetadata = new OffsetAndMetadata(kafkaOffset + 1L);
-
-        final OffsetAndMetadata existing = offsets.put(topicPartition, offsetAndMetadata);
-        if (existing == null) {
-            LOGGER.trace("Advanced topic {} to offset {}.", topicName, kafkaOffset);
+        try {
+            // Returns null when no dead letter queue is configured
+            return context.errantRecordReporter();
         }
-        else {
-            LOGGER.trace("Updated topic {} from offset {} to {}.", topicName, existing.offset(), kafkaOffset);
+        catch (NoSuchMethodError | NoClassDefFoundError e) {
+            // Kafka 2.5 or earlier
+            return null;
         }
     }
 
     /**
-     * Marks a single record as not processed.
+     * Marks the records of a committed batch as processed.
      *
-     * @param record sink record, should not be {@code null}
+     * @param records the records of the batch, should not be {@code null}
      */
-    private void markNotProcessed(SinkRecord record) {
-        // Sink connectors operate on batches and a batch could technically include a stream of records
-        // where the same topic/partition tuple exists in the batch at various points, before and after
-        // other topic/partition tuples. When marking a record as not processed, we are only interested
-        // in doing this if this tuple is not already in the map as a previous entry could have been
-        // added because an earlier record was either processed or marked as not processed since any
-        // remaining entries in the batch call this method on failures.
-        final String topicName = getOriginalTopicName(record);
-        final Integer kafkaPartition = getOriginalKafkaPartition(record);
-        final long kafkaOffset = getOriginalKafkaOffset(record);
-
-        final TopicPartition topicPartition = new TopicPartition(topicName, kafkaPartition);
-        if (!offsets.containsKey(topicPartition)) {
-            LOGGER.debug("Rewinding topic {} offset to {}.", topicName, kafkaOffset);
-            final OffsetAndMetadata offsetAndMetadata = new OffsetAndMetadata(kafkaOffset);
-            offsets.put(topicPartition, offsetAndMetadata);
-        }
-    }
-
-    private String getOriginalTopicName(SinkRecord record) {
-        // DBZ-6491
-        // This is a current workaround to resolve the original topic name from the broker as
-        // the value in the SinkRecord#topic may have been mutated with SMTs and would no
-        // longer represent the logical topic name on the broker.
-        //
-        // I intend to see whether the Kafka team could expose this original value on the
-        // SinkRecord contract for scenarios such as this to avoid the need to depend on
-        // connect-runtime. If so, we can drop that dependency, but since this is only a
-        // Kafka Connect implementation at this point, it's a fair workaround.
-        //
-        if (record instanceof InternalSinkRecord) {
-            return ((InternalSinkRecord) record).originalRecord().topic();
-        }
-        return null;
-    }
-
-    private Integer getOriginalKafkaPartition(SinkRecord record) {
-        try {
-            // Added in Kafka 3.6 and should be used as it will contain the details pre-transformations
-            return record.originalKafkaPartition();
-        }
-        catch (NoSuchMethodError e) {
-            // Fallback to old method for Kafka 3.5 or earlier
-            return record.kafkaPartition();
-        }
-    }
-
-    private long getOriginalKafkaOffset(SinkRecord record) {
-        try {
-            // Added in Kafka 3.6 and should be used as it will contain the details pre-transformations
-            return record.originalKafkaOffset();
-        }
-        catch (NoSuchMethodError e) {
-            // Fallback to old method for Kafka 3.5 or earlier
-            return record.kafkaOffset();
+    private void markProcessed(List<SinkRecordDescriptor> records) {
+        for (SinkRecordDescriptor record : records) {
+            offsetTracker.committed(record.getRecord());
         }
     }
 }
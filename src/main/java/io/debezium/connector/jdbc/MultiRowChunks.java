@@ -0,0 +1,73 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Splits a batch of records into the chunks applied by individual multi-row statements.
+ *
+ * Chunks hold the maximum number of rows where possible, and any remainder is split into chunks
+ * whose sizes are descending powers of two. This bounds the number of distinct statements that
+ * are generated and prepared for a table to a handful, regardless of the batch sizes.
+ */
+final class MultiRowChunks {
+
+    private MultiRowChunks() {
+    }
+
+    /**
+     * Splits the records into chunks, retaining their order.
+     *
+     * @param records the records to split, should not be {@code null}
+     * @param maxRows the maximum number of records per chunk, at least 1
+     * @param keyExtractor extracts the key of a record when the records of a chunk must have distinct keys,
+     *                     or {@code null} if keys may repeat within a chunk
+     * @return the chunks, never {@code null}
+     */
+    static <T> List<List<T>> split(List<T> records, int maxRows, Function<? super T, ?> keyExtractor) {
+        final List<List<T>> chunks = new ArrayList<>();
+        if (keyExtractor == null) {
+            addChunks(chunks, records, maxRows);
+            return chunks;
+        }
+
+        // A repeated key starts a new segment so that changes to the same row are applied in order
+        final Set<Object> keys = new HashSet<>();
+        int segmentStart = 0;
+        for (int i = 0; i < records.size(); i++) {
+            final Object key = keyExtractor.apply(records.get(i));
+            if (!keys.add(key)) {
+                addChunks(chunks, records.subList(segmentStart, i), maxRows);
+                segmentStart = i;
+                keys.clear();
+                keys.add(key);
+            }
+        }
+        addChunks(chunks, records.subList(segmentStart, records.size()), maxRows);
+        return chunks;
+    }
+
+    private static <T> void addChunks(List<List<T>> chunks, List<T> segment, int maxRows) {
+        int offset = 0;
+        int remaining = segment.size();
+        while (remaining >= maxRows) {
+            chunks.add(segment.subList(offset, offset + maxRows));
+            offset += maxRows;
+            remaining -= maxRows;
+        }
+        while (remaining > 0) {
+            final int size = Integer.highestOneBit(remaining);
+            chunks.add(segment.subList(offset, offset + size));
+            offset += size;
+            remaining -= size;
+        }
+    }
+}
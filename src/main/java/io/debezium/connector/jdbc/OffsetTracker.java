@@ -0,0 +1,269 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.connect.runtime.InternalSinkRecord;
+import org.apache.kafka.connect.sink.SinkRecord;
+
+import io.debezium.util.Strings;
+
+/**
+ * Tracks the offsets of the records received by the sink task per topic partition, and reports for each
+ * partition the offset up to which all received records have been committed to the database.
+ *
+ * Records may be committed in any order, for example when the tables they were written to are flushed
+ * independently. The committed offset of a partition only advances past a record once it and all records
+ * received before it from the same partition have been committed, so it never skips a record that could
+ * still be lost. Offsets are tracked in the order records were received rather than by value, as offsets
+ * of a partition are not contiguous when records have been compacted or are transaction markers.
+ *
+ * Each partition is guarded by its own lock, so records of different partitions are tracked without
+ * contention, and the committed offsets and lag are read without locking.
+ */
+class OffsetTracker {
+
+    private final ConcurrentMap<TopicPartition, PartitionOffsets> partitions = new ConcurrentHashMap<>();
+
+    /**
+     * Records that a record has been received, so that the committed offset of its partition does not
+     * advance past it until it has been committed.
+     *
+     * @param record the received record, should not be {@code null}
+     */
+    void received(SinkRecord record) {
+        final TopicPartition topicPartition = getOriginalTopicPartition(record);
+        if (topicPartition != null) {
+            received(topicPartition, getOriginalKafkaOffset(record));
+        }
+    }
+
+    void received(TopicPartition topicPartition, long offset) {
+        partitions.computeIfAbsent(topicPartition, key -> new PartitionOffsets()).received(offset);
+    }
+
+    /**
+     * Records that a received record has been committed. Records that have not been received or whose
+     * partition has been closed since are ignored.
+     *
+     * @param record the committed record, should not be {@code null}
+     */
+    void committed(SinkRecord record) {
+        final TopicPartition topicPartition = getOriginalTopicPartition(record);
+        if (topicPartition != null) {
+            committed(topicPartition, getOriginalKafkaOffset(record));
+        }
+    }
+
+    void committed(TopicPartition topicPartition, long offset) {
+        final PartitionOffsets offsets = partitions.get(topicPartition);
+        if (offsets != null) {
+            offsets.committed(offset);
+        }
+    }
+
+    /**
+     * Records that all records received so far have been committed.
+     */
+    void committedAllReceived() {
+        partitions.values().forEach(PartitionOffsets::committedAllReceived);
+    }
+
+    /**
+     * Stops tracking the given partitions, for example when they have been reassigned to another task.
+     *
+     * @param topicPartitions the partitions, should not be {@code null}
+     */
+    void remove(Collection<TopicPartition> topicPartitions) {
+        topicPartitions.forEach(partitions::remove);
+    }
+
+    /**
+     * Returns for each partition the offset of the first record that has not been committed, or the offset
+     * following the last received record if all have been committed, which is the offset to resume from.
+     */
+    Map<TopicPartition, OffsetAndMetadata> getCommittedOffsets() {
+        final Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        partitions.forEach((topicPartition, partition) -> offsets.put(topicPartition, new OffsetAndMetadata(partition.committedOffset)));
+        return offsets;
+    }
+
+    /**
+     * Returns for each partition the difference between the offset following the last received record
+     * and the committed offset.
+     */
+    Map<TopicPartition, Long> getLag() {
+        final Map<TopicPartition, Long> lag = new HashMap<>();
+        partitions.forEach((topicPartition, partition) -> lag.put(topicPartition, partition.getLag()));
+        return lag;
+    }
+
+    /**
+     * Returns the sum of the lag of all partitions, see {@link #getLag()}.
+     */
+    long getTotalLag() {
+        long lag = 0;
+        for (PartitionOffsets partition : partitions.values()) {
+            lag += partition.getLag();
+        }
+        return lag;
+    }
+
+    private static TopicPartition getOriginalTopicPartition(SinkRecord record) {
+        final String topicName = getOriginalTopicName(record);
+        if (Strings.isNullOrBlank(topicName)) {
+            return null;
+        }
+        return new TopicPartition(topicName, getOriginalKafkaPartition(record));
+    }
+
+    private static String getOriginalTopicName(SinkRecord record) {
+        // DBZ-6491
+        // This is a current workaround to resolve the original topic name from the broker as
+        // the value in the SinkRecord#topic may have been mutated with SMTs and would no
+        // longer represent the logical topic name on the broker.
+        //
+        // I intend to see whether the Kafka team could expose this original value on the
+        // SinkRecord contract for scenarios such as this to avoid the need to depend on
+        // connect-runtime. If so, we can drop that dependency, but since this is only a
+        // Kafka Connect implementation at this point, it's a fair workaround.
+        //
+        if (record instanceof InternalSinkRecord) {
+            return ((InternalSinkRecord) record).originalRecord().topic();
+        }
+        return null;
+    }
+
+    private static Integer getOriginalKafkaPartition(SinkRecord record) {
+        try {
+            // Added in Kafka 3.6 and should be used as it will contain the details pre-transformations
+            return record.originalKafkaPartition();
+        }
+        catch (NoSuchMethodError e) {
+            // Fallback to old method for Kafka 3.5 or earlier
+            return record.kafkaPartition();
+        }
+    }
+
+    private static long getOriginalKafkaOffset(SinkRecord record) {
+        try {
+            // Added in Kafka 3.6 and should be used as it will contain the details pre-transformations
+            return record.originalKafkaOffset();
+        }
+        catch (NoSuchMethodError e) {
+            // Fallback to old method for Kafka 3.5 or earlier
+            return record.kafkaOffset();
+        }
+    }
+
+    /**
+     * The offsets of the received records of a partition that have not been committed yet, in the order
+     * they were received, together with whether each has been committed.
+     */
+    private static class PartitionOffsets {
+
+        private long[] offsets = new long[64];
+        private boolean[] committed = new boolean[64];
+        private int head;
+        private int tail;
+
+        private volatile long committedOffset;
+        private volatile long nextOffset;
+
+        synchronized void received(long offset) {
+            if (head < tail && offset < nextOffset) {
+                // Redelivered, for example after the consumer has been rewound, so the records from
+                // this offset on will be received again
+                tail = Math.max(head, lowerBound(offset));
+            }
+            if (tail == offsets.length) {
+                makeRoom();
+            }
+            offsets[tail] = offset;
+            committed[tail] = false;
+            tail++;
+            nextOffset = offset + 1;
+            committedOffset = offsets[head];
+        }
+
+        synchronized void committed(long offset) {
+            if (head == tail || offset < offsets[head]) {
+                return;
+            }
+            final int index = Arrays.binarySearch(offsets, head, tail, offset);
+            if (index < 0) {
+                return;
+            }
+            committed[index] = true;
+            while (head < tail && committed[head]) {
+                head++;
+            }
+            updateCommittedOffset();
+        }
+
+        synchronized void committedAllReceived() {
+            head = tail;
+            updateCommittedOffset();
+        }
+
+        long getLag() {
+            return Math.max(0, nextOffset - committedOffset);
+        }
+
+        private void updateCommittedOffset() {
+            if (head == tail) {
+                head = 0;
+                tail = 0;
+                committedOffset = nextOffset;
+            }
+            else {
+                committedOffset = offsets[head];
+            }
+        }
+
+        private int lowerBound(long offset) {
+            int low = head;
+            int high = tail;
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                if (offsets[middle] < offset) {
+                    low = middle + 1;
+                }
+                else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        private void makeRoom() {
+            final int size = tail - head;
+            if (head > 0 && size <= offsets.length / 2) {
+                // Reuse the space of the committed records at the start
+                System.arraycopy(offsets, head, offsets, 0, size);
+                System.arraycopy(committed, head, committed, 0, size);
+            }
+            else {
+                final long[] grownOffsets = new long[offsets.length * 2];
+                final boolean[] grownCommitted = new boolean[offsets.length * 2];
+                System.arraycopy(offsets, head, grownOffsets, 0, size);
+                System.arraycopy(committed, head, grownCommitted, 0, size);
+                offsets = grownOffsets;
+                committed = grownCommitted;
+            }
+            head = 0;
+            tail = size;
+        }
+    }
+}
@@ -25,9 +25,7 @@ public void bind(ValueBindDescriptor valueBindDescriptor) {
         try {
             if (valueBindDescriptor.getTargetSqlType() != null) {
                 if (valueBindDescriptor.getTargetSqlType() == Types.ARRAY) {
-                    Collection<Object> collection = (Collection<Object>) valueBindDescriptor.getValue();
-                    Array array = binder.getConnection().createArrayOf(valueBindDescriptor.getElementTypeName(), collection.toArray());
-                    binder.setArray(valueBindDescriptor.getIndex(), array);
+                    setArray(valueBindDescriptor.getIndex(), valueBindDescriptor.getValue(), valueBindDescriptor.getElementTypeName());
                 }
                 else {
                     binder.setObject(valueBindDescriptor.getIndex(), valueBindDescriptor.getValue(), valueBindDescriptor.getTargetSqlType());
@@ -41,4 +39,137 @@ public void bind(ValueBindDescriptor valueBindDescriptor) {
             throw new RuntimeException(e);
         }
     }
+
+    @Override
+    public void setNull(int index) {
+        try {
+            // Drivers infer the type of an untyped null, unlike PreparedStatement#setNull
+            binder.setObject(index, null);
+        }
+        catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void setBoolean(int index, boolean value) {
+        try {
+            binder.setBoolean(index, value);
+        }
+        catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void setByte(int index, byte value) {
+        try {
+            binder.setByte(index, value);
+        }
+        catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void setShort(int index, short value) {
+        try {
+            binder.setShort(index, value);
+        }
+        catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void setInt(int index, int value) {
+        try {
+            binder.setInt(index, value);
+        }
+        catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void setLong(int index, long value) {
+        try {
+            binder.setLong(index, value);
+        }
+        catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void setFloat(int index, float value) {
+        try {
+            binder.setFloat(index, value);
+        }
+        catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void setDouble(int index, double value) {
+        try {
+            binder.setDouble(index, value);
+        }
+        catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void setString(int index, String value) {
+        try {
+            binder.setString(index, value);
+        }
+        catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void setBytes(int index, byte[] value) {
+        try {
+            binder.setBytes(index, value);
+        }
+        catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void setObject(int index, Object value) {
+        try {
+            binder.setObject(index, value);
+        }
+        catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void setObject(int index, Object value, int targetSqlType) {
+        try {
+            binder.setObject(index, value, targetSqlType);
+        }
+        catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void setArray(int index, Object value, String elementTypeName) {
+        try {
+            Collection<Object> collection = (Collection<Object>) value;
+            Array array = binder.getConnection().createArrayOf(elementTypeName, collection.toArray());
+            binder.setArray(index, array);
+        }
+        catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
 }
@@ -5,8 +5,73 @@
  */
 package io.debezium.connector.jdbc;
 
+import java.sql.Types;
+
+/**
+ * Binds parameter values to a query.
+ *
+ * Types bind their values through the typed methods, which implementations should override to bind the
+ * values without allocating. By default, the typed methods wrap the value in a {@link ValueBindDescriptor}.
+ */
 public interface QueryBinder {
 
     void bind(ValueBindDescriptor valueBindDescriptor);
 
+    /**
+     * Binds {@code null}, as a value without a target SQL type is bound.
+     */
+    default void setNull(int index) {
+        bind(new ValueBindDescriptor(index, null));
+    }
+
+    default void setBoolean(int index, boolean value) {
+        bind(new ValueBindDescriptor(index, value));
+    }
+
+    default void setByte(int index, byte value) {
+        bind(new ValueBindDescriptor(index, value));
+    }
+
+    default void setShort(int index, short value) {
+        bind(new ValueBindDescriptor(index, value));
+    }
+
+    default void setInt(int index, int value) {
+        bind(new ValueBindDescriptor(index, value));
+    }
+
+    default void setLong(int index, long value) {
+        bind(new ValueBindDescriptor(index, value));
+    }
+
+    default void setFloat(int index, float value) {
+        bind(new ValueBindDescriptor(index, value));
+    }
+
+    default void setDouble(int index, double value) {
+        bind(new ValueBindDescriptor(index, value));
+    }
+
+    default void setString(int index, String value) {
+        bind(new ValueBindDescriptor(index, value));
+    }
+
+    default void setBytes(int index, byte[] value) {
+        bind(new ValueBindDescriptor(index, value));
+    }
+
+    default void setObject(int index, Object value) {
+        bind(new ValueBindDescriptor(index, value));
+    }
+
+    default void setObject(int index, Object value, int targetSqlType) {
+        bind(new ValueBindDescriptor(index, value, targetSqlType));
+    }
+
+    /**
+     * Binds a collection as an SQL array of the given element type.
+     */
+    default void setArray(int index, Object value, String elementTypeName) {
+        bind(new ValueBindDescriptor(index, value, Types.ARRAY, elementTypeName));
+    }
 }
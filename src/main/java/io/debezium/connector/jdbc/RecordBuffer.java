@@ -6,7 +6,9 @@
 package io.debezium.connector.jdbc;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import org.apache.kafka.connect.data.Schema;
@@ -14,14 +16,22 @@
 /**
  * A buffer of {@link SinkRecordDescriptor}. It contains the logic of when is the time to flush
  *
+ * Records are partitioned by their key and value schemas, so that records of different schema versions
+ * accumulate independently rather than causing a flush. On flush, partitions are returned one after the
+ * other in the order they were created. As long as every record of a key is added to the same or a later
+ * partition, this preserves the order of the changes of each key. A record that would be written before
+ * an earlier change of its key causes the buffer to be flushed first.
+ *
  * @author Mario Fiore Vitale
  */
 public class RecordBuffer implements Buffer {
 
     private final JdbcSinkConnectorConfig connectorConfig;
-    private Schema keySchema;
-    private Schema valueSchema;
-    private final ArrayList<SinkRecordDescriptor> records = new ArrayList<>();
+    private final List<Partition> partitions = new ArrayList<>();
+    private final Map<Object, Integer> partitionByKey = new HashMap<>();
+    private Partition lastPartition;
+    private int size;
+    private long estimatedSize;
 
     public RecordBuffer(JdbcSinkConnectorConfig connectorConfig) {
 
@@ -31,44 +41,139 @@ public RecordBuffer(JdbcSinkConnectorConfig connectorConfig) {
     public List<SinkRecordDescriptor> add(SinkRecordDescriptor recordDescriptor) {
 
         List<SinkRecordDescriptor> flushed = new ArrayList<>();
-        boolean isSchemaChanged = false;
-
-        if (records.isEmpty()) {
-            keySchema = recordDescriptor.getKeySchema();
-            valueSchema = recordDescriptor.getValueSchema();
+        boolean isOrderingConflict = false;
+
+        Partition partition = resolvePartition(recordDescriptor);
+        if (partitions.size() > 1) {
+            final Object key = getKey(recordDescriptor);
+            final Integer keyPartition = key != null ? partitionByKey.get(key) : null;
+            if (keyPartition != null && keyPartition > partition.index) {
+                flushed = flush();
+                partition = resolvePartition(recordDescriptor);
+                isOrderingConflict = true;
+            }
         }
 
-        if (!Objects.equals(keySchema, recordDescriptor.getKeySchema()) || !Objects.equals(valueSchema, recordDescriptor.getValueSchema())) {
-            keySchema = recordDescriptor.getKeySchema();
-            valueSchema = recordDescriptor.getValueSchema();
-            flushed = flush();
-            isSchemaChanged = true;
+        partition.records.add(recordDescriptor);
+        size++;
+        estimatedSize += recordDescriptor.getEstimatedSize();
+        if (partitions.size() > 1) {
+            indexKey(recordDescriptor, partition.index);
         }
 
-        records.add(recordDescriptor);
-
-        if (isSchemaChanged) {
+        if (isOrderingConflict) {
             // current record is already added in internal buffer after flush
             // just return the flushed buffer ignoring buffer size check
             return flushed;
         }
 
-        if (records.size() >= connectorConfig.getBatchSize()) {
+        if (size >= connectorConfig.getBatchSize() || isBatchMaxBytesReached()) {
             flushed = flush();
         }
 
         return flushed;
     }
 
+    /**
+     * Flushes the buffer, records of the same partition are contiguous in the returned list.
+     */
     public List<SinkRecordDescriptor> flush() {
 
-        List<SinkRecordDescriptor> flushed = new ArrayList<>(records);
-        records.clear();
+        List<SinkRecordDescriptor> flushed = new ArrayList<>(size);
+        for (Partition partition : partitions) {
+            flushed.addAll(partition.records);
+        }
+        partitions.clear();
+        partitionByKey.clear();
+        lastPartition = null;
+        size = 0;
+        estimatedSize = 0;
 
         return flushed;
     }
 
     public boolean isEmpty() {
-        return records.isEmpty();
+        return size == 0;
+    }
+
+    @Override
+    public long getEstimatedSize() {
+        return estimatedSize;
+    }
+
+    /**
+     * @return the number of schema partitions of the buffered records
+     */
+    int getPartitionCount() {
+        return partitions.size();
+    }
+
+    private boolean isBatchMaxBytesReached() {
+        return connectorConfig.getBatchMaxBytes() > 0 && estimatedSize >= connectorConfig.getBatchMaxBytes();
+    }
+
+    private Partition resolvePartition(SinkRecordDescriptor recordDescriptor) {
+        if (lastPartition != null && lastPartition.matches(recordDescriptor)) {
+            return lastPartition;
+        }
+        for (Partition partition : partitions) {
+            if (partition.matches(recordDescriptor)) {
+                lastPartition = partition;
+                return partition;
+            }
+        }
+
+        if (partitions.size() == 1) {
+            // Keys only need to be tracked once records may be written out of arrival order
+            for (SinkRecordDescriptor record : partitions.get(0).records) {
+                indexKey(record, 0);
+            }
+        }
+        lastPartition = new Partition(partitions.size(), recordDescriptor.getKeySchema(), recordDescriptor.getValueSchema());
+        partitions.add(lastPartition);
+        return lastPartition;
+    }
+
+    private void indexKey(SinkRecordDescriptor recordDescriptor, int partitionIndex) {
+        final Object key = getKey(recordDescriptor);
+        if (key != null) {
+            partitionByKey.put(key, partitionIndex);
+        }
+    }
+
+    /**
+     * Returns the key of a record, or {@code null} if the record has no primary key and so no order to preserve.
+     */
+    private Object getKey(SinkRecordDescriptor recordDescriptor) {
+        if (recordDescriptor.getKeyFieldNames().isEmpty()) {
+            return null;
+        }
+        return recordDescriptor.getKeyValues(connectorConfig.getPrimaryKeyMode());
+    }
+
+    /**
+     * The buffered records sharing a key and value schema.
+     */
+    private static class Partition {
+
+        private final int index;
+        private final Schema keySchema;
+        private final Schema valueSchema;
+        private final List<SinkRecordDescriptor> records = new ArrayList<>();
+
+        Partition(int index, Schema keySchema, Schema valueSchema) {
+            this.index = index;
+            this.keySchema = keySchema;
+            this.valueSchema = valueSchema;
+        }
+
+        boolean matches(SinkRecordDescriptor recordDescriptor) {
+            // Converters usually reuse schema instances, which avoids comparing the schemas deeply
+            return isSameSchema(keySchema, recordDescriptor.getKeySchema()) && isSameSchema(valueSchema, recordDescriptor.getValueSchema());
+        }
+
+        private static boolean isSameSchema(Schema schema, Schema other) {
+            return schema == other || Objects.equals(schema, other);
+        }
     }
 }
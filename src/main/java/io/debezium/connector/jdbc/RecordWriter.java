@@ -6,20 +6,25 @@
 package io.debezium.connector.jdbc;
 
 import java.sql.BatchUpdateException;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
-import org.apache.kafka.connect.data.Struct;
 import org.hibernate.SharedSessionContract;
 import org.hibernate.Transaction;
 import org.hibernate.jdbc.Work;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.debezium.connector.jdbc.dialect.BulkWriter;
 import io.debezium.connector.jdbc.dialect.DatabaseDialect;
-import io.debezium.util.Stopwatch;
+import io.debezium.connector.jdbc.metrics.JdbcSinkTaskMetrics;
 
 /**
  * Effectively writes the batches using Hibernate {@link Work}
@@ -33,131 +38,366 @@ public class RecordWriter {
     private final QueryBinderResolver queryBinderResolver;
     private final JdbcSinkConnectorConfig config;
     private final DatabaseDialect dialect;
+    private final JdbcSinkTaskMetrics metrics;
 
     public RecordWriter(SharedSessionContract session, QueryBinderResolver queryBinderResolver, JdbcSinkConnectorConfig config, DatabaseDialect dialect) {
+        this(session, queryBinderResolver, config, dialect, new JdbcSinkTaskMetrics());
+    }
+
+    public RecordWriter(SharedSessionContract session, QueryBinderResolver queryBinderResolver, JdbcSinkConnectorConfig config, DatabaseDialect dialect,
+                        JdbcSinkTaskMetrics metrics) {
         this.session = session;
         this.queryBinderResolver = queryBinderResolver;
         this.config = config;
         this.dialect = dialect;
+        this.metrics = metrics;
     }
 
-    public void write(List<SinkRecordDescriptor> records, String sqlStatement) {
+    public void write(List<SinkRecordDescriptor> records, CompiledStatement statement) {
+        write(records, statement, null);
+    }
 
-        Stopwatch writeStopwatch = Stopwatch.reusable();
-        writeStopwatch.start();
-        final Transaction transaction = session.beginTransaction();
+    /**
+     * Writes the records in a single transaction, preferring the bulk writer when one is provided.
+     *
+     * @param records the records to write, should not be {@code null}
+     * @param statement the compiled statement used when the records are not written by the bulk writer
+     * @param bulkWriter the dialect's bulk writer for the batch, may be {@code null}
+     */
+    public void write(List<SinkRecordDescriptor> records, CompiledStatement statement, BulkWriter bulkWriter) {
+        try (PreparedWrite preparedWrite = prepare(records, statement, bulkWriter)) {
+            preparedWrite.commit();
+        }
+    }
 
+    /**
+     * Prepares the write of the records without applying it. The prepared statements are created and bound
+     * in a new transaction, but only executed and committed by {@link PreparedWrite#commit()}, so the records
+     * of the next batch can be bound while the previous batch is written using another session.
+     *
+     * When a bulk writer is provided, the records are converted while being written, so the whole write
+     * is applied by {@link PreparedWrite#commit()}.
+     *
+     * @param records the records to write, should not be {@code null}
+     * @param statement the compiled statement used when the records are not written by the bulk writer
+     * @param bulkWriter the dialect's bulk writer for the batch, may be {@code null}
+     * @return the prepared write, which must be closed, never {@code null}
+     */
+    public PreparedWrite prepare(List<SinkRecordDescriptor> records, CompiledStatement statement, BulkWriter bulkWriter) {
+        if (bulkWriter != null) {
+            return () -> writeInTransaction(() -> {
+                final long startNanos = System.nanoTime();
+                if (session.doReturningWork(conn -> bulkWriter.write(conn, statement.getBindPlan(), records))) {
+                    metrics.recordExecute(System.nanoTime() - startNanos);
+                }
+                else {
+                    // Binding and executing the prepared statements record their own durations
+                    session.doWork(conn -> executeBatches(bind(conn, records, statement)));
+                }
+            });
+        }
+
+        final Transaction transaction = session.beginTransaction();
         try {
-            session.doWork(processBatch(records, sqlStatement));
-            transaction.commit();
+            return new BoundWrite(transaction, session.doReturningWork(conn -> bind(conn, records, statement)));
         }
         catch (Exception e) {
             transaction.rollback();
             throw e;
         }
-        writeStopwatch.stop();
-        LOGGER.trace("[PERF] Total write execution time {}", writeStopwatch.durations());
     }
 
-    private Work processBatch(List<SinkRecordDescriptor> records, String sqlStatement) {
+    /**
+     * Writes the records of a batch whose write failed, isolating the records that caused the failure.
+     * The failed records are identified from the update counts of the {@link BatchUpdateException} when the
+     * driver reports them for a batch of single row statements, and otherwise by writing each half of the
+     * records separately until the failing records are found. All other records are written using prepared
+     * statements, each part in its own transaction.
+     *
+     * @param records the records of the failed batch, should not be {@code null}
+     * @param statement the compiled statement of the batch, should not be {@code null}
+     * @param failure the failure of the batch, should not be {@code null}
+     * @param failedRecordHandler called with each record that cannot be written and its failure
+     * @throws RuntimeException if a part of the batch fails for a reason other than its records, see {@link #isRecordFailure(Throwable)}
+     */
+    public void writeIsolatingFailures(List<SinkRecordDescriptor> records, CompiledStatement statement, Exception failure,
+                                       BiConsumer<SinkRecordDescriptor, Exception> failedRecordHandler) {
+        final BatchUpdateException batchFailure = findCause(failure, BatchUpdateException.class);
+        final boolean singleRowStatements = statement.getMaxRows() <= 1 || records.size() <= 1;
+        if (batchFailure != null && batchFailure.getUpdateCounts() != null && singleRowStatements) {
+            final int[] updateCounts = batchFailure.getUpdateCounts();
+            if (updateCounts.length < records.size()) {
+                // The driver stopped executing the batch at the failed record
+                final int failed = updateCounts.length;
+                LOGGER.debug("Batch of {} records failed at record {}", records.size(), failed);
+                bisect(records.subList(0, failed), statement, failedRecordHandler);
+                failedRecordHandler.accept(records.get(failed), failure);
+                bisect(records.subList(failed + 1, records.size()), statement, failedRecordHandler);
+                return;
+            }
 
-        return conn -> {
+            // The driver continued executing the batch after the failed records
+            int start = 0;
+            for (int i = 0; i < updateCounts.length; i++) {
+                if (updateCounts[i] == Statement.EXECUTE_FAILED) {
+                    bisect(records.subList(start, i), statement, failedRecordHandler);
+                    failedRecordHandler.accept(records.get(i), failure);
+                    start = i + 1;
+                }
+            }
+            if (start > 0) {
+                bisect(records.subList(start, records.size()), statement, failedRecordHandler);
+                return;
+            }
+        }
 
-            try (PreparedStatement prepareStatement = conn.prepareStatement(sqlStatement)) {
+        split(records, statement, failure, failedRecordHandler);
+    }
 
-                QueryBinder queryBinder = queryBinderResolver.resolve(prepareStatement);
-                Stopwatch allbindStopwatch = Stopwatch.reusable();
-                allbindStopwatch.start();
-                for (SinkRecordDescriptor sinkRecordDescriptor : records) {
+    private void bisect(List<SinkRecordDescriptor> records, CompiledStatement statement, BiConsumer<SinkRecordDescriptor, Exception> failedRecordHandler) {
+        if (records.isEmpty()) {
+            return;
+        }
+        try {
+            write(records, statement, null);
+        }
+        catch (RuntimeException e) {
+            if (!isRecordFailure(e)) {
+                throw e;
+            }
+            split(records, statement, e, failedRecordHandler);
+        }
+    }
 
-                    Stopwatch singlebindStopwatch = Stopwatch.reusable();
-                    singlebindStopwatch.start();
-                    bindValues(sinkRecordDescriptor, queryBinder);
-                    singlebindStopwatch.stop();
+    private void split(List<SinkRecordDescriptor> records, CompiledStatement statement, Exception failure,
+                       BiConsumer<SinkRecordDescriptor, Exception> failedRecordHandler) {
+        if (records.size() == 1) {
+            failedRecordHandler.accept(records.get(0), failure);
+            return;
+        }
+        final int middle = records.size() / 2;
+        bisect(records.subList(0, middle), statement, failedRecordHandler);
+        bisect(records.subList(middle, records.size()), statement, failedRecordHandler);
+    }
 
-                    Stopwatch addBatchStopwatch = Stopwatch.reusable();
-                    addBatchStopwatch.start();
-                    prepareStatement.addBatch();
-                    addBatchStopwatch.stop();
+    /**
+     * Returns whether a write failed because of the values of the records written, such as a constraint violation,
+     * so that writing the records again fails the same way while other records succeed, see
+     * {@link DatabaseDialect#isRecordError(SQLException)}. Failures of the statement itself, such as a missing
+     * column or a missing privilege, fail the write of any record and are not record failures.
+     *
+     * @param failure the failure of the write, should not be {@code null}
+     */
+    public boolean isRecordFailure(Throwable failure) {
+        return !isTransientFailure(failure) && hasSqlException(failure, dialect::isRecordError);
+    }
 
-                    LOGGER.trace("[PERF] Bind single record execution time {}", singlebindStopwatch.durations());
-                    LOGGER.trace("[PERF] Add batch execution time {}", addBatchStopwatch.durations());
-                }
-                allbindStopwatch.stop();
-                LOGGER.trace("[PERF] All records bind execution time {}", allbindStopwatch.durations());
-
-                Stopwatch executeStopwatch = Stopwatch.reusable();
-                executeStopwatch.start();
-                int[] batchResult = prepareStatement.executeBatch();
-                executeStopwatch.stop();
-                for (int updateCount : batchResult) {
-                    if (updateCount == Statement.EXECUTE_FAILED) {
-                        throw new BatchUpdateException("Execution failed for part of the batch", batchResult);
+    /**
+     * Returns whether a write failed because of a transient condition, such as a deadlock or a lost connection,
+     * so that writing the records again may succeed, see {@link DatabaseDialect#isTransientError(SQLException)}.
+     *
+     * @param failure the failure of the write, should not be {@code null}
+     */
+    public boolean isTransientFailure(Throwable failure) {
+        return hasSqlException(failure, dialect::isTransientError);
+    }
+
+    private static boolean hasSqlException(Throwable failure, Predicate<SQLException> predicate) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException) {
+                // Drivers may report the cause of a failed batch as the next exception
+                for (SQLException exception = (SQLException) cause; exception != null; exception = exception.getNextException()) {
+                    if (predicate.test(exception)) {
+                        return true;
+                    }
+                    if (exception.getNextException() == exception) {
+                        break;
                     }
                 }
-                LOGGER.trace("[PERF] Execute batch execution time {}", executeStopwatch.durations());
             }
-        };
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
     }
 
-    private void bindValues(SinkRecordDescriptor sinkRecordDescriptor, QueryBinder queryBinder) {
+    private static <T extends Throwable> T findCause(Throwable failure, Class<T> type) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return type.cast(cause);
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return null;
+    }
 
-        int index;
-        if (sinkRecordDescriptor.isDelete()) {
-            bindKeyValuesToQuery(sinkRecordDescriptor, queryBinder, 1);
-            return;
+    private void writeInTransaction(Runnable work) {
+
+        final Transaction transaction = session.beginTransaction();
+
+        try {
+            work.run();
+
+            final long startNanos = System.nanoTime();
+            transaction.commit();
+            metrics.recordCommit(System.nanoTime() - startNanos);
+        }
+        catch (Exception e) {
+            transaction.rollback();
+            throw e;
         }
+    }
 
-        switch (config.getInsertMode()) {
-            case INSERT:
-            case UPSERT:
-                index = bindKeyValuesToQuery(sinkRecordDescriptor, queryBinder, 1);
-                bindNonKeyValuesToQuery(sinkRecordDescriptor, queryBinder, index);
-                break;
-            case UPDATE:
-                index = bindNonKeyValuesToQuery(sinkRecordDescriptor, queryBinder, 1);
-                bindKeyValuesToQuery(sinkRecordDescriptor, queryBinder, index);
-                break;
+    private List<PreparedStatement> bind(Connection conn, List<SinkRecordDescriptor> records, CompiledStatement statement) throws SQLException {
+        final List<PreparedStatement> statements = new ArrayList<>();
+        try {
+            final long startNanos = System.nanoTime();
+            if (statement.getMaxRows() > 1 && records.size() > 1) {
+                bindMultiRowBatch(conn, records, statement, statements);
+            }
+            else {
+                bindBatch(conn, records, statement, statements);
+            }
+            metrics.recordBind(System.nanoTime() - startNanos);
+            return statements;
+        }
+        catch (SQLException | RuntimeException e) {
+            closeStatements(statements);
+            throw e;
         }
     }
 
-    private int bindKeyValuesToQuery(SinkRecordDescriptor record, QueryBinder query, int index) {
+    private void bindBatch(Connection conn, List<SinkRecordDescriptor> records, CompiledStatement statement, List<PreparedStatement> statements)
+            throws SQLException {
+
+        final PreparedStatement prepareStatement = conn.prepareStatement(statement.getSql());
+        statements.add(prepareStatement);
 
-        if (Objects.requireNonNull(config.getPrimaryKeyMode()) == JdbcSinkConnectorConfig.PrimaryKeyMode.KAFKA) {
-            query.bind(new ValueBindDescriptor(index++, record.getTopicName()));
-            query.bind(new ValueBindDescriptor(index++, record.getPartition()));
-            query.bind(new ValueBindDescriptor(index++, record.getOffset()));
+        QueryBinder queryBinder = queryBinderResolver.resolve(prepareStatement);
+        for (SinkRecordDescriptor sinkRecordDescriptor : records) {
+            statement.getBindPlan().bind(sinkRecordDescriptor, queryBinder, dialect);
+            prepareStatement.addBatch();
         }
-        else {
-            final Struct keySource = record.getKeyStruct(config.getPrimaryKeyMode());
-            if (keySource != null) {
-                index = bindFieldValuesToQuery(record, query, index, keySource, record.getKeyFieldNames());
+    }
+
+    private void bindMultiRowBatch(Connection conn, List<SinkRecordDescriptor> records, CompiledStatement statement, List<PreparedStatement> statements)
+            throws SQLException {
+
+        final Function<SinkRecordDescriptor, Object> keyExtractor = statement.isUniqueKeysRequired() ? this::getKey : null;
+        final List<List<SinkRecordDescriptor>> chunks = MultiRowChunks.split(records, statement.getMaxRows(), keyExtractor);
+
+        // Consecutive chunks of the same size share a prepared statement and are executed as a single batch
+        int chunkIndex = 0;
+        while (chunkIndex < chunks.size()) {
+            final int rows = chunks.get(chunkIndex).size();
+            final PreparedStatement prepareStatement = conn.prepareStatement(statement.getSql(rows, chunks.get(chunkIndex).get(0)));
+            statements.add(prepareStatement);
+            final QueryBinder queryBinder = queryBinderResolver.resolve(prepareStatement);
+            for (; chunkIndex < chunks.size() && chunks.get(chunkIndex).size() == rows; chunkIndex++) {
+                int index = 1;
+                for (SinkRecordDescriptor sinkRecordDescriptor : chunks.get(chunkIndex)) {
+                    index = statement.getBindPlan().bind(sinkRecordDescriptor, queryBinder, dialect, index);
+                }
+                prepareStatement.addBatch();
             }
         }
-        return index;
     }
 
-    private int bindNonKeyValuesToQuery(SinkRecordDescriptor record, QueryBinder query, int index) {
-        return bindFieldValuesToQuery(record, query, index, record.getAfterStruct(), record.getNonKeyFieldNames());
+    private void executeBatches(List<PreparedStatement> statements) throws SQLException {
+        try {
+            final long startNanos = System.nanoTime();
+            for (PreparedStatement prepareStatement : statements) {
+                executeBatch(prepareStatement);
+            }
+            metrics.recordExecute(System.nanoTime() - startNanos);
+        }
+        finally {
+            closeStatements(statements);
+        }
     }
 
-    private int bindFieldValuesToQuery(SinkRecordDescriptor record, QueryBinder query, int index, Struct source, List<String> fields) {
+    private static void closeStatements(List<PreparedStatement> statements) {
+        for (PreparedStatement prepareStatement : statements) {
+            try {
+                prepareStatement.close();
+            }
+            catch (SQLException e) {
+                LOGGER.debug("Failed to close prepared statement", e);
+            }
+        }
+        statements.clear();
+    }
+
+    private static void executeBatch(PreparedStatement prepareStatement) throws SQLException {
+        final int[] batchResult = prepareStatement.executeBatch();
+        for (int updateCount : batchResult) {
+            if (updateCount == Statement.EXECUTE_FAILED) {
+                throw new BatchUpdateException("Execution failed for part of the batch", batchResult);
+            }
+        }
+    }
+
+    private Object getKey(SinkRecordDescriptor record) {
+        return record.getKeyValues(config.getPrimaryKeyMode());
+    }
+
+    /**
+     * A write whose records have been prepared by {@link RecordWriter#prepare(List, CompiledStatement, BulkWriter)}.
+     * Closing a write that has not been committed discards it.
+     */
+    public interface PreparedWrite extends AutoCloseable {
 
-        for (String fieldName : fields) {
-            final SinkRecordDescriptor.FieldDescriptor field = record.getFields().get(fieldName);
+        /**
+         * Applies and commits the write.
+         */
+        void commit();
 
-            Object value;
-            if (field.getSchema().isOptional()) {
-                value = source.getWithoutDefault(fieldName);
+        @Override
+        default void close() {
+        }
+    }
+
+    /**
+     * The prepared statements bound for a batch, executed within the transaction in which they were bound.
+     */
+    private class BoundWrite implements PreparedWrite {
+
+        private final Transaction transaction;
+        private final List<PreparedStatement> statements;
+        private boolean completed;
+
+        BoundWrite(Transaction transaction, List<PreparedStatement> statements) {
+            this.transaction = transaction;
+            this.statements = statements;
+        }
+
+        @Override
+        public void commit() {
+
+            completed = true;
+
+            try {
+                session.doWork(conn -> executeBatches(statements));
+                final long startNanos = System.nanoTime();
+                transaction.commit();
+                metrics.recordCommit(System.nanoTime() - startNanos);
             }
-            else {
-                value = source.get(fieldName);
+            catch (Exception e) {
+                transaction.rollback();
+                throw e;
             }
-            List<ValueBindDescriptor> boundValues = dialect.bindValue(field, index, value);
+        }
 
-            boundValues.forEach(query::bind);
-            index += boundValues.size();
+        @Override
+        public void close() {
+            closeStatements(statements);
+            if (!completed) {
+                completed = true;
+                transaction.rollback();
+            }
         }
-        return index;
     }
 }
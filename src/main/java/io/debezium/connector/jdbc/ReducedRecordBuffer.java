@@ -6,9 +6,7 @@
 package io.debezium.connector.jdbc;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 
 import org.apache.kafka.connect.data.Schema;
@@ -19,6 +17,14 @@
  * A reduced implementation buffer of {@link SinkRecordDescriptor}.
  * It reduces events in buffer before submit to external database.
  *
+ * The buffer keeps the last change per primary key, including deletes. When a key is deleted and
+ * then written again, the delete is retained separately so it is still applied before the write.
+ * A flush returns all deletes followed by all other changes, so the number of flushes does not
+ * depend on how deletes and other changes are interleaved.
+ *
+ * Changes are reduced by the values of their primary key fields, see {@link ReductionKeyMap}, rather
+ * than by their key structs, so records are neither copied into new structs nor deeply compared.
+ *
  * @author Gaurav Miglani
  */
 public class ReducedRecordBuffer implements Buffer {
@@ -27,7 +33,13 @@ public class ReducedRecordBuffer implements Buffer {
     private Schema keySchema;
     private Schema valueSchema;
 
-    private final Map<Struct, SinkRecordDescriptor> records = new HashMap<>();
+    private final ReductionKeyMap keys = new ReductionKeyMap();
+    // The last change of each key, by key position
+    private final List<SinkRecordDescriptor> records = new ArrayList<>();
+    // Deletes superseded by a later write to the same key, which must be applied before that write, by key position
+    private final List<SinkRecordDescriptor> deletesBeforeWrites = new ArrayList<>();
+    private int deletesBeforeWritesCount;
+    private long estimatedSize;
 
     public ReducedRecordBuffer(JdbcSinkConnectorConfig connectorConfig) {
         this.connectorConfig = connectorConfig;
@@ -40,19 +52,47 @@ public List<SinkRecordDescriptor> add(SinkRecordDescriptor recordDescriptor) {
 
         if (records.isEmpty()) {
             keySchema = recordDescriptor.getKeySchema();
+            valueSchema = null;
+        }
+        if (valueSchema == null && !recordDescriptor.isDelete()) {
             valueSchema = recordDescriptor.getValueSchema();
         }
 
-        if (!Objects.equals(keySchema, recordDescriptor.getKeySchema()) || !Objects.equals(valueSchema, recordDescriptor.getValueSchema())) {
+        // Deletes only use the key, so their value schema does not need to match the buffered writes
+        if (!Objects.equals(keySchema, recordDescriptor.getKeySchema())
+                || (!recordDescriptor.isDelete() && !Objects.equals(valueSchema, recordDescriptor.getValueSchema()))) {
             keySchema = recordDescriptor.getKeySchema();
-            valueSchema = recordDescriptor.getValueSchema();
+            valueSchema = recordDescriptor.isDelete() ? null : recordDescriptor.getValueSchema();
             flushed = flush();
             isSchemaChanged = true;
         }
 
         Struct keyStruct = recordDescriptor.getKeyStruct(connectorConfig.getPrimaryKeyMode());
         if (keyStruct != null) {
-            records.put(keyStruct, recordDescriptor);
+            final int index = keys.indexOf(keyStruct, recordDescriptor.getKeyFieldNames());
+            final SinkRecordDescriptor replaced;
+            if (index == records.size()) {
+                records.add(recordDescriptor);
+                deletesBeforeWrites.add(null);
+                replaced = null;
+            }
+            else {
+                replaced = records.set(index, recordDescriptor);
+            }
+            estimatedSize += recordDescriptor.getEstimatedSize() - (replaced != null ? replaced.getEstimatedSize() : 0);
+            if (recordDescriptor.isDelete()) {
+                // The delete removes the row regardless of any earlier delete
+                final SinkRecordDescriptor earlierDelete = deletesBeforeWrites.set(index, null);
+                if (earlierDelete != null) {
+                    estimatedSize -= earlierDelete.getEstimatedSize();
+                    deletesBeforeWritesCount--;
+                }
+            }
+            else if (replaced != null && replaced.isDelete() && deletesBeforeWrites.get(index) == null) {
+                deletesBeforeWrites.set(index, replaced);
+                estimatedSize += replaced.getEstimatedSize();
+                deletesBeforeWritesCount++;
+            }
         }
         else {
             throw new ConnectException("No struct-based primary key defined for record key/value, reduction buffer require struct based primary key");
@@ -64,7 +104,7 @@ public List<SinkRecordDescriptor> add(SinkRecordDescriptor recordDescriptor) {
             return flushed;
         }
 
-        if (records.size() >= connectorConfig.getBatchSize()) {
+        if (records.size() >= connectorConfig.getBatchSize() || isBatchMaxBytesReached()) {
             flushed = flush();
         }
 
@@ -73,8 +113,17 @@ public List<SinkRecordDescriptor> add(SinkRecordDescriptor recordDescriptor) {
 
     @Override
     public List<SinkRecordDescriptor> flush() {
-        List<SinkRecordDescriptor> flushed = new ArrayList<>(records.values());
+        List<SinkRecordDescriptor> flushed = new ArrayList<>(records.size() + deletesBeforeWritesCount);
+        if (deletesBeforeWritesCount > 0) {
+            deletesBeforeWrites.stream().filter(Objects::nonNull).forEach(flushed::add);
+        }
+        records.stream().filter(SinkRecordDescriptor::isDelete).forEach(flushed::add);
+        records.stream().filter(record -> !record.isDelete()).forEach(flushed::add);
+        keys.clear();
         records.clear();
+        deletesBeforeWrites.clear();
+        deletesBeforeWritesCount = 0;
+        estimatedSize = 0;
         return flushed;
     }
 
@@ -82,4 +131,13 @@ public List<SinkRecordDescriptor> flush() {
     public boolean isEmpty() {
         return records.isEmpty();
     }
+
+    @Override
+    public long getEstimatedSize() {
+        return estimatedSize;
+    }
+
+    private boolean isBatchMaxBytesReached() {
+        return connectorConfig.getBatchMaxBytes() > 0 && estimatedSize >= connectorConfig.getBatchMaxBytes();
+    }
 }
@@ -0,0 +1,163 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.errors.ConnectException;
+
+/**
+ * An index of primary keys used by {@link ReducedRecordBuffer}, assigning each distinct key a
+ * position in insertion order.
+ *
+ * Keys are not materialized as {@link Struct}s. The values of the primary key fields are read from
+ * the struct holding them and combined into a 64-bit hash, which locates the key in an open addressing
+ * table with linear probing. Keys with the same hash are compared by value, so hash collisions never
+ * merge distinct keys. The field values are only copied when a key is added.
+ */
+class ReductionKeyMap {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    // The position plus one of the key held by each slot, or 0 for an empty slot
+    private int[] slots = new int[INITIAL_CAPACITY];
+    private long[] hashes = new long[INITIAL_CAPACITY / 2];
+    private Object[][] keys = new Object[INITIAL_CAPACITY / 2][];
+    private int size;
+
+    private Schema keyFieldsSchema;
+    private Field[] keyFields;
+
+    /**
+     * Returns the position of a key, adding the key if it is not in the map yet, see {@link #indexOf(Struct, Field[])}.
+     *
+     * @param struct the struct holding the primary key fields, should not be {@code null}
+     * @param keyFieldNames the names of the primary key fields, should not be {@code null}
+     * @return the position of the key
+     */
+    int indexOf(Struct struct, List<String> keyFieldNames) {
+        // Buffered records usually share the schema, so the fields are only resolved when it changes
+        if (struct.schema() != keyFieldsSchema) {
+            final Field[] fields = new Field[keyFieldNames.size()];
+            for (int i = 0; i < fields.length; i++) {
+                fields[i] = struct.schema().field(keyFieldNames.get(i));
+                if (fields[i] == null) {
+                    throw new ConnectException("Primary key field '" + keyFieldNames.get(i) + "' not found in the primary key struct");
+                }
+            }
+            keyFieldsSchema = struct.schema();
+            keyFields = fields;
+        }
+        return indexOf(struct, keyFields);
+    }
+
+    /**
+     * Returns the position of a key, adding the key if it is not in the map yet. Positions are
+     * assigned consecutively starting at 0, so a newly added key has the position {@code size() - 1}.
+     *
+     * @param struct the struct holding the primary key fields, should not be {@code null}
+     * @param fields the primary key fields of the struct's schema, should not be {@code null}
+     * @return the position of the key
+     */
+    int indexOf(Struct struct, Field[] fields) {
+        final long hash = hash(struct, fields);
+        int mask = slots.length - 1;
+        int slot = (int) hash & mask;
+        while (slots[slot] != 0) {
+            final int index = slots[slot] - 1;
+            if (hashes[index] == hash && isEqual(keys[index], struct, fields)) {
+                return index;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        if (size == hashes.length) {
+            grow();
+            mask = slots.length - 1;
+            slot = (int) hash & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        final Object[] key = new Object[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            key[i] = struct.get(fields[i]);
+        }
+        hashes[size] = hash;
+        keys[size] = key;
+        slots[slot] = ++size;
+        return size - 1;
+    }
+
+    /**
+     * @return the number of distinct keys
+     */
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        if (size > 0) {
+            Arrays.fill(slots, 0);
+            Arrays.fill(keys, 0, size, null);
+            size = 0;
+        }
+    }
+
+    static long hash(Struct struct, Field[] fields) {
+        long hash = 0;
+        for (Field field : fields) {
+            hash = (hash ^ hash(struct.get(field))) * 0x9E3779B97F4A7C15L;
+        }
+        // Spreads the higher bits to the lower bits used to locate the slot
+        hash ^= hash >>> 32;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static long hash(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        else if (value instanceof byte[]) {
+            return Arrays.hashCode((byte[]) value);
+        }
+        return value.hashCode();
+    }
+
+    private static boolean isEqual(Object[] key, Struct struct, Field[] fields) {
+        for (int i = 0; i < fields.length; i++) {
+            // Byte arrays are compared by content
+            if (!Objects.deepEquals(key[i], struct.get(fields[i]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void grow() {
+        final int capacity = slots.length * 2;
+        hashes = Arrays.copyOf(hashes, capacity / 2);
+        keys = Arrays.copyOf(keys, capacity / 2);
+        slots = new int[capacity];
+        final int mask = capacity - 1;
+        for (int index = 0; index < size; index++) {
+            int slot = (int) hashes[index] & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = index + 1;
+        }
+    }
+}
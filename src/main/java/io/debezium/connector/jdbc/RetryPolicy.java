@@ -0,0 +1,120 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import org.apache.kafka.connect.errors.ConnectException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Retries writes that failed with a transient error, waiting an exponentially growing and randomized time
+ * between attempts, see {@link JdbcSinkConnectorConfig#getFlushMaxRetries()}.
+ *
+ * The number of retries and the time spent retrying, including the backoff, are accumulated across all
+ * writes, which may be retried concurrently by different flush workers.
+ */
+class RetryPolicy {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RetryPolicy.class);
+
+    private static final long MAX_BACKOFF_MS = TimeUnit.MINUTES.toMillis(1);
+
+    private final int maxRetries;
+    private final long backoffMs;
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder retryNanos = new LongAdder();
+
+    RetryPolicy(int maxRetries, long backoffMs) {
+        this.maxRetries = maxRetries;
+        this.backoffMs = backoffMs;
+    }
+
+    /**
+     * Applies a write, retrying it while it fails with a transient error.
+     *
+     * @param tableName the name of the table written, used in log messages
+     * @param write the first attempt of the write, should not be {@code null}
+     * @param retry each further attempt of the write, should not be {@code null}
+     * @param isTransient whether a failure is transient, should not be {@code null}
+     * @throws RuntimeException the failure of the last attempt, if it is not transient or no retries remain
+     */
+    void run(String tableName, Runnable write, Runnable retry, Predicate<Throwable> isTransient) {
+        try {
+            write.run();
+            return;
+        }
+        catch (RuntimeException e) {
+            if (maxRetries == 0 || !isTransient.test(e)) {
+                throw e;
+            }
+            LOGGER.warn("Failed to write a batch to table '{}' with a transient error, retrying: {}", tableName, e.getMessage());
+        }
+
+        final long startNanos = System.nanoTime();
+        try {
+            for (int attempt = 1;; attempt++) {
+                sleep(getBackoffMs(attempt));
+                retries.increment();
+                try {
+                    retry.run();
+                    LOGGER.info("Wrote a batch to table '{}' after {} retries.", tableName, attempt);
+                    return;
+                }
+                catch (RuntimeException e) {
+                    if (attempt >= maxRetries || !isTransient.test(e)) {
+                        throw e;
+                    }
+                    LOGGER.warn("Retry {} of a batch to table '{}' failed with a transient error: {}", attempt, tableName, e.getMessage());
+                }
+            }
+        }
+        finally {
+            retryNanos.add(System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Returns the time to wait before the given attempt, half of it fixed and half of it random so that
+     * conflicting writes are unlikely to be retried at the same time again.
+     */
+    long getBackoffMs(int attempt) {
+        final long backoff = backoffMs >= MAX_BACKOFF_MS ? MAX_BACKOFF_MS : Math.min(MAX_BACKOFF_MS, backoffMs << Math.min(attempt - 1, 20));
+        final long fixed = backoff / 2;
+        return fixed + ThreadLocalRandom.current().nextLong(backoff - fixed + 1);
+    }
+
+    /**
+     * @return the number of retries of all writes
+     */
+    long getRetryCount() {
+        return retries.sum();
+    }
+
+    /**
+     * @return the time spent retrying writes in milliseconds, including the backoff
+     */
+    long getRetryTimeMs() {
+        return TimeUnit.NANOSECONDS.toMillis(retryNanos.sum());
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConnectException("Interrupted while waiting to retry a write", e);
+        }
+    }
+}
@@ -5,12 +5,17 @@
  */
 package io.debezium.connector.jdbc;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.apache.kafka.connect.data.Field;
@@ -24,12 +29,14 @@
 import org.slf4j.LoggerFactory;
 
 import io.debezium.annotation.Immutable;
+import io.debezium.annotation.ThreadSafe;
 import io.debezium.connector.jdbc.JdbcSinkConnectorConfig.PrimaryKeyMode;
 import io.debezium.connector.jdbc.dialect.DatabaseDialect;
 import io.debezium.connector.jdbc.filter.FieldFilterFactory;
 import io.debezium.connector.jdbc.filter.FieldFilterFactory.FieldNameFilter;
 import io.debezium.connector.jdbc.relational.ColumnDescriptor;
 import io.debezium.connector.jdbc.type.Type;
+import io.debezium.connector.jdbc.util.RecordSizeEstimator;
 import io.debezium.connector.jdbc.util.SchemaUtils;
 import io.debezium.data.Envelope;
 import io.debezium.data.Envelope.Operation;
@@ -43,18 +50,14 @@
 public class SinkRecordDescriptor {
     private final SinkRecord record;
     private final String topicName;
-    private final List<String> keyFieldNames;
-    private final List<String> nonKeyFieldNames;
-    private final Map<String, FieldDescriptor> fields;
+    private final Shape shape;
     private final boolean flattened;
+    private long estimatedSize = -1;
 
-    private SinkRecordDescriptor(SinkRecord record, String topicName, List<String> keyFieldNames, List<String> nonKeyFieldNames,
-                                 Map<String, FieldDescriptor> fields, boolean flattened) {
+    private SinkRecordDescriptor(SinkRecord record, String topicName, Shape shape, boolean flattened) {
         this.record = record;
         this.topicName = topicName;
-        this.keyFieldNames = keyFieldNames;
-        this.nonKeyFieldNames = nonKeyFieldNames;
-        this.fields = fields;
+        this.shape = shape;
         this.flattened = flattened;
     }
 
@@ -71,15 +74,15 @@ public long getOffset() {
     }
 
     public List<String> getKeyFieldNames() {
-        return keyFieldNames;
+        return shape.keyFieldNames;
     }
 
     public List<String> getNonKeyFieldNames() {
-        return nonKeyFieldNames;
+        return shape.nonKeyFieldNames;
     }
 
     public Map<String, FieldDescriptor> getFields() {
-        return fields;
+        return shape.fields;
     }
 
     public boolean isDebeziumSinkRecord() {
@@ -112,6 +115,10 @@ public boolean isTruncate() {
         return false;
     }
 
+    SinkRecord getRecord() {
+        return record;
+    }
+
     public Schema getKeySchema() {
         return record.keySchema();
     }
@@ -153,6 +160,42 @@ public Struct getKeyStruct(PrimaryKeyMode primaryKeyMode) {
         return null;
     }
 
+    /**
+     * Returns the values of the primary key fields, which identify the destination row independently
+     * of the key and value schema versions.
+     *
+     * @param primaryKeyMode the primary key mode
+     * @return the key, or {@code null} if the primary key struct cannot be resolved
+     */
+    public Object getKeyValues(PrimaryKeyMode primaryKeyMode) {
+        if (PrimaryKeyMode.KAFKA.equals(primaryKeyMode)) {
+            // Kafka coordinates are unique per record
+            return this;
+        }
+        final Struct keyStruct = getKeyStruct(primaryKeyMode);
+        if (keyStruct == null && !getKeyFieldNames().isEmpty()) {
+            return null;
+        }
+        final List<Object> key = new ArrayList<>(getKeyFieldNames().size());
+        for (String fieldName : getKeyFieldNames()) {
+            final Object value = keyStruct.get(fieldName);
+            // Byte arrays do not implement value equality
+            key.add(value instanceof byte[] ? ByteBuffer.wrap((byte[]) value) : value);
+        }
+        return key;
+    }
+
+    /**
+     * Returns the estimated serialized size of the record's key and value, see {@link RecordSizeEstimator}.
+     */
+    public long getEstimatedSize() {
+        if (estimatedSize < 0) {
+            estimatedSize = RecordSizeEstimator.estimate(record.keySchema(), record.key())
+                    + RecordSizeEstimator.estimate(record.valueSchema(), record.value());
+        }
+        return estimatedSize;
+    }
+
     public Struct getAfterStruct() {
         if (isDebeziumSinkRecord()) {
             return ((Struct) record.value()).getStruct(Envelope.FieldName.AFTER);
@@ -166,6 +209,114 @@ public static Builder builder() {
         return new Builder();
     }
 
+    /**
+     * The parts of a descriptor that only depend on the record's topic and schemas, which
+     * can therefore be shared by all records with the same topic and schemas.
+     */
+    @Immutable
+    static class Shape {
+
+        private static final Shape EMPTY = new Shape(List.of(), List.of(), Map.of());
+
+        private final List<String> keyFieldNames;
+        private final List<String> nonKeyFieldNames;
+        private final Map<String, FieldDescriptor> fields;
+
+        private Shape(List<String> keyFieldNames, List<String> nonKeyFieldNames, Map<String, FieldDescriptor> fields) {
+            this.keyFieldNames = keyFieldNames;
+            this.nonKeyFieldNames = nonKeyFieldNames;
+            this.fields = fields;
+        }
+    }
+
+    /**
+     * A cache of the schema-derived parts of {@link SinkRecordDescriptor}s, keyed by the record's topic
+     * and the identity of its key and value schemas. Converters and transformations reuse schema
+     * instances, so records of a topic typically resolve their fields, types and column names once.
+     *
+     * A cache must only be used with builders that share the same dialect and connector configuration.
+     */
+    @ThreadSafe
+    public static class ShapeCache {
+
+        private static final int DEFAULT_MAX_SIZE = 1024;
+
+        private final int maxSize;
+        private final Map<ShapeKey, Shape> shapes = new ConcurrentHashMap<>();
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+
+        public ShapeCache() {
+            this(DEFAULT_MAX_SIZE);
+        }
+
+        public ShapeCache(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        Shape get(SinkRecord record, Supplier<Shape> resolver) {
+            final ShapeKey key = new ShapeKey(record.topic(), record.keySchema(), record.valueSchema());
+            final Shape cached = shapes.get(key);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+
+            misses.increment();
+            final Shape shape = resolver.get();
+            if (shapes.size() >= maxSize) {
+                // Schema instances are not being reused, avoid growing without bound
+                shapes.clear();
+            }
+            shapes.put(key, shape);
+            return shape;
+        }
+
+        public long getHits() {
+            return hits.sum();
+        }
+
+        public long getMisses() {
+            return misses.sum();
+        }
+
+        public int size() {
+            return shapes.size();
+        }
+    }
+
+    private static class ShapeKey {
+        private final String topic;
+        private final Schema keySchema;
+        private final Schema valueSchema;
+        private final int hashCode;
+
+        ShapeKey(String topic, Schema keySchema, Schema valueSchema) {
+            this.topic = topic;
+            this.keySchema = keySchema;
+            this.valueSchema = valueSchema;
+            this.hashCode = 31 * (31 * topic.hashCode() + System.identityHashCode(keySchema)) + System.identityHashCode(valueSchema);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final ShapeKey that = (ShapeKey) o;
+            // Schemas are compared by identity, comparing schemas by value is as expensive as resolving the shape
+            return keySchema == that.keySchema && valueSchema == that.valueSchema && topic.equals(that.topic);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
     /**
      * An immutable representation of a {@link Field} in a {@link SinkRecord}.
      *
@@ -185,14 +336,14 @@ public static class FieldDescriptor {
         private final String typeName;
 
         // Lazily prepared
-        private String queryBinding;
+        private volatile QueryBinding queryBinding;
 
         private FieldDescriptor(Schema schema, String name, boolean key, DatabaseDialect dialect) {
             this.schema = schema;
             this.key = key;
             this.dialect = dialect;
 
-            // These are cached here allowing them to be resolved once per record
+            // These are cached here allowing them to be resolved once per schema
             this.type = dialect.getSchemaType(schema);
             this.typeName = type.getTypeName(dialect, schema, key);
 
@@ -238,16 +389,36 @@ public String getTypeName() {
         }
 
         public String getQueryBinding(ColumnDescriptor column, Object value) {
-            if (queryBinding == null) {
-                queryBinding = type.getQueryBinding(column, schema, value);
+            if (type.isQueryBindingValueDependent()) {
+                return type.getQueryBinding(column, schema, value);
+            }
+            // Descriptors are shared across records, so the binding is only reused for the same column
+            QueryBinding binding = queryBinding;
+            if (binding == null || binding.column != column) {
+                binding = new QueryBinding(column, type.getQueryBinding(column, schema, value));
+                queryBinding = binding;
             }
-            return queryBinding;
+            return binding.sql;
         }
 
         public List<ValueBindDescriptor> bind(int startIndex, Object value) {
             return type.bind(startIndex, schema, value);
         }
 
+        public int bind(QueryBinder query, int startIndex, Object value) {
+            return type.bind(query, startIndex, schema, value);
+        }
+
+        private static class QueryBinding {
+            private final ColumnDescriptor column;
+            private final String sql;
+
+            QueryBinding(ColumnDescriptor column, String sql) {
+                this.column = column;
+                this.sql = sql;
+            }
+        }
+
         @Override
         public String toString() {
             return "FieldDescriptor{" +
@@ -273,11 +444,12 @@ public static class Builder {
         private FieldNameFilter fieldFilter = FieldFilterFactory.DEFAULT_FILTER;
         private SinkRecord sinkRecord;
         private DatabaseDialect dialect;
+        private ShapeCache shapeCache;
 
         // Internal build state
-        private final List<String> keyFieldNames = new ArrayList<>();
-        private final List<String> nonKeyFieldNames = new ArrayList<>();
-        private final Map<String, FieldDescriptor> allFields = new LinkedHashMap<>();
+        private List<String> keyFieldNames;
+        private List<String> nonKeyFieldNames;
+        private Map<String, FieldDescriptor> allFields;
 
         public Builder withDialect(DatabaseDialect dialect) {
             this.dialect = dialect;
@@ -304,18 +476,43 @@ public Builder withFieldFilters(FieldNameFilter fieldFilter) {
             return this;
         }
 
+        public Builder withShapeCache(ShapeCache shapeCache) {
+            this.shapeCache = shapeCache;
+            return this;
+        }
+
         public SinkRecordDescriptor build() {
             Objects.requireNonNull(primaryKeyMode, "The primary key mode must be provided.");
             Objects.requireNonNull(sinkRecord, "The sink record must be provided.");
 
             final boolean flattened = !isTombstone(sinkRecord) && isFlattened(sinkRecord);
             final boolean truncated = !flattened && isTruncateEvent(sinkRecord);
-            if (!truncated) {
-                readSinkRecordKeyData(sinkRecord, flattened);
-                readSinkRecordNonKeyData(sinkRecord, flattened);
+
+            final Shape shape;
+            if (truncated) {
+                shape = Shape.EMPTY;
+            }
+            else if (shapeCache != null && !PrimaryKeyMode.RECORD_HEADER.equals(primaryKeyMode)) {
+                // Header based keys are not described by the record schemas and cannot be shared
+                shape = shapeCache.get(sinkRecord, () -> readShape(sinkRecord, flattened));
+            }
+            else {
+                shape = readShape(sinkRecord, flattened);
             }
 
-            return new SinkRecordDescriptor(sinkRecord, sinkRecord.topic(), keyFieldNames, nonKeyFieldNames, allFields, flattened);
+            return new SinkRecordDescriptor(sinkRecord, sinkRecord.topic(), shape, flattened);
+        }
+
+        private Shape readShape(SinkRecord record, boolean flattened) {
+            keyFieldNames = new ArrayList<>();
+            nonKeyFieldNames = new ArrayList<>();
+            allFields = new LinkedHashMap<>();
+
+            readSinkRecordKeyData(record, flattened);
+            readSinkRecordNonKeyData(record, flattened);
+
+            return new Shape(Collections.unmodifiableList(keyFieldNames), Collections.unmodifiableList(nonKeyFieldNames),
+                    Collections.unmodifiableMap(allFields));
         }
 
         private boolean isFlattened(SinkRecord record) {
@@ -408,7 +605,8 @@ private void applyRecordValueAsPrimaryKey(SinkRecord record, boolean flattened)
                 recordFields = record.valueSchema().fields().stream();
             }
             else {
-                recordFields = ((Struct) record.value()).getStruct(Envelope.FieldName.AFTER).schema().fields().stream();
+                // Resolved from the schema rather than the value, as the shape is shared with records without an 'after' block
+                recordFields = valueSchema.field(Envelope.FieldName.AFTER).schema().fields().stream();
             }
 
             if (!primaryKeyFields.isEmpty()) {
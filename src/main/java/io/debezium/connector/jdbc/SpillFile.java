@@ -0,0 +1,276 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.common.record.TimestampType;
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaAndValue;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.header.ConnectHeaders;
+import org.apache.kafka.connect.header.Header;
+import org.apache.kafka.connect.json.JsonConverter;
+import org.apache.kafka.connect.json.JsonConverterConfig;
+import org.apache.kafka.connect.sink.SinkRecord;
+import org.apache.kafka.connect.storage.ConverterConfig;
+import org.apache.kafka.connect.storage.ConverterType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * An append-only file of serialized {@link SinkRecord}s, addressed by the position at which each
+ * record was appended.
+ *
+ * Keys, values and headers are serialized together with their schemas using the {@link JsonConverter},
+ * which caches the schemas it reads, so records read back share schema instances as they did when
+ * they were received. The converter writes the default value of a struct field that is {@code null},
+ * so the paths of such fields are written separately and set to {@code null} again when read back.
+ */
+class SpillFile implements AutoCloseable {
+
+    private static final int NULL_LENGTH = -1;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final Path path;
+    private final FileChannel channel;
+    private final JsonConverter keyConverter = new JsonConverter();
+    private final JsonConverter valueConverter = new JsonConverter();
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private final DataOutputStream output = new DataOutputStream(bytes);
+    private long size;
+
+    /**
+     * Creates a new spill file, which is deleted when closed.
+     *
+     * @param directory the directory of the file, should not be {@code null}
+     * @param prefix the prefix of the file name, should not be {@code null}
+     */
+    SpillFile(Path directory, String prefix) throws IOException {
+        this.path = Files.createTempFile(Files.createDirectories(directory), prefix, ".spill");
+        this.channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+        keyConverter.configure(Map.of(ConverterConfig.TYPE_CONFIG, ConverterType.KEY.getName(), JsonConverterConfig.SCHEMAS_ENABLE_CONFIG, true,
+                JsonConverterConfig.REPLACE_NULL_WITH_DEFAULT_CONFIG, false));
+        valueConverter.configure(Map.of(ConverterConfig.TYPE_CONFIG, ConverterType.VALUE.getName(), JsonConverterConfig.SCHEMAS_ENABLE_CONFIG, true,
+                JsonConverterConfig.REPLACE_NULL_WITH_DEFAULT_CONFIG, false));
+    }
+
+    /**
+     * Appends a record.
+     *
+     * @param record the record, should not be {@code null}
+     * @return the position of the record
+     */
+    long append(SinkRecord record) throws IOException {
+        bytes.reset();
+        output.writeInt(0);
+        output.writeUTF(record.topic());
+        output.writeInt(record.kafkaPartition());
+        output.writeLong(record.kafkaOffset());
+        output.writeBoolean(record.timestamp() != null);
+        output.writeLong(record.timestamp() != null ? record.timestamp() : 0L);
+        output.writeUTF(record.timestampType().name());
+        writeData(keyConverter, record.topic(), record.keySchema(), record.key());
+        writeData(valueConverter, record.topic(), record.valueSchema(), record.value());
+        output.writeInt(record.headers().size());
+        for (Header header : record.headers()) {
+            output.writeUTF(header.key());
+            writeData(valueConverter, record.topic(), header.schema(), header.value());
+        }
+        output.flush();
+
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+        // The length prefix excludes itself
+        buffer.putInt(0, buffer.capacity() - Integer.BYTES);
+        final long position = size;
+        while (buffer.hasRemaining()) {
+            size += channel.write(buffer, size);
+        }
+        return position;
+    }
+
+    /**
+     * Reads the record appended at the given position.
+     *
+     * @param position the position returned by {@link #append(SinkRecord)}
+     * @return the record
+     */
+    SinkRecord read(long position) throws IOException {
+        final ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+        readFully(length, position);
+        final ByteBuffer buffer = ByteBuffer.allocate(length.getInt(0));
+        readFully(buffer, position + Integer.BYTES);
+
+        final DataInputStream input = new DataInputStream(new ByteArrayInputStream(buffer.array()));
+        final String topic = input.readUTF();
+        final int partition = input.readInt();
+        final long offset = input.readLong();
+        final boolean hasTimestamp = input.readBoolean();
+        final long timestamp = input.readLong();
+        final TimestampType timestampType = TimestampType.valueOf(input.readUTF());
+        final SchemaAndValue key = readData(keyConverter, topic, input);
+        final SchemaAndValue value = readData(valueConverter, topic, input);
+        final ConnectHeaders headers = new ConnectHeaders();
+        for (int i = input.readInt(); i > 0; i--) {
+            final String headerKey = input.readUTF();
+            headers.add(headerKey, readData(valueConverter, topic, input));
+        }
+
+        return new SinkRecord(topic, partition, key.schema(), key.value(), value.schema(), value.value(), offset,
+                hasTimestamp ? timestamp : null, timestampType, headers);
+    }
+
+    /**
+     * @return the number of bytes appended since the file was created or last truncated
+     */
+    long size() {
+        return size;
+    }
+
+    /**
+     * Discards all appended records.
+     */
+    void truncate() throws IOException {
+        channel.truncate(0);
+        size = 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            keyConverter.close();
+            valueConverter.close();
+        }
+        finally {
+            channel.close();
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return path.toString();
+    }
+
+    private void writeData(JsonConverter converter, String topic, Schema schema, Object value) throws IOException {
+        if (value == null) {
+            // Converters reject null values of required schemas, as used by flattened deletes, so only the schema is written
+            output.writeBoolean(false);
+            writeBytes(schema != null ? converter.asJsonSchema(schema).toString().getBytes(StandardCharsets.UTF_8) : null);
+        }
+        else {
+            output.writeBoolean(true);
+            writeBytes(converter.fromConnectData(topic, schema, value));
+            writeNullFields(schema, value);
+        }
+    }
+
+    private static SchemaAndValue readData(JsonConverter converter, String topic, DataInputStream input) throws IOException {
+        final boolean hasValue = input.readBoolean();
+        final byte[] data = readBytes(input);
+        if (!hasValue) {
+            return new SchemaAndValue(data != null ? converter.asConnectSchema(OBJECT_MAPPER.readTree(data)) : null, null);
+        }
+        final SchemaAndValue schemaAndValue = converter.toConnectData(topic, data);
+        readNullFields(schemaAndValue.value(), input);
+        return schemaAndValue;
+    }
+
+    private void writeNullFields(Schema schema, Object value) throws IOException {
+        final List<int[]> paths = new ArrayList<>();
+        collectNullFields(schema, value, new int[0], paths);
+        output.writeInt(paths.size());
+        for (int[] path : paths) {
+            output.writeInt(path.length);
+            for (int index : path) {
+                output.writeInt(index);
+            }
+        }
+    }
+
+    /**
+     * Collects the field index paths of the optional struct fields that are {@code null} but have a default
+     * value, which {@link Struct#get(Field)} and thus the converter would replace by the default value.
+     */
+    private static void collectNullFields(Schema schema, Object value, int[] parentPath, List<int[]> paths) {
+        if (schema == null || schema.type() != Schema.Type.STRUCT || !(value instanceof Struct)) {
+            return;
+        }
+        final Struct struct = (Struct) value;
+        for (Field field : schema.fields()) {
+            final Object fieldValue = struct.getWithoutDefault(field.name());
+            if (fieldValue == null) {
+                if (field.schema().isOptional() && field.schema().defaultValue() != null) {
+                    paths.add(childPath(parentPath, field));
+                }
+            }
+            else if (field.schema().type() == Schema.Type.STRUCT) {
+                collectNullFields(field.schema(), fieldValue, childPath(parentPath, field), paths);
+            }
+        }
+    }
+
+    private static int[] childPath(int[] parentPath, Field field) {
+        final int[] path = Arrays.copyOf(parentPath, parentPath.length + 1);
+        path[parentPath.length] = field.index();
+        return path;
+    }
+
+    private static void readNullFields(Object value, DataInputStream input) throws IOException {
+        for (int i = input.readInt(); i > 0; i--) {
+            Struct struct = (Struct) value;
+            final int depth = input.readInt();
+            for (int j = 1; j < depth; j++) {
+                struct = (Struct) struct.getWithoutDefault(struct.schema().fields().get(input.readInt()).name());
+            }
+            struct.put(struct.schema().fields().get(input.readInt()), null);
+        }
+    }
+
+    private void writeBytes(byte[] value) throws IOException {
+        if (value == null) {
+            output.writeInt(NULL_LENGTH);
+        }
+        else {
+            output.writeInt(value.length);
+            output.write(value);
+        }
+    }
+
+    private static byte[] readBytes(DataInputStream input) throws IOException {
+        final int length = input.readInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        final byte[] value = new byte[length];
+        input.readFully(value);
+        return value;
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Unexpected end of spill file " + path + " at position " + position);
+            }
+        }
+    }
+}
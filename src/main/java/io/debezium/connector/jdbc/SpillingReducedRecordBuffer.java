@@ -0,0 +1,318 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.errors.ConnectException;
+import org.apache.kafka.connect.sink.SinkRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.util.Strings;
+
+/**
+ * A reduced implementation buffer of {@link SinkRecordDescriptor} that spills its changes to disk.
+ *
+ * Changes are reduced as by {@link ReducedRecordBuffer}, but once the estimated size of the changes held
+ * in memory reaches {@link JdbcSinkConnectorConfig#getReductionBufferSpillBytes()}, they are appended
+ * to a {@link SpillFile} and only their positions are retained per key. This allows reduction windows
+ * of up to {@link JdbcSinkConnectorConfig#getBatchSize()} keys without holding their changes in memory.
+ *
+ * A flush returns the reduced changes in parts, each of an estimated size of at most the spill size,
+ * in the same order as {@link ReducedRecordBuffer}. While {@link #hasPendingFlush()} is true, the
+ * remaining parts must be retrieved by calling {@link #flush()} before adding further changes.
+ */
+public class SpillingReducedRecordBuffer implements Buffer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SpillingReducedRecordBuffer.class);
+
+    private static final int PHASE_DELETES_BEFORE_WRITES = 0;
+    private static final int PHASE_DELETES = 1;
+    private static final int PHASE_WRITES = 2;
+    private static final int PHASE_DONE = 3;
+
+    private final JdbcSinkConnectorConfig connectorConfig;
+    private final String name;
+    private final Function<SinkRecord, SinkRecordDescriptor> descriptorFactory;
+    private Schema keySchema;
+    private Schema valueSchema;
+
+    private final ReductionKeyMap keys = new ReductionKeyMap();
+    // The changes of each key, by key position
+    private final List<Entry> entries = new ArrayList<>();
+    // The entries holding changes in memory
+    private final List<Entry> heapEntries = new ArrayList<>();
+    private long heapSize;
+    private SpillFile spillFile;
+
+    private int drainPhase = PHASE_DONE;
+    private int drainIndex;
+    // A change of a different schema, added once the buffered changes have been returned
+    private SinkRecordDescriptor pendingRecord;
+
+    /**
+     * @param connectorConfig the connector configuration, should not be {@code null}
+     * @param name the name of the buffer, used to name its spill file
+     * @param descriptorFactory creates the descriptors of records read back from the spill file
+     */
+    public SpillingReducedRecordBuffer(JdbcSinkConnectorConfig connectorConfig, String name, Function<SinkRecord, SinkRecordDescriptor> descriptorFactory) {
+        this.connectorConfig = connectorConfig;
+        this.name = name;
+        this.descriptorFactory = descriptorFactory;
+    }
+
+    @Override
+    public List<SinkRecordDescriptor> add(SinkRecordDescriptor recordDescriptor) {
+        if (hasPendingFlush()) {
+            throw new IllegalStateException("Cannot add changes to buffer '" + name + "' until all parts of its flush have been returned");
+        }
+
+        if (entries.isEmpty()) {
+            keySchema = recordDescriptor.getKeySchema();
+            valueSchema = null;
+        }
+        if (valueSchema == null && !recordDescriptor.isDelete()) {
+            valueSchema = recordDescriptor.getValueSchema();
+        }
+
+        // Deletes only use the key, so their value schema does not need to match the buffered writes
+        if (!Objects.equals(keySchema, recordDescriptor.getKeySchema())
+                || (!recordDescriptor.isDelete() && !Objects.equals(valueSchema, recordDescriptor.getValueSchema()))) {
+            keySchema = recordDescriptor.getKeySchema();
+            valueSchema = recordDescriptor.isDelete() ? null : recordDescriptor.getValueSchema();
+            // The change is only added once the buffered changes have been returned
+            pendingRecord = recordDescriptor;
+            return flush();
+        }
+
+        reduce(recordDescriptor);
+
+        if (keys.size() >= connectorConfig.getBatchSize()) {
+            return flush();
+        }
+        return new ArrayList<>();
+    }
+
+    @Override
+    public List<SinkRecordDescriptor> flush() {
+        if (drainPhase == PHASE_DONE) {
+            if (entries.isEmpty()) {
+                return new ArrayList<>();
+            }
+            drainPhase = PHASE_DELETES_BEFORE_WRITES;
+            drainIndex = 0;
+            if (spillFile != null && spillFile.size() > 0) {
+                LOGGER.debug("Flushing {} keys of buffer '{}' with {} bytes spilled to {}.", entries.size(), name, spillFile.size(), spillFile);
+            }
+        }
+
+        final long maxPartSize = getMaxPartSize();
+        final List<SinkRecordDescriptor> flushed = new ArrayList<>();
+        long flushedSize = 0;
+        while (drainPhase != PHASE_DONE && flushedSize < maxPartSize) {
+            if (drainIndex == entries.size()) {
+                drainPhase++;
+                drainIndex = 0;
+                continue;
+            }
+            final Entry entry = entries.get(drainIndex++);
+            final SinkRecordDescriptor record;
+            switch (drainPhase) {
+                case PHASE_DELETES_BEFORE_WRITES:
+                    record = entry.hasDeleteBeforeWrite() ? read(entry.deleteBeforeWrite, entry.deleteBeforeWritePosition) : null;
+                    break;
+                case PHASE_DELETES:
+                    record = entry.delete ? read(entry.change, entry.changePosition) : null;
+                    break;
+                default:
+                    record = !entry.delete ? read(entry.change, entry.changePosition) : null;
+            }
+            if (record != null) {
+                flushed.add(record);
+                flushedSize += record.getEstimatedSize();
+            }
+        }
+
+        if (drainPhase == PHASE_DONE) {
+            clear();
+            if (pendingRecord != null) {
+                reduce(pendingRecord);
+                pendingRecord = null;
+            }
+        }
+        return flushed;
+    }
+
+    @Override
+    public boolean hasPendingFlush() {
+        return drainPhase != PHASE_DONE;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    @Override
+    public long getEstimatedSize() {
+        return heapSize;
+    }
+
+    @Override
+    public void close() {
+        drainPhase = PHASE_DONE;
+        pendingRecord = null;
+        keys.clear();
+        entries.clear();
+        heapEntries.clear();
+        heapSize = 0;
+        if (spillFile != null) {
+            try {
+                spillFile.close();
+            }
+            catch (IOException e) {
+                LOGGER.warn("Failed to delete spill file {} of buffer '{}'", spillFile, name, e);
+            }
+            spillFile = null;
+        }
+    }
+
+    private void reduce(SinkRecordDescriptor recordDescriptor) {
+        final Struct keyStruct = recordDescriptor.getKeyStruct(connectorConfig.getPrimaryKeyMode());
+        if (keyStruct == null) {
+            throw new ConnectException("No struct-based primary key defined for record key/value, reduction buffer require struct based primary key");
+        }
+
+        final int index = keys.indexOf(keyStruct, recordDescriptor.getKeyFieldNames());
+        final Entry entry;
+        if (index == entries.size()) {
+            entry = new Entry();
+            entries.add(entry);
+        }
+        else {
+            entry = entries.get(index);
+        }
+
+        if (recordDescriptor.isDelete()) {
+            // The delete removes the row regardless of any earlier delete
+            if (entry.deleteBeforeWrite != null) {
+                heapSize -= entry.deleteBeforeWrite.getEstimatedSize();
+            }
+            entry.deleteBeforeWrite = null;
+            entry.deleteBeforeWritePosition = -1;
+        }
+        else if (entry.hasChange() && entry.delete && !entry.hasDeleteBeforeWrite()) {
+            entry.deleteBeforeWrite = entry.change;
+            entry.deleteBeforeWritePosition = entry.changePosition;
+            entry.change = null;
+        }
+
+        if (entry.change != null) {
+            heapSize -= entry.change.getEstimatedSize();
+        }
+        entry.change = recordDescriptor;
+        entry.changePosition = -1;
+        entry.delete = recordDescriptor.isDelete();
+        heapSize += recordDescriptor.getEstimatedSize();
+        if (!entry.inHeap) {
+            entry.inHeap = true;
+            heapEntries.add(entry);
+        }
+
+        if (heapSize >= connectorConfig.getReductionBufferSpillBytes()) {
+            spill();
+        }
+    }
+
+    private void spill() {
+        try {
+            if (spillFile == null) {
+                final String directory = connectorConfig.getReductionBufferSpillDirectory();
+                spillFile = new SpillFile(Path.of(Strings.isNullOrBlank(directory) ? System.getProperty("java.io.tmpdir") : directory), "dbz-reduction-");
+            }
+            for (Entry entry : heapEntries) {
+                if (entry.change != null) {
+                    entry.changePosition = spillFile.append(entry.change.getRecord());
+                    entry.change = null;
+                }
+                if (entry.deleteBeforeWrite != null) {
+                    entry.deleteBeforeWritePosition = spillFile.append(entry.deleteBeforeWrite.getRecord());
+                    entry.deleteBeforeWrite = null;
+                }
+                entry.inHeap = false;
+            }
+            LOGGER.trace("Spilled {} keys of buffer '{}', {} bytes spilled to {}.", heapEntries.size(), name, spillFile.size(), spillFile);
+        }
+        catch (IOException e) {
+            throw new ConnectException("Failed to spill the changes of buffer '" + name + "'", e);
+        }
+        heapEntries.clear();
+        heapSize = 0;
+    }
+
+    private SinkRecordDescriptor read(SinkRecordDescriptor recordDescriptor, long position) {
+        if (recordDescriptor != null) {
+            return recordDescriptor;
+        }
+        try {
+            return descriptorFactory.apply(spillFile.read(position));
+        }
+        catch (IOException e) {
+            throw new ConnectException("Failed to read the spilled changes of buffer '" + name + "'", e);
+        }
+    }
+
+    private void clear() {
+        keys.clear();
+        entries.clear();
+        heapEntries.clear();
+        heapSize = 0;
+        if (spillFile != null && spillFile.size() > 0) {
+            try {
+                spillFile.truncate();
+            }
+            catch (IOException e) {
+                throw new ConnectException("Failed to truncate the spill file of buffer '" + name + "'", e);
+            }
+        }
+    }
+
+    private long getMaxPartSize() {
+        final long batchMaxBytes = connectorConfig.getBatchMaxBytes();
+        final long spillBytes = connectorConfig.getReductionBufferSpillBytes();
+        return batchMaxBytes > 0 ? Math.min(batchMaxBytes, spillBytes) : spillBytes;
+    }
+
+    /**
+     * The last change of a key and the delete to apply before it, each either held in memory or
+     * identified by its position in the spill file.
+     */
+    private static class Entry {
+
+        private SinkRecordDescriptor change;
+        private long changePosition = -1;
+        private boolean delete;
+        private SinkRecordDescriptor deleteBeforeWrite;
+        private long deleteBeforeWritePosition = -1;
+        private boolean inHeap;
+
+        boolean hasChange() {
+            return change != null || changePosition >= 0;
+        }
+
+        boolean hasDeleteBeforeWrite() {
+            return deleteBeforeWrite != null || deleteBeforeWritePosition >= 0;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.apache.kafka.connect.data.Schema;
+
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.connector.jdbc.JdbcSinkConnectorConfig.InsertMode;
+import io.debezium.connector.jdbc.SinkRecordDescriptor.FieldDescriptor;
+import io.debezium.connector.jdbc.relational.TableDescriptor;
+import io.debezium.connector.jdbc.relational.TableId;
+
+/**
+ * A bounded, least-recently-used cache of {@link CompiledStatement}s keyed by the destination table,
+ * the operation, the insert mode and the shape of the record's key and value schemas.
+ *
+ * Cached statements are only reused while the destination table's relational model is unchanged.
+ * Statements for records with fields whose query binding depends on the bound value are never cached.
+ */
+@ThreadSafe
+public class StatementCache {
+
+    public static final int DEFAULT_MAX_SIZE = 512;
+
+    private final Map<StatementKey, Entry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public StatementCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public StatementCache(int maxSize) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<StatementKey, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the compiled statement for the given table and record, compiling it when needed.
+     *
+     * @param table the destination table, should not be {@code null}
+     * @param record the first record of the batch, should not be {@code null}
+     * @param insertMode the insert mode, should not be {@code null}
+     * @param compiler compiles the statement on a cache miss, should not be {@code null}
+     * @return the compiled statement, never {@code null}
+     */
+    public CompiledStatement get(TableDescriptor table, SinkRecordDescriptor record, InsertMode insertMode, Supplier<CompiledStatement> compiler) {
+        if (hasValueDependentQueryBinding(record)) {
+            misses.increment();
+            return compiler.get();
+        }
+
+        final StatementKey key = new StatementKey(table.getId(), record, insertMode);
+        synchronized (entries) {
+            final Entry entry = entries.get(key);
+            if (entry != null && entry.table == table) {
+                hits.increment();
+                return entry.statement;
+            }
+        }
+
+        misses.increment();
+        final CompiledStatement statement = compiler.get();
+        synchronized (entries) {
+            entries.put(key, new Entry(table, statement));
+        }
+        return statement;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    static boolean hasValueDependentQueryBinding(SinkRecordDescriptor record) {
+        for (FieldDescriptor field : record.getFields().values()) {
+            if (field.getType().isQueryBindingValueDependent()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class Entry {
+        private final TableDescriptor table;
+        private final CompiledStatement statement;
+
+        Entry(TableDescriptor table, CompiledStatement statement) {
+            this.table = table;
+            this.statement = statement;
+        }
+    }
+
+    private static class StatementKey {
+        private final TableId tableId;
+        private final boolean delete;
+        private final InsertMode insertMode;
+        private final Schema keySchema;
+        private final Schema valueSchema;
+        private final List<String> keyFieldNames;
+        private final List<String> nonKeyFieldNames;
+        private final int hashCode;
+
+        StatementKey(TableId tableId, SinkRecordDescriptor record, InsertMode insertMode) {
+            this.tableId = tableId;
+            this.delete = record.isDelete();
+            this.insertMode = insertMode;
+            this.keySchema = record.getKeySchema();
+            this.valueSchema = record.getValueSchema();
+            // Key fields may be sourced from headers and fields may be filtered per topic,
+            // neither of which is reflected by the record schemas
+            this.keyFieldNames = record.getKeyFieldNames();
+            this.nonKeyFieldNames = record.getNonKeyFieldNames();
+            this.hashCode = Objects.hash(tableId, delete, insertMode, keySchema, valueSchema, keyFieldNames, nonKeyFieldNames);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final StatementKey that = (StatementKey) o;
+            return hashCode == that.hashCode
+                    && delete == that.delete
+                    && insertMode == that.insertMode
+                    && Objects.equals(tableId, that.tableId)
+                    && Objects.equals(keySchema, that.keySchema)
+                    && Objects.equals(valueSchema, that.valueSchema)
+                    && Objects.equals(keyFieldNames, that.keyFieldNames)
+                    && Objects.equals(nonKeyFieldNames, that.nonKeyFieldNames);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
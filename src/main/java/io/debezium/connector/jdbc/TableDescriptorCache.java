@@ -0,0 +1,166 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.kafka.connect.data.Schema;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.connector.jdbc.dialect.DatabaseDialect;
+import io.debezium.connector.jdbc.relational.TableDescriptor;
+import io.debezium.connector.jdbc.relational.TableId;
+import io.debezium.util.Clock;
+
+/**
+ * A per-task cache of {@link TableDescriptor} instances keyed by {@link TableId}.
+ *
+ * Resolving a table's relational model requires several round trips to the database metadata,
+ * which is expensive on some databases. Entries are only served when the incoming record's fields
+ * can be mapped to the cached columns; otherwise the entry is considered stale and the caller
+ * is expected to re-read the table, applying any schema changes if needed.
+ */
+public class TableDescriptorCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TableDescriptorCache.class);
+
+    private final DatabaseDialect dialect;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final Map<TableId, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public TableDescriptorCache(DatabaseDialect dialect, long ttlMillis) {
+        this(dialect, ttlMillis, Clock.system());
+    }
+
+    public TableDescriptorCache(DatabaseDialect dialect, long ttlMillis, Clock clock) {
+        this.dialect = dialect;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the cached table for the given identifier, if the cached relational model is still
+     * valid for the provided record.
+     *
+     * @param tableId the table identifier, should not be {@code null}
+     * @param record the record about to be written, should not be {@code null}
+     * @return the cached table descriptor or {@code null} if the table must be resolved from the database
+     */
+    public TableDescriptor get(TableId tableId, SinkRecordDescriptor record) {
+        if (!isEnabled()) {
+            misses.increment();
+            return null;
+        }
+
+        final Entry entry = entries.get(tableId);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+
+        if (ttlMillis > 0 && clock.currentTimeInMillis() - entry.createdAt >= ttlMillis) {
+            LOGGER.debug("Cached table metadata for '{}' expired.", tableId.toFullIdentiferString());
+            entries.remove(tableId, entry);
+            misses.increment();
+            return null;
+        }
+
+        if (!entry.isValidatedFor(record)) {
+            if (!entry.fieldNames.equals(record.getFields().keySet())) {
+                final Set<String> missingFields = dialect.resolveMissingFields(record, entry.table);
+                if (!missingFields.isEmpty()) {
+                    LOGGER.debug("Cached table metadata for '{}' is missing fields {}.", tableId.toFullIdentiferString(), missingFields);
+                    entries.remove(tableId, entry);
+                    misses.increment();
+                    return null;
+                }
+            }
+            // The record shape maps onto the cached columns, remember it to avoid re-validating
+            entries.replace(tableId, entry, entry.validatedFor(record));
+        }
+
+        hits.increment();
+        return entry.table;
+    }
+
+    /**
+     * Stores the resolved table, which has been validated against the provided record.
+     *
+     * @param tableId the table identifier, should not be {@code null}
+     * @param table the table read from the database, should not be {@code null}
+     * @param record the record the table was validated against, should not be {@code null}
+     */
+    public void put(TableId tableId, TableDescriptor table, SinkRecordDescriptor record) {
+        if (isEnabled()) {
+            entries.put(tableId, new Entry(table, record, clock.currentTimeInMillis()));
+        }
+    }
+
+    /**
+     * Removes the cached table, if one exists.
+     *
+     * @param tableId the table identifier, should not be {@code null}
+     */
+    public void invalidate(TableId tableId) {
+        if (entries.remove(tableId) != null) {
+            LOGGER.debug("Invalidated cached table metadata for '{}'.", tableId.toFullIdentiferString());
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private boolean isEnabled() {
+        return ttlMillis != 0;
+    }
+
+    private static class Entry {
+        private final TableDescriptor table;
+        private final Set<String> fieldNames;
+        private final Schema keySchema;
+        private final Schema valueSchema;
+        private final long createdAt;
+
+        Entry(TableDescriptor table, SinkRecordDescriptor record, long createdAt) {
+            this(table, Set.copyOf(record.getFields().keySet()), record.getKeySchema(), record.getValueSchema(), createdAt);
+        }
+
+        Entry(TableDescriptor table, Set<String> fieldNames, Schema keySchema, Schema valueSchema, long createdAt) {
+            this.table = table;
+            this.fieldNames = fieldNames;
+            this.keySchema = keySchema;
+            this.valueSchema = valueSchema;
+            this.createdAt = createdAt;
+        }
+
+        boolean isValidatedFor(SinkRecordDescriptor record) {
+            // Converters reuse schema instances, so a reference check is the common fast path
+            return (keySchema == record.getKeySchema() && valueSchema == record.getValueSchema())
+                    || (Objects.equals(keySchema, record.getKeySchema()) && Objects.equals(valueSchema, record.getValueSchema()));
+        }
+
+        Entry validatedFor(SinkRecordDescriptor record) {
+            return new Entry(table, fieldNames, record.getKeySchema(), record.getValueSchema(), createdAt);
+        }
+    }
+}
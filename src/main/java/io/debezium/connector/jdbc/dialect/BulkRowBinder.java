@@ -0,0 +1,140 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc.dialect;
+
+import java.sql.Types;
+
+import io.debezium.connector.jdbc.BindPlan;
+import io.debezium.connector.jdbc.QueryBinder;
+import io.debezium.connector.jdbc.SinkRecordDescriptor;
+import io.debezium.connector.jdbc.ValueBindDescriptor;
+
+/**
+ * Captures the values the registered types bind for a record as a row of column values, for use by
+ * {@link BulkWriter} implementations.
+ *
+ * A row can only be captured when every field binds exactly one non-array parameter.
+ */
+public class BulkRowBinder implements QueryBinder {
+
+    private final int columns;
+    private final int trailingColumns;
+    private Object[] row;
+    private boolean unsupported;
+
+    /**
+     * @param columns the number of columns bound by the bind plan
+     * @param trailingColumns the number of additional columns left for the caller to populate
+     */
+    public BulkRowBinder(int columns, int trailingColumns) {
+        this.columns = columns;
+        this.trailingColumns = trailingColumns;
+    }
+
+    /**
+     * Binds the record's values into a new row.
+     *
+     * @param bindPlan the bind plan, should not be {@code null}
+     * @param record the record to bind, should not be {@code null}
+     * @param dialect the database dialect, should not be {@code null}
+     * @return the row with the bound values followed by the trailing columns, or {@code null} if the
+     *         record's values cannot be captured as a single value per column
+     */
+    public Object[] bind(BindPlan bindPlan, SinkRecordDescriptor record, DatabaseDialect dialect) {
+        row = new Object[columns + trailingColumns];
+        unsupported = false;
+        final int nextIndex = bindPlan.bind(record, this, dialect);
+        return unsupported || nextIndex != columns + 1 ? null : row;
+    }
+
+    @Override
+    public void bind(ValueBindDescriptor valueBindDescriptor) {
+        final int position = valueBindDescriptor.getIndex() - 1;
+        if (position < 0 || position >= columns || Integer.valueOf(Types.ARRAY).equals(valueBindDescriptor.getTargetSqlType())) {
+            unsupported = true;
+            return;
+        }
+        row[position] = valueBindDescriptor.getValue();
+    }
+
+    @Override
+    public void setNull(int index) {
+        put(index, null);
+    }
+
+    @Override
+    public void setBoolean(int index, boolean value) {
+        put(index, value);
+    }
+
+    @Override
+    public void setByte(int index, byte value) {
+        put(index, value);
+    }
+
+    @Override
+    public void setShort(int index, short value) {
+        put(index, value);
+    }
+
+    @Override
+    public void setInt(int index, int value) {
+        put(index, value);
+    }
+
+    @Override
+    public void setLong(int index, long value) {
+        put(index, value);
+    }
+
+    @Override
+    public void setFloat(int index, float value) {
+        put(index, value);
+    }
+
+    @Override
+    public void setDouble(int index, double value) {
+        put(index, value);
+    }
+
+    @Override
+    public void setString(int index, String value) {
+        put(index, value);
+    }
+
+    @Override
+    public void setBytes(int index, byte[] value) {
+        put(index, value);
+    }
+
+    @Override
+    public void setObject(int index, Object value) {
+        put(index, value);
+    }
+
+    @Override
+    public void setObject(int index, Object value, int targetSqlType) {
+        if (targetSqlType == Types.ARRAY) {
+            unsupported = true;
+            return;
+        }
+        put(index, value);
+    }
+
+    @Override
+    public void setArray(int index, Object value, String elementTypeName) {
+        unsupported = true;
+    }
+
+    private void put(int index, Object value) {
+        final int position = index - 1;
+        if (position < 0 || position >= columns) {
+            unsupported = true;
+            return;
+        }
+        row[position] = value;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc.dialect;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import io.debezium.connector.jdbc.BindPlan;
+import io.debezium.connector.jdbc.SinkRecordDescriptor;
+
+/**
+ * A database-specific writer that applies a batch of records using a native bulk loading
+ * mechanism rather than a batched prepared statement.
+ *
+ * A bulk writer is bound to a single destination table and batch shape, see
+ * {@link DatabaseDialect#getBulkWriter(io.debezium.connector.jdbc.relational.TableDescriptor, SinkRecordDescriptor)}.
+ */
+public interface BulkWriter {
+
+    /**
+     * Writes the records to the destination table.
+     *
+     * Implementations must not apply any changes when returning {@code false}, so that the caller
+     * can write the same records using the batched prepared statement instead.
+     *
+     * @param connection the database connection, should not be {@code null}
+     * @param bindPlan the plan used to bind the record values, should not be {@code null}
+     * @param records the records to write, should not be {@code null} or empty
+     * @return true if the records were written; false if they cannot be written by this writer
+     * @throws SQLException if a database exception occurs
+     */
+    boolean write(Connection connection, BindPlan bindPlan, List<SinkRecordDescriptor> records) throws SQLException;
+}
@@ -7,14 +7,18 @@
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
 import java.time.temporal.TemporalAccessor;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import org.apache.kafka.connect.data.Schema;
 import org.hibernate.dialect.DatabaseVersion;
 import org.hibernate.engine.jdbc.Size;
 
+import io.debezium.connector.jdbc.QueryBinder;
 import io.debezium.connector.jdbc.SinkRecordDescriptor;
 import io.debezium.connector.jdbc.SinkRecordDescriptor.FieldDescriptor;
 import io.debezium.connector.jdbc.ValueBindDescriptor;
@@ -150,6 +154,45 @@ public interface DatabaseDialect {
      */
     String getUpsertStatement(TableDescriptor table, SinkRecordDescriptor record);
 
+    /**
+     * Gets the maximum number of rows applied by a single multi-row statement, bounded by the limits of the
+     * database on the number of bind parameters and on the size of the statement.
+     *
+     * Dialects returning more than {@code 1} must implement {@link #getMultiRowInsertStatement} and
+     * {@link #getMultiRowUpsertStatement}, which are not called for other dialects.
+     *
+     * @param parametersPerRow the number of parameters bound per row, greater than 0
+     * @return the maximum number of rows, or {@code 1} if the dialect does not generate multi-row
+     *         statements (the default)
+     */
+    default int getMaxRowsPerStatement(int parametersPerRow) {
+        return 1;
+    }
+
+    /**
+     * Construct a {@code INSERT INTO} statement specific for this dialect that inserts several rows, only
+     * called when {@link #getMaxRowsPerStatement(int)} allows more than one row.
+     *
+     * @param table the current relational table model, should not be {@code null}
+     * @param record the current sink record being processed, should not be {@code null}
+     * @param rows the number of rows inserted by the statement, greater than 1
+     * @return the multi-row insert SQL statement to be executed, never {@code null}
+     */
+    String getMultiRowInsertStatement(TableDescriptor table, SinkRecordDescriptor record, int rows);
+
+    /**
+     * Construct a {@code UPSERT} statement specific for this dialect that upserts several rows, only
+     * called when {@link #getMaxRowsPerStatement(int)} allows more than one row.
+     *
+     * The rows bound to the statement never share the same key.
+     *
+     * @param table the current relational table model, should not be {@code null}
+     * @param record the current sink record being processed, should not be {@code null}
+     * @param rows the number of rows upserted by the statement, greater than 1
+     * @return the multi-row upsert SQL statement to be executed, never {@code null}
+     */
+    String getMultiRowUpsertStatement(TableDescriptor table, SinkRecordDescriptor record, int rows);
+
     /**
      * Construct a {@code UPDATE} statement specific for this dialect.
      *
@@ -383,4 +426,65 @@ default String getTimeQueryBinding() {
      * @return the list of bounded values
      */
     List<ValueBindDescriptor> bindValue(FieldDescriptor field, int startIndex, Object value);
+
+    /**
+     * Bind the specified value directly to the query.
+     *
+     * @param field      the field being bound, should never be {@code null}
+     * @param query      the query binder, should never be {@code null}
+     * @param startIndex the starting index of the parameter binding
+     * @param value      the value to be bound, may be {@code null}
+     * @return the number of bound parameters
+     */
+    default int bindValue(FieldDescriptor field, QueryBinder query, int startIndex, Object value) {
+        final List<ValueBindDescriptor> boundValues = bindValue(field, startIndex, value);
+        for (ValueBindDescriptor boundValue : boundValues) {
+            query.bind(boundValue);
+        }
+        return boundValues.size();
+    }
+
+    /**
+     * Returns whether a statement that failed with the given exception may succeed when retried, for example
+     * after a deadlock, a serialization failure, a lock timeout or a lost connection. Dialects recognize the
+     * vendor specific error codes of such failures in addition to the standard SQL states.
+     *
+     * @param exception the exception, should not be {@code null}
+     * @return {@code true} if the failure is transient, {@code false} if retrying would fail the same way
+     */
+    default boolean isTransientError(SQLException exception) {
+        if (exception instanceof SQLTransientException || exception instanceof SQLRecoverableException) {
+            return true;
+        }
+        // Connection exceptions (class 08) and transaction rollbacks such as deadlocks and serialization failures (class 40)
+        final String sqlState = exception.getSQLState();
+        return sqlState != null && (sqlState.startsWith("08") || sqlState.startsWith("40"));
+    }
+
+    /**
+     * Returns whether a statement failed with the given exception because of the values it writes, such as a
+     * constraint violation or a value that does not fit the column, so that the same values fail again while
+     * other values succeed. Failures of the statement itself, such as a missing table or column, a missing
+     * privilege or a read-only database, are not record errors. Dialects recognize the vendor specific error
+     * codes of such failures in addition to the standard SQL states.
+     *
+     * @param exception the exception, should not be {@code null}
+     * @return {@code true} if the failure is caused by the values written, {@code false} otherwise
+     */
+    default boolean isRecordError(SQLException exception) {
+        // Data exceptions (class 22) and integrity constraint violations (class 23)
+        final String sqlState = exception.getSQLState();
+        return sqlState != null && (sqlState.startsWith("22") || sqlState.startsWith("23"));
+    }
+
+    /**
+     * Resolves a writer that applies batches using a native bulk loading mechanism.
+     *
+     * @param table the current relational table model, should not be {@code null}
+     * @param record the first record of the batch, should not be {@code null}
+     * @return the bulk writer to use for the batch, or empty to use batched prepared statements (the default)
+     */
+    default Optional<BulkWriter> getBulkWriter(TableDescriptor table, SinkRecordDescriptor record) {
+        return Optional.empty();
+    }
 }
@@ -45,6 +45,7 @@
 
 import io.debezium.DebeziumException;
 import io.debezium.connector.jdbc.JdbcSinkConnectorConfig;
+import io.debezium.connector.jdbc.QueryBinder;
 import io.debezium.connector.jdbc.SinkRecordDescriptor;
 import io.debezium.connector.jdbc.SinkRecordDescriptor.FieldDescriptor;
 import io.debezium.connector.jdbc.ValueBindDescriptor;
@@ -365,11 +366,55 @@ public String getInsertStatement(TableDescriptor table, SinkRecordDescriptor rec
         return builder.build();
     }
 
+    @Override
+    public String getMultiRowInsertStatement(TableDescriptor table, SinkRecordDescriptor record, int rows) {
+        final SqlStatementBuilder builder = new SqlStatementBuilder();
+        builder.append("INSERT INTO ");
+
+        builder.append(getQualifiedTableName(table.getId()));
+        builder.append(" (");
+
+        builder.appendLists(", ", record.getKeyFieldNames(), record.getNonKeyFieldNames(), (name) -> columnNameFromField(name, record));
+
+        builder.append(") VALUES ");
+
+        appendMultiRowValues(builder, table, record, rows);
+
+        return builder.build();
+    }
+
     @Override
     public String getUpsertStatement(TableDescriptor table, SinkRecordDescriptor record) {
         throw new UnsupportedOperationException("Upsert configurations are not supported for this dialect");
     }
 
+    @Override
+    public String getMultiRowUpsertStatement(TableDescriptor table, SinkRecordDescriptor record, int rows) {
+        throw new UnsupportedOperationException("Upsert configurations are not supported for this dialect");
+    }
+
+    /**
+     * Appends {@code rows} parenthesized lists of the key and non-key field query bindings, separated by commas.
+     *
+     * @param builder the statement builder, should not be {@code null}
+     * @param table the current relational table model, should not be {@code null}
+     * @param record the current sink record being processed, should not be {@code null}
+     * @param rows the number of rows
+     */
+    protected void appendMultiRowValues(SqlStatementBuilder builder, TableDescriptor table, SinkRecordDescriptor record, int rows) {
+        final String row = new SqlStatementBuilder()
+                .append("(")
+                .appendLists(", ", record.getKeyFieldNames(), record.getNonKeyFieldNames(), (name) -> columnQueryBindingFromField(name, table, record))
+                .append(")")
+                .build();
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(row);
+        }
+    }
+
     @Override
     public String getUpdateStatement(TableDescriptor table, SinkRecordDescriptor record) {
         final SqlStatementBuilder builder = new SqlStatementBuilder();
@@ -420,6 +465,14 @@ public List<ValueBindDescriptor> bindValue(FieldDescriptor field, int startIndex
         return field.bind(startIndex, value);
     }
 
+    @Override
+    public int bindValue(FieldDescriptor field, QueryBinder query, int startIndex, Object value) {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace("Bind field '{}' at position {} with type {}: {}", field.getName(), startIndex, field.getType().getClass().getName(), value);
+        }
+        return field.bind(query, startIndex, value);
+    }
+
     @Override
     public int getMaxVarcharLengthInKey() {
         return dialect.getMaxVarcharLength();
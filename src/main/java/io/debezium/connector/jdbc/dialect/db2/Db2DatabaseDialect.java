@@ -5,6 +5,7 @@
  */
 package io.debezium.connector.jdbc.dialect.db2;
 
+import java.sql.SQLException;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
@@ -41,6 +42,10 @@
  */
 public class Db2DatabaseDialect extends GeneralDatabaseDialect {
 
+    private static final int MAX_QUERY_PARAMETERS = 32767;
+    // Bounds the VALUES list of a multi-row MERGE, so that it remains cheap to prepare
+    private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
     private static final DateTimeFormatter ISO_LOCAL_DATE_TIME_WITH_SPACE = new DateTimeFormatterBuilder()
             .parseCaseInsensitive()
             .append(DateTimeFormatter.ISO_LOCAL_DATE)
@@ -138,14 +143,31 @@ public String getTimestampNegativeInfinityValue() {
         return "0001-01-01T00:00:00+00:00";
     }
 
+    @Override
+    public int getMaxRowsPerStatement(int parametersPerRow) {
+        return Math.max(1, Math.min(MAX_ROWS_PER_STATEMENT, MAX_QUERY_PARAMETERS / parametersPerRow));
+    }
+
     @Override
     public String getUpsertStatement(TableDescriptor table, SinkRecordDescriptor record) {
+        return getMultiRowUpsertStatement(table, record, 1);
+    }
+
+    @Override
+    public String getMultiRowUpsertStatement(TableDescriptor table, SinkRecordDescriptor record, int rows) {
         final SqlStatementBuilder builder = new SqlStatementBuilder();
         builder.append("merge into ");
         builder.append(getQualifiedTableName(table.getId()));
-        builder.append(" using (values(");
-        builder.appendLists(record.getKeyFieldNames(), record.getNonKeyFieldNames(), (name) -> columnQueryBindingFromField(name, table, record));
-        builder.append(")) as DAT(");
+        builder.append(" using (values");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                builder.append(",");
+            }
+            builder.append("(");
+            builder.appendLists(record.getKeyFieldNames(), record.getNonKeyFieldNames(), (name) -> columnQueryBindingFromField(name, table, record));
+            builder.append(")");
+        }
+        builder.append(") as DAT(");
         builder.appendLists(record.getKeyFieldNames(), record.getNonKeyFieldNames(), (name) -> columnNameFromField(name, record));
         builder.append(") on ");
         builder.appendList(" AND ", record.getKeyFieldNames(), (name) -> getMergeDatClause(name, table, record));
@@ -219,6 +241,19 @@ protected String resolveColumnNameFromField(String fieldName) {
         return columnName;
     }
 
+    @Override
+    public boolean isTransientError(SQLException exception) {
+        // Deadlock or lock timeout (SQLCODE -911), deadlock or timeout without rollback (-913) and lost connections (-4499)
+        switch (exception.getErrorCode()) {
+            case -911:
+            case -913:
+            case -4499:
+                return true;
+            default:
+                return super.isTransientError(exception);
+        }
+    }
+
     @Override
     public String getTruncateStatement(TableDescriptor table) {
         // For some reason the TRUNCATE statement doesn't work for DB2 even if it is supported from 9.7 https://www.ibm.com/support/pages/apar/JR37942
@@ -16,6 +16,7 @@
 import org.apache.kafka.connect.errors.ConnectException;
 import org.hibernate.engine.jdbc.Size;
 
+import io.debezium.connector.jdbc.QueryBinder;
 import io.debezium.connector.jdbc.ValueBindDescriptor;
 import io.debezium.connector.jdbc.dialect.DatabaseDialect;
 import io.debezium.connector.jdbc.type.AbstractTimeType;
@@ -65,9 +66,15 @@ public String getDefaultValueBinding(DatabaseDialect dialect, Schema schema, Obj
 
     @Override
     public List<ValueBindDescriptor> bind(int index, Schema schema, Object value) {
+        return collectBoundValues(index, schema, value);
+    }
+
+    @Override
+    public int bind(QueryBinder query, int index, Schema schema, Object value) {
 
         if (value == null) {
-            return List.of(new ValueBindDescriptor(index, null));
+            query.setNull(index);
+            return 1;
         }
 
         if (value instanceof String) {
@@ -75,10 +82,12 @@ public List<ValueBindDescriptor> bind(int index, Schema schema, Object value) {
 
             if (getDialect().isTimeZoneSet()) {
 
-                return List.of(new ValueBindDescriptor(index, Timestamp.from(zdt.toInstant())));
+                query.setObject(index, Timestamp.from(zdt.toInstant()));
+                return 1;
             }
 
-            return List.of(new ValueBindDescriptor(index, Timestamp.from(zdt.toInstant())));
+            query.setObject(index, Timestamp.from(zdt.toInstant()));
+            return 1;
 
         }
 
@@ -7,9 +7,8 @@
 
 import java.sql.Timestamp;
 import java.time.ZonedDateTime;
-import java.util.List;
 
-import io.debezium.connector.jdbc.ValueBindDescriptor;
+import io.debezium.connector.jdbc.QueryBinder;
 import io.debezium.connector.jdbc.type.Type;
 import io.debezium.connector.jdbc.type.debezium.DebeziumZonedTimestampType;
 import io.debezium.time.ZonedTimestamp;
@@ -23,7 +22,7 @@ public class ZonedTimestampType extends DebeziumZonedTimestampType {
 
     public static final ZonedTimestampType INSTANCE = new ZonedTimestampType();
 
-    protected List<ValueBindDescriptor> infinityTimestampValue(int index, Object value) {
+    protected int infinityTimestampValue(QueryBinder query, int index, Object value) {
         final ZonedDateTime zdt;
 
         if (POSITIVE_INFINITY.equals(value)) {
@@ -33,14 +32,16 @@ protected List<ValueBindDescriptor> infinityTimestampValue(int index, Object val
             zdt = ZonedDateTime.parse(getDialect().getTimestampNegativeInfinityValue(), ZonedTimestamp.FORMATTER);
         }
 
-        return List.of(new ValueBindDescriptor(index, Timestamp.valueOf((zdt.toLocalDateTime()))));
+        query.setObject(index, Timestamp.valueOf((zdt.toLocalDateTime())));
+        return 1;
     }
 
     @Override
-    protected List<ValueBindDescriptor> normalTimestampValue(int index, Object value) {
+    protected int normalTimestampValue(QueryBinder query, int index, Object value) {
 
         final ZonedDateTime zdt = ZonedDateTime.parse((String) value, ZonedTimestamp.FORMATTER).withZoneSameInstant(getDatabaseTimeZone().toZoneId());
 
-        return List.of(new ValueBindDescriptor(index, Timestamp.from(zdt.toInstant())));
+        query.setObject(index, Timestamp.from(zdt.toInstant()));
+        return 1;
     }
 }
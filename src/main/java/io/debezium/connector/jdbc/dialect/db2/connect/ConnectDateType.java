@@ -11,6 +11,7 @@
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.errors.ConnectException;
 
+import io.debezium.connector.jdbc.QueryBinder;
 import io.debezium.connector.jdbc.ValueBindDescriptor;
 import io.debezium.connector.jdbc.dialect.DatabaseDialect;
 import io.debezium.connector.jdbc.type.AbstractDateType;
@@ -38,12 +39,19 @@ public String getDefaultValueBinding(DatabaseDialect dialect, Schema schema, Obj
 
     @Override
     public List<ValueBindDescriptor> bind(int index, Schema schema, Object value) {
+        return collectBoundValues(index, schema, value);
+    }
+
+    @Override
+    public int bind(QueryBinder query, int index, Schema schema, Object value) {
 
         if (value == null) {
-            return List.of(new ValueBindDescriptor(index, null));
+            query.setNull(index);
+            return 1;
         }
         if (value instanceof java.util.Date) {
-            return List.of(new ValueBindDescriptor(index, java.sql.Date.valueOf(DateTimeUtils.toLocalDateFromDate((java.util.Date) value))));
+            query.setObject(index, java.sql.Date.valueOf(DateTimeUtils.toLocalDateFromDate((java.util.Date) value)));
+            return 1;
         }
 
         throw new ConnectException(String.format("Unexpected %s value '%s' with type '%s'", getClass().getSimpleName(),
@@ -16,6 +16,7 @@
 import org.apache.kafka.connect.data.Time;
 import org.apache.kafka.connect.errors.ConnectException;
 
+import io.debezium.connector.jdbc.QueryBinder;
 import io.debezium.connector.jdbc.ValueBindDescriptor;
 import io.debezium.connector.jdbc.dialect.DatabaseDialect;
 import io.debezium.connector.jdbc.relational.ColumnDescriptor;
@@ -49,9 +50,15 @@ public String getDefaultValueBinding(DatabaseDialect dialect, Schema schema, Obj
 
     @Override
     public List<ValueBindDescriptor> bind(int index, Schema schema, Object value) {
+        return collectBoundValues(index, schema, value);
+    }
+
+    @Override
+    public int bind(QueryBinder query, int index, Schema schema, Object value) {
 
         if (value == null) {
-            return List.of(new ValueBindDescriptor(index, null));
+            query.setNull(index);
+            return 1;
         }
         if (value instanceof Date) {
 
@@ -59,11 +66,12 @@ public List<ValueBindDescriptor> bind(int index, Schema schema, Object value) {
             final LocalDateTime localDateTime = localTime.atDate(LocalDate.now());
             if (getDialect().isTimeZoneSet()) {
                 ZonedDateTime zonedDateTime = localDateTime.atZone(getDatabaseTimeZone().toZoneId());
-                return List.of(
-                        new ValueBindDescriptor(index, java.sql.Time.valueOf(zonedDateTime.toLocalDateTime().toLocalTime())));
+                query.setObject(index, java.sql.Time.valueOf(zonedDateTime.toLocalDateTime().toLocalTime()));
+                return 1;
             }
 
-            return List.of(new ValueBindDescriptor(index, localDateTime));
+            query.setObject(index, localDateTime);
+            return 1;
         }
 
         throw new ConnectException(String.format("Unexpected %s value '%s' with type '%s'", getClass().getSimpleName(),
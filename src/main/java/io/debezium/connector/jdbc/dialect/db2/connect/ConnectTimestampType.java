@@ -14,6 +14,7 @@
 import org.apache.kafka.connect.data.Timestamp;
 import org.apache.kafka.connect.errors.ConnectException;
 
+import io.debezium.connector.jdbc.QueryBinder;
 import io.debezium.connector.jdbc.ValueBindDescriptor;
 import io.debezium.connector.jdbc.dialect.DatabaseDialect;
 import io.debezium.connector.jdbc.type.AbstractTimestampType;
@@ -41,18 +42,25 @@ public String getDefaultValueBinding(DatabaseDialect dialect, Schema schema, Obj
 
     @Override
     public List<ValueBindDescriptor> bind(int index, Schema schema, Object value) {
+        return collectBoundValues(index, schema, value);
+    }
+
+    @Override
+    public int bind(QueryBinder query, int index, Schema schema, Object value) {
 
         if (value == null) {
-            return List.of(new ValueBindDescriptor(index, null));
+            query.setNull(index);
+            return 1;
         }
         if (value instanceof java.util.Date) {
             final LocalDateTime localDateTime = DateTimeUtils.toLocalDateTimeFromDate((java.util.Date) value);
             if (getDialect().isTimeZoneSet()) {
-                return List.of(new ValueBindDescriptor(index,
-                        java.sql.Timestamp.valueOf(localDateTime.atZone(getDatabaseTimeZone().toZoneId()).toLocalDateTime())));
+                query.setObject(index, java.sql.Timestamp.valueOf(localDateTime.atZone(getDatabaseTimeZone().toZoneId()).toLocalDateTime()));
+                return 1;
             }
 
-            return List.of(new ValueBindDescriptor(index, java.sql.Timestamp.valueOf(localDateTime)));
+            query.setObject(index, java.sql.Timestamp.valueOf(localDateTime));
+            return 1;
         }
 
         throw new ConnectException(String.format("Unexpected %s value '%s' with type '%s'", getClass().getSimpleName(),
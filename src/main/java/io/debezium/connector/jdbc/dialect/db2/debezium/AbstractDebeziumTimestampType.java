@@ -12,6 +12,7 @@
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.errors.ConnectException;
 
+import io.debezium.connector.jdbc.QueryBinder;
 import io.debezium.connector.jdbc.ValueBindDescriptor;
 import io.debezium.connector.jdbc.type.AbstractTimestampType;
 
@@ -24,20 +25,27 @@ public abstract class AbstractDebeziumTimestampType extends AbstractTimestampTyp
 
     @Override
     public List<ValueBindDescriptor> bind(int index, Schema schema, Object value) {
+        return collectBoundValues(index, schema, value);
+    }
+
+    @Override
+    public int bind(QueryBinder query, int index, Schema schema, Object value) {
 
         if (value == null) {
-            return List.of(new ValueBindDescriptor(index, null));
+            query.setNull(index);
+            return 1;
         }
         if (value instanceof Number) {
 
             final LocalDateTime localDateTime = getLocalDateTime(((Number) value).longValue());
 
             if (getDialect().isTimeZoneSet()) {
-                return List.of(new ValueBindDescriptor(index,
-                        Timestamp.valueOf(localDateTime.atZone(getDatabaseTimeZone().toZoneId()).toLocalDateTime())));
+                query.setObject(index, Timestamp.valueOf(localDateTime.atZone(getDatabaseTimeZone().toZoneId()).toLocalDateTime()));
+                return 1;
             }
 
-            return List.of(new ValueBindDescriptor(index, Timestamp.valueOf(localDateTime)));
+            query.setObject(index, Timestamp.valueOf(localDateTime));
+            return 1;
         }
 
         throw new ConnectException(String.format("Unexpected %s value '%s' with type '%s'", getClass().getSimpleName(),
@@ -14,6 +14,7 @@
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.debezium.connector.jdbc.QueryBinder;
 import io.debezium.connector.jdbc.ValueBindDescriptor;
 import io.debezium.connector.jdbc.dialect.DatabaseDialect;
 import io.debezium.connector.jdbc.relational.ColumnDescriptor;
@@ -44,6 +45,11 @@ public String getTypeName(DatabaseDialect dialect, Schema schema, boolean key) {
 
     @Override
     public List<ValueBindDescriptor> bind(int index, Schema schema, Object value) {
+        return collectBoundValues(index, schema, value);
+    }
+
+    @Override
+    public int bind(QueryBinder query, int index, Schema schema, Object value) {
         if (value instanceof Map) {
             try {
                 value = OBJECT_MAPPER.writeValueAsString(value);
@@ -52,7 +58,7 @@ public List<ValueBindDescriptor> bind(int index, Schema schema, Object value) {
                 throw new ConnectException("Failed to deserialize MAP data to JSON", e);
             }
         }
-        return JsonType.INSTANCE.bind(index, schema, value);
+        return JsonType.INSTANCE.bind(query, index, schema, value);
     }
 
 }
@@ -7,10 +7,12 @@
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -21,11 +23,14 @@
 import org.hibernate.dialect.MySQLDialect;
 
 import io.debezium.connector.jdbc.JdbcSinkConnectorConfig;
+import io.debezium.connector.jdbc.JdbcSinkConnectorConfig.InsertMode;
 import io.debezium.connector.jdbc.SinkRecordDescriptor;
+import io.debezium.connector.jdbc.dialect.BulkWriter;
 import io.debezium.connector.jdbc.dialect.DatabaseDialect;
 import io.debezium.connector.jdbc.dialect.DatabaseDialectProvider;
 import io.debezium.connector.jdbc.dialect.GeneralDatabaseDialect;
 import io.debezium.connector.jdbc.dialect.SqlStatementBuilder;
+import io.debezium.connector.jdbc.relational.ColumnDescriptor;
 import io.debezium.connector.jdbc.relational.TableDescriptor;
 import io.debezium.time.ZonedTimestamp;
 import io.debezium.util.Strings;
@@ -190,6 +195,83 @@ public String getUpsertStatement(TableDescriptor table, SinkRecordDescriptor rec
         return builder.build();
     }
 
+    @Override
+    public boolean isTransientError(SQLException exception) {
+        // ER_LOCK_DEADLOCK, ER_LOCK_WAIT_TIMEOUT, CR_SERVER_GONE_ERROR and CR_SERVER_LOST
+        switch (exception.getErrorCode()) {
+            case 1213:
+            case 1205:
+            case 2006:
+            case 2013:
+                return true;
+            default:
+                return super.isTransientError(exception);
+        }
+    }
+
+    @Override
+    public boolean isRecordError(SQLException exception) {
+        // ER_TRUNCATED_WRONG_VALUE_FOR_FIELD, ER_TRUNCATED_WRONG_VALUE, WARN_DATA_TRUNCATED and ER_CHECK_CONSTRAINT_VIOLATED,
+        // which the driver reports with other SQL states
+        switch (exception.getErrorCode()) {
+            case 1366:
+            case 1292:
+            case 1265:
+            case 3819:
+                return true;
+            default:
+                return super.isRecordError(exception);
+        }
+    }
+
+    @Override
+    public Optional<BulkWriter> getBulkWriter(TableDescriptor table, SinkRecordDescriptor record) {
+        if (!getConfig().isMySqlLoadData() || record.isDelete() || getConfig().getInsertMode() != InsertMode.INSERT) {
+            return Optional.empty();
+        }
+
+        // Columns are loaded in the same order as the bind plan of the equivalent statement
+        final List<String> fieldNames = new ArrayList<>(record.getKeyFieldNames());
+        fieldNames.addAll(record.getNonKeyFieldNames());
+
+        final boolean[] hexColumns = new boolean[fieldNames.size()];
+        final List<String> targets = new ArrayList<>(fieldNames.size());
+        final List<String> assignments = new ArrayList<>();
+        for (int i = 0; i < fieldNames.size(); i++) {
+            final String fieldName = fieldNames.get(i);
+            if (!"?".equals(columnQueryBindingFromField(fieldName, table, record))) {
+                // Values bound through SQL functions cannot be loaded as text
+                return Optional.empty();
+            }
+            final String columnName = columnNameFromField(fieldName, record);
+            final ColumnDescriptor column = table.getColumnByName(resolveColumnName(record.getFields().get(fieldName)));
+            hexColumns[i] = isBinaryType(column.getJdbcType());
+            if (hexColumns[i]) {
+                targets.add("@v" + i);
+                assignments.add(columnName + "=UNHEX(@v" + i + ")");
+            }
+            else {
+                targets.add(columnName);
+            }
+        }
+
+        final SqlStatementBuilder builder = new SqlStatementBuilder();
+        builder.append("LOAD DATA LOCAL INFILE 'debezium' INTO TABLE ");
+        builder.append(getQualifiedTableName(table.getId()));
+        builder.append(" CHARACTER SET utf8mb4 FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\' LINES TERMINATED BY '\\n' (");
+        builder.appendList(", ", targets, (target) -> target);
+        builder.append(")");
+        if (!assignments.isEmpty()) {
+            builder.append(" SET ");
+            builder.appendList(", ", assignments, (assignment) -> assignment);
+        }
+        return Optional.of(new MySqlLoadDataWriter(this, builder.build(), hexColumns));
+    }
+
+    private static boolean isBinaryType(int jdbcType) {
+        return jdbcType == Types.BINARY || jdbcType == Types.VARBINARY || jdbcType == Types.LONGVARBINARY || jdbcType == Types.BLOB;
+    }
+
     @Override
     protected void addColumnDefaultValue(SinkRecordDescriptor.FieldDescriptor field, StringBuilder columnSpec) {
         final String fieldType = field.getTypeName();
@@ -0,0 +1,238 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc.dialect.mysql;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mysql.cj.jdbc.JdbcStatement;
+
+import io.debezium.connector.jdbc.BindPlan;
+import io.debezium.connector.jdbc.SinkRecordDescriptor;
+import io.debezium.connector.jdbc.dialect.BulkRowBinder;
+import io.debezium.connector.jdbc.dialect.BulkWriter;
+import io.debezium.connector.jdbc.dialect.DatabaseDialect;
+
+/**
+ * A {@link BulkWriter} that inserts a batch of records into a MySQL or MariaDB table using
+ * {@code LOAD DATA LOCAL INFILE}, streaming the rows from memory through the driver's local
+ * infile input stream hook rather than a file.
+ *
+ * Rows are written as tab separated text in the statement's default escaping. Temporal values are
+ * written using the dialect's formatting, and values of binary columns are hex encoded and decoded
+ * by the statement. Zoned values are bound in the database time zone by the types, and are written
+ * as their local date and time. If any value cannot be represented, the batch is left to the
+ * prepared statement path.
+ */
+class MySqlLoadDataWriter implements BulkWriter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MySqlLoadDataWriter.class);
+
+    private static final String NULL = "\\N";
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    private final DatabaseDialect dialect;
+    private final String loadStatement;
+    private final boolean[] hexColumns;
+
+    /**
+     * @param dialect the database dialect, should not be {@code null}
+     * @param loadStatement the {@code LOAD DATA LOCAL INFILE} statement, should not be {@code null}
+     * @param hexColumns whether each column, in bind plan order, is written hex encoded
+     */
+    MySqlLoadDataWriter(DatabaseDialect dialect, String loadStatement, boolean[] hexColumns) {
+        this.dialect = dialect;
+        this.loadStatement = loadStatement;
+        this.hexColumns = hexColumns;
+    }
+
+    @Override
+    public boolean write(Connection connection, BindPlan bindPlan, List<SinkRecordDescriptor> records) throws SQLException {
+        if (bindPlan.size() != hexColumns.length) {
+            return false;
+        }
+
+        final byte[] data = encode(bindPlan, records);
+        if (data == null) {
+            LOGGER.debug("Batch contains values that cannot be loaded as text, using prepared statements for '{}'.", loadStatement);
+            return false;
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            if (!setLocalInfileInputStream(statement, new ByteArrayInputStream(data))) {
+                return false;
+            }
+
+            final int rows = statement.executeUpdate(loadStatement);
+            // Errors that would fail an INSERT are only reported as warnings by LOAD DATA LOCAL
+            final SQLWarning warning = statement.getWarnings();
+            if (rows != records.size() || warning != null) {
+                throw new SQLException(String.format("Loaded %d of %d rows using '%s'%s", rows, records.size(), loadStatement,
+                        warning != null ? ": " + warning.getMessage() : ""), warning);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Encodes the records as tab separated rows, returning {@code null} if any value cannot be represented.
+     */
+    byte[] encode(BindPlan bindPlan, List<SinkRecordDescriptor> records) {
+        final BulkRowBinder binder = new BulkRowBinder(hexColumns.length, 0);
+        final StringBuilder rows = new StringBuilder();
+        for (SinkRecordDescriptor record : records) {
+            final Object[] row = binder.bind(bindPlan, record, dialect);
+            if (row == null) {
+                return null;
+            }
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0) {
+                    rows.append('\t');
+                }
+                final String value = toText(row[i], hexColumns[i]);
+                if (value == null) {
+                    return null;
+                }
+                rows.append(value);
+            }
+            rows.append('\n');
+        }
+        return rows.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Converts a bound value into its escaped text representation.
+     *
+     * @param value the bound value, may be {@code null}
+     * @param hex whether the column is written hex encoded
+     * @return the text, or {@code null} if the value cannot be represented
+     */
+    String toText(Object value, boolean hex) {
+        if (value == null) {
+            return NULL;
+        }
+        else if (value instanceof byte[] || value instanceof ByteBuffer) {
+            return hex ? toHex(value) : null;
+        }
+        else if (hex) {
+            return null;
+        }
+        else if (value instanceof String) {
+            return escape((String) value);
+        }
+        else if (value instanceof Boolean) {
+            return dialect.getFormattedBoolean((Boolean) value);
+        }
+        else if (value instanceof Byte || value instanceof Short || value instanceof Integer || value instanceof Long || value instanceof BigInteger) {
+            return value.toString();
+        }
+        else if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toPlainString();
+        }
+        else if (value instanceof Float || value instanceof Double) {
+            return Double.isFinite(((Number) value).doubleValue()) ? value.toString() : null;
+        }
+        else if (value instanceof LocalDate) {
+            return unquote(dialect.getFormattedDate((LocalDate) value));
+        }
+        else if (value instanceof java.sql.Date) {
+            return unquote(dialect.getFormattedDate(((java.sql.Date) value).toLocalDate()));
+        }
+        else if (value instanceof LocalTime) {
+            return unquote(dialect.getFormattedTime((LocalTime) value));
+        }
+        else if (value instanceof java.sql.Time) {
+            return unquote(dialect.getFormattedTime(((java.sql.Time) value).toLocalTime()));
+        }
+        else if (value instanceof LocalDateTime) {
+            return unquote(dialect.getFormattedDateTime((LocalDateTime) value));
+        }
+        else if (value instanceof Timestamp) {
+            return unquote(dialect.getFormattedDateTime(((Timestamp) value).toLocalDateTime()));
+        }
+        else if (value instanceof OffsetDateTime) {
+            return unquote(dialect.getFormattedDateTime(((OffsetDateTime) value).toLocalDateTime()));
+        }
+        else if (value instanceof ZonedDateTime) {
+            return unquote(dialect.getFormattedDateTime(((ZonedDateTime) value).toLocalDateTime()));
+        }
+        return null;
+    }
+
+    private static boolean setLocalInfileInputStream(Statement statement, InputStream stream) throws SQLException {
+        if (statement.isWrapperFor(JdbcStatement.class)) {
+            statement.unwrap(JdbcStatement.class).setLocalInfileInputStream(stream);
+            return true;
+        }
+        else if (statement.isWrapperFor(org.mariadb.jdbc.Statement.class)) {
+            statement.unwrap(org.mariadb.jdbc.Statement.class).setLocalInfileInputStream(stream);
+            return true;
+        }
+        return false;
+    }
+
+    private static String escape(String value) {
+        final StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '\\':
+                    escaped.append("\\\\");
+                    break;
+                case '\t':
+                    escaped.append("\\t");
+                    break;
+                case '\n':
+                    escaped.append("\\n");
+                    break;
+                case '\r':
+                    escaped.append("\\r");
+                    break;
+                case '\0':
+                    escaped.append("\\0");
+                    break;
+                default:
+                    escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static String toHex(Object value) {
+        final ByteBuffer buffer = value instanceof ByteBuffer ? ((ByteBuffer) value).duplicate() : ByteBuffer.wrap((byte[]) value);
+        final StringBuilder hex = new StringBuilder(buffer.remaining() * 2);
+        while (buffer.hasRemaining()) {
+            final int b = buffer.get() & 0xff;
+            hex.append(HEX_DIGITS[b >>> 4]).append(HEX_DIGITS[b & 0x0f]);
+        }
+        return hex.toString();
+    }
+
+    private static String unquote(String literal) {
+        if (literal.length() >= 2 && literal.charAt(0) == '\'' && literal.charAt(literal.length() - 1) == '\'') {
+            return literal.substring(1, literal.length() - 1);
+        }
+        return literal;
+    }
+}
@@ -9,12 +9,11 @@
 import java.time.LocalDate;
 import java.time.OffsetTime;
 import java.time.ZonedDateTime;
-import java.util.List;
 
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.errors.ConnectException;
 
-import io.debezium.connector.jdbc.ValueBindDescriptor;
+import io.debezium.connector.jdbc.QueryBinder;
 import io.debezium.connector.jdbc.type.Type;
 import io.debezium.time.ZonedTime;
 
@@ -28,10 +27,11 @@ public class ZonedTimeType extends io.debezium.connector.jdbc.type.debezium.Zone
     public static final ZonedTimeType INSTANCE = new ZonedTimeType();
 
     @Override
-    public List<ValueBindDescriptor> bind(int index, Schema schema, Object value) {
+    public int bind(QueryBinder query, int index, Schema schema, Object value) {
 
         if (value == null) {
-            return List.of(new ValueBindDescriptor(index, null));
+            query.setNull(index);
+            return 1;
         }
 
         if (value instanceof String) {
@@ -39,13 +39,15 @@ public List<ValueBindDescriptor> bind(int index, Schema schema, Object value) {
 
             if (getDialect().isTimeZoneSet()) {
                 if (getDialect().shouldBindTimeWithTimeZoneAsDatabaseTimeZone()) {
-                    return List
-                            .of(new ValueBindDescriptor(index, zdt.withZoneSameInstant(getDatabaseTimeZone().toZoneId()).toOffsetDateTime(), Types.TIMESTAMP));
+                    query.setObject(index, zdt.withZoneSameInstant(getDatabaseTimeZone().toZoneId()).toOffsetDateTime(), Types.TIMESTAMP);
+                    return 1;
                 }
 
-                return List.of(new ValueBindDescriptor(index, zdt.toOffsetDateTime(), Types.TIMESTAMP)); // TIMESTAMP_WITH_TIMEZONE not supported
+                query.setObject(index, zdt.toOffsetDateTime(), Types.TIMESTAMP); // TIMESTAMP_WITH_TIMEZONE not supported
+                return 1;
             }
-            return List.of(new ValueBindDescriptor(index, zdt.toOffsetDateTime(), Types.TIMESTAMP));
+            query.setObject(index, zdt.toOffsetDateTime(), Types.TIMESTAMP);
+            return 1;
 
         }
 
@@ -0,0 +1,296 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc.dialect.oracle;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.connector.jdbc.BindPlan;
+import io.debezium.connector.jdbc.SinkRecordDescriptor;
+import io.debezium.connector.jdbc.dialect.BulkRowBinder;
+import io.debezium.connector.jdbc.dialect.BulkWriter;
+import io.debezium.connector.jdbc.dialect.DatabaseDialect;
+
+/**
+ * A {@link BulkWriter} that upserts a batch of records into an Oracle table with a single call.
+ *
+ * The values of each column are bound as one collection of a built-in {@code SYS.ODCI*LIST} type,
+ * and a PL/SQL block applies the {@code MERGE} for every element using {@code FORALL}. Rows are
+ * merged in batch order, so repeated keys within a batch resolve to their last change. Batches with
+ * values that do not fit these collection types are left to the prepared statement path.
+ */
+class OracleArrayMergeWriter implements BulkWriter {
+
+    /**
+     * The maximum number of elements of the {@code SYS.ODCI*LIST} varray types.
+     */
+    static final int MAX_ELEMENTS = 32767;
+
+    static final Object UNSUPPORTED = new Object();
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OracleArrayMergeWriter.class);
+
+    private static final int MAX_VARCHAR_BYTES = 4000;
+    private static final int MAX_RAW_BYTES = 2000;
+
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSSSSSSS");
+    private static final DateTimeFormatter TIMESTAMP_TZ_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSSSSSSS xxx");
+
+    /**
+     * The collection type used for a column, and how its elements are referenced by the merge.
+     */
+    enum ElementKind {
+        NUMBER("SYS.ODCINUMBERLIST", "%s"),
+        TEXT("SYS.ODCIVARCHAR2LIST", "%s"),
+        RAW("SYS.ODCIRAWLIST", "%s"),
+        TIMESTAMP("SYS.ODCIVARCHAR2LIST", "TO_TIMESTAMP(%s, 'YYYY-MM-DD\"T\"HH24:MI:SS.FF9')"),
+        TIMESTAMP_TZ("SYS.ODCIVARCHAR2LIST", "TO_TIMESTAMP_TZ(%s, 'YYYY-MM-DD\"T\"HH24:MI:SS.FF9 TZH:TZM')");
+
+        private final String collectionType;
+        private final String expression;
+
+        ElementKind(String collectionType, String expression) {
+            this.collectionType = collectionType;
+            this.expression = expression;
+        }
+
+        String getCollectionType() {
+            return collectionType;
+        }
+
+        String getExpression(String element) {
+            return String.format(expression, element);
+        }
+
+        /**
+         * Returns the kind of element for a bound value, or {@code null} if the value is not supported.
+         */
+        static ElementKind of(Object value) {
+            if (value instanceof Number || value instanceof Boolean) {
+                return NUMBER;
+            }
+            else if (value instanceof String) {
+                return TEXT;
+            }
+            else if (value instanceof byte[] || value instanceof ByteBuffer) {
+                return RAW;
+            }
+            else if (value instanceof LocalDateTime || value instanceof LocalDate || value instanceof LocalTime
+                    || value instanceof Timestamp || value instanceof java.sql.Date) {
+                return TIMESTAMP;
+            }
+            else if (value instanceof ZonedDateTime || value instanceof OffsetDateTime) {
+                return TIMESTAMP_TZ;
+            }
+            return null;
+        }
+
+        /**
+         * Converts a bound value of this kind into a collection element.
+         *
+         * @return the element, or {@link #UNSUPPORTED} if the value does not fit the collection type
+         */
+        Object convert(Object value) {
+            switch (this) {
+                case NUMBER:
+                    return toNumber(value);
+                case TEXT:
+                    return ((String) value).getBytes(StandardCharsets.UTF_8).length <= MAX_VARCHAR_BYTES ? value : UNSUPPORTED;
+                case RAW:
+                    final byte[] bytes = toBytes(value);
+                    return bytes.length <= MAX_RAW_BYTES ? bytes : UNSUPPORTED;
+                case TIMESTAMP:
+                    final LocalDateTime localDateTime = toLocalDateTime(value);
+                    return format(localDateTime.getYear(), localDateTime, TIMESTAMP_FORMATTER);
+                case TIMESTAMP_TZ:
+                    final OffsetDateTime dateTime = value instanceof ZonedDateTime ? ((ZonedDateTime) value).toOffsetDateTime() : (OffsetDateTime) value;
+                    return format(dateTime.getYear(), dateTime, TIMESTAMP_TZ_FORMATTER);
+                default:
+                    return UNSUPPORTED;
+            }
+        }
+    }
+
+    private final DatabaseDialect dialect;
+    private final String tableName;
+    private final int columns;
+    private final Function<List<String>, String> mergeStatement;
+
+    /**
+     * @param dialect the database dialect, should not be {@code null}
+     * @param tableName the qualified destination table name, used for logging
+     * @param columns the number of columns bound by the bind plan
+     * @param mergeStatement creates the {@code MERGE} statement given the expression of each column, in bind plan order
+     */
+    OracleArrayMergeWriter(DatabaseDialect dialect, String tableName, int columns, Function<List<String>, String> mergeStatement) {
+        this.dialect = dialect;
+        this.tableName = tableName;
+        this.columns = columns;
+        this.mergeStatement = mergeStatement;
+    }
+
+    @Override
+    public boolean write(Connection connection, BindPlan bindPlan, List<SinkRecordDescriptor> records) throws SQLException {
+        if (bindPlan.size() != columns || !connection.isWrapperFor(oracle.jdbc.OracleConnection.class)) {
+            return false;
+        }
+
+        final ElementKind[] kinds = new ElementKind[columns];
+        final Object[][] elements = toColumns(bindPlan, records, kinds);
+        if (elements == null) {
+            LOGGER.debug("Batch for '{}' contains values that cannot be bound as collections, using prepared statements.", tableName);
+            return false;
+        }
+
+        final oracle.jdbc.OracleConnection oracleConnection = connection.unwrap(oracle.jdbc.OracleConnection.class);
+        try (CallableStatement statement = connection.prepareCall(getBlock(kinds))) {
+            for (int from = 0; from < records.size(); from += MAX_ELEMENTS) {
+                final int to = Math.min(records.size(), from + MAX_ELEMENTS);
+                final List<Array> arrays = new ArrayList<>(columns);
+                try {
+                    for (int i = 0; i < columns; i++) {
+                        final Array array = oracleConnection.createOracleArray(kinds[i].getCollectionType(), Arrays.copyOfRange(elements[i], from, to));
+                        arrays.add(array);
+                        statement.setArray(i + 1, array);
+                    }
+                    statement.execute();
+                }
+                finally {
+                    for (Array array : arrays) {
+                        array.free();
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Binds the records and transposes their values into one array of collection elements per column,
+     * returning {@code null} if any value is not supported.
+     */
+    Object[][] toColumns(BindPlan bindPlan, List<SinkRecordDescriptor> records, ElementKind[] kinds) {
+        final BulkRowBinder binder = new BulkRowBinder(columns, 0);
+        final Object[][] elements = new Object[columns][records.size()];
+        for (int r = 0; r < records.size(); r++) {
+            final Object[] row = binder.bind(bindPlan, records.get(r), dialect);
+            if (row == null) {
+                return null;
+            }
+            for (int i = 0; i < columns; i++) {
+                if (row[i] == null) {
+                    continue;
+                }
+                final ElementKind kind = ElementKind.of(row[i]);
+                if (kind == null || (kinds[i] != null && kinds[i] != kind)) {
+                    return null;
+                }
+                kinds[i] = kind;
+                elements[i][r] = kind.convert(row[i]);
+                if (elements[i][r] == UNSUPPORTED) {
+                    return null;
+                }
+            }
+        }
+        for (int i = 0; i < columns; i++) {
+            if (kinds[i] == null) {
+                // Columns with only null values can use any collection type
+                kinds[i] = ElementKind.TEXT;
+            }
+        }
+        return elements;
+    }
+
+    String getBlock(ElementKind[] kinds) {
+        final StringBuilder block = new StringBuilder("DECLARE ");
+        final List<String> expressions = new ArrayList<>(kinds.length);
+        for (int i = 0; i < kinds.length; i++) {
+            final String collection = "c" + (i + 1);
+            block.append(collection).append(' ').append(kinds[i].getCollectionType()).append(" := ?; ");
+            expressions.add(kinds[i].getExpression(collection + "(i)"));
+        }
+        block.append("BEGIN FORALL i IN 1 .. c1.COUNT ");
+        block.append(mergeStatement.apply(expressions));
+        block.append("; END;");
+        return block.toString();
+    }
+
+    private static Object toNumber(Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value ? BigDecimal.ONE : BigDecimal.ZERO;
+        }
+        else if (value instanceof BigDecimal) {
+            return value;
+        }
+        else if (value instanceof BigInteger) {
+            return new BigDecimal((BigInteger) value);
+        }
+        else if (value instanceof Float || value instanceof Double) {
+            final double number = ((Number) value).doubleValue();
+            return Double.isFinite(number) ? BigDecimal.valueOf(number) : UNSUPPORTED;
+        }
+        else if (value instanceof Byte || value instanceof Short || value instanceof Integer || value instanceof Long) {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        }
+        return UNSUPPORTED;
+    }
+
+    private static byte[] toBytes(Object value) {
+        if (value instanceof ByteBuffer) {
+            final ByteBuffer buffer = ((ByteBuffer) value).duplicate();
+            final byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            return bytes;
+        }
+        return (byte[]) value;
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof LocalDate) {
+            return ((LocalDate) value).atStartOfDay();
+        }
+        else if (value instanceof LocalTime) {
+            // Consistent with the dialect, times are written as dates based on the epoch
+            return ((LocalTime) value).atDate(LocalDate.EPOCH);
+        }
+        else if (value instanceof Timestamp) {
+            return ((Timestamp) value).toLocalDateTime();
+        }
+        else if (value instanceof java.sql.Date) {
+            return ((java.sql.Date) value).toLocalDate().atStartOfDay();
+        }
+        return (LocalDateTime) value;
+    }
+
+    private static Object format(int year, TemporalAccessor value, DateTimeFormatter formatter) {
+        // Oracle datetime format models only accept years 1 through 9999
+        if (year < 1 || year > 9999) {
+            return UNSUPPORTED;
+        }
+        return formatter.format(value);
+    }
+}
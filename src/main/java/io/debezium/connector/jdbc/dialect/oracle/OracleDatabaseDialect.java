@@ -11,6 +11,8 @@
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import org.hibernate.SessionFactory;
@@ -18,7 +20,9 @@
 import org.hibernate.dialect.OracleDialect;
 
 import io.debezium.connector.jdbc.JdbcSinkConnectorConfig;
+import io.debezium.connector.jdbc.JdbcSinkConnectorConfig.InsertMode;
 import io.debezium.connector.jdbc.SinkRecordDescriptor;
+import io.debezium.connector.jdbc.dialect.BulkWriter;
 import io.debezium.connector.jdbc.dialect.DatabaseDialect;
 import io.debezium.connector.jdbc.dialect.DatabaseDialectProvider;
 import io.debezium.connector.jdbc.dialect.GeneralDatabaseDialect;
@@ -37,6 +41,10 @@ public class OracleDatabaseDialect extends GeneralDatabaseDialect {
     private static final String TO_TIMESTAMP_FF6 = "TO_TIMESTAMP('%s', 'YYYY-MM-DD\"T\"HH24:MI:SS.FF6 TZH:TZM')";
     private static final String TO_TIMESTAMP_FF9_TZ = "TO_TIMESTAMP_TZ('%s', 'YYYY-MM-DD\"T\"HH24:MI:SS.FF9 TZH:TZM')";
 
+    // INSERT ALL is limited to 1000 columns across its INTO clauses (ORA-24335), the UNION ALL
+    // source of a multi-row MERGE is bounded alike so that it remains cheap to parse
+    private static final int MAX_COLUMNS_PER_STATEMENT = 1000;
+
     public static class OracleDatabaseDialectProvider implements DatabaseDialectProvider {
         @Override
         public boolean supports(Dialect dialect) {
@@ -93,15 +101,141 @@ public boolean isNegativeScaleAllowed() {
         return true;
     }
 
+    @Override
+    public int getMaxRowsPerStatement(int parametersPerRow) {
+        return Math.max(1, MAX_COLUMNS_PER_STATEMENT / parametersPerRow);
+    }
+
+    @Override
+    public String getMultiRowInsertStatement(TableDescriptor table, SinkRecordDescriptor record, int rows) {
+        // Multi-row VALUES lists are not available before Oracle 23
+        final SqlStatementBuilder builder = new SqlStatementBuilder();
+        builder.append("INSERT ALL");
+        for (int i = 0; i < rows; i++) {
+            builder.append(" INTO ");
+            builder.append(getQualifiedTableName(table.getId()));
+            builder.append(" (");
+            builder.appendLists(", ", record.getKeyFieldNames(), record.getNonKeyFieldNames(), (name) -> columnNameFromField(name, record));
+            builder.append(") VALUES (");
+            builder.appendLists(", ", record.getKeyFieldNames(), record.getNonKeyFieldNames(), (name) -> columnQueryBindingFromField(name, table, record));
+            builder.append(")");
+        }
+        builder.append(" SELECT 1 FROM dual");
+        return builder.build();
+    }
+
     @Override
     public String getUpsertStatement(TableDescriptor table, SinkRecordDescriptor record) {
+        return getMultiRowUpsertStatement(table, record, 1);
+    }
+
+    @Override
+    public String getMultiRowUpsertStatement(TableDescriptor table, SinkRecordDescriptor record, int rows) {
+        final SqlStatementBuilder builder = new SqlStatementBuilder();
+        builder.append("MERGE INTO ");
+        builder.append(getQualifiedTableName(table.getId()));
+        builder.append(" USING (");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                builder.append(" UNION ALL ");
+            }
+            builder.append("SELECT ");
+            builder.appendLists(", ", record.getKeyFieldNames(), record.getNonKeyFieldNames(),
+                    (name) -> columnQueryBindingFromField(name, table, record) + " " + columnNameFromField(name, record));
+            builder.append(" FROM dual");
+        }
+        builder.append(") ").append("INCOMING ON (");
+        builder.appendList(" AND ", record.getKeyFieldNames(), (name) -> getUpsertIncomingClause(name, table, record));
+        builder.append(")");
+        if (!record.getNonKeyFieldNames().isEmpty()) {
+            builder.append(" WHEN MATCHED THEN UPDATE SET ");
+            builder.appendList(",", record.getNonKeyFieldNames(), (name) -> getUpsertIncomingClause(name, table, record));
+        }
+        builder.append(" WHEN NOT MATCHED THEN INSERT (");
+        builder.appendLists(",", record.getNonKeyFieldNames(), record.getKeyFieldNames(), (name) -> columnNameFromField(name, record));
+        builder.append(") VALUES (");
+        builder.appendLists(",", record.getNonKeyFieldNames(), record.getKeyFieldNames(), (name) -> columnNameFromField(name, "INCOMING.", record));
+        builder.append(")");
+        return builder.build();
+    }
+
+    @Override
+    public boolean isTransientError(SQLException exception) {
+        // Deadlock, serialization failure and busy resources, followed by lost connections and unavailable instances
+        switch (exception.getErrorCode()) {
+            case 60:
+            case 8177:
+            case 54:
+            case 30006:
+            case 1033:
+            case 1034:
+            case 1089:
+            case 3113:
+            case 3114:
+            case 12514:
+            case 12528:
+            case 12537:
+            case 12541:
+                return true;
+            default:
+                return super.isTransientError(exception);
+        }
+    }
+
+    @Override
+    public boolean isRecordError(SQLException exception) {
+        // Values too large for their column, invalid numbers and dates, which the driver reports with other SQL states
+        switch (exception.getErrorCode()) {
+            case 1438:
+            case 1461:
+            case 1722:
+            case 1830:
+            case 1840:
+            case 1841:
+            case 1843:
+            case 1847:
+            case 1858:
+            case 1861:
+            case 12899:
+                return true;
+            default:
+                return super.isRecordError(exception);
+        }
+    }
+
+    @Override
+    public Optional<BulkWriter> getBulkWriter(TableDescriptor table, SinkRecordDescriptor record) {
+        if (!getConfig().isOracleArrayMerge() || record.isDelete() || getConfig().getInsertMode() != InsertMode.UPSERT) {
+            return Optional.empty();
+        }
+        final int columns = record.getKeyFieldNames().size() + record.getNonKeyFieldNames().size();
+        return Optional.of(new OracleArrayMergeWriter(this, getQualifiedTableName(table.getId()), columns,
+                (expressions) -> getArrayMergeStatement(table, record, expressions)));
+    }
+
+    /**
+     * Creates the {@code MERGE} statement applied for each element of the bound collections.
+     *
+     * @param table the destination table, should not be {@code null}
+     * @param record the record, should not be {@code null}
+     * @param expressions the expression of each column, for the key fields followed by the non-key fields
+     * @return the merge statement
+     */
+    private String getArrayMergeStatement(TableDescriptor table, SinkRecordDescriptor record, List<String> expressions) {
+        final List<String> fieldNames = new ArrayList<>(record.getKeyFieldNames());
+        fieldNames.addAll(record.getNonKeyFieldNames());
+
         final SqlStatementBuilder builder = new SqlStatementBuilder();
         builder.append("MERGE INTO ");
         builder.append(getQualifiedTableName(table.getId()));
         builder.append(" USING (SELECT ");
-        builder.appendLists(", ", record.getKeyFieldNames(), record.getNonKeyFieldNames(),
-                (name) -> columnQueryBindingFromField(name, table, record) + " " + columnNameFromField(name, record));
-        builder.append(" FROM dual) ").append("INCOMING ON (");
+        for (int i = 0; i < fieldNames.size(); i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(expressions.get(i)).append(" ").append(columnNameFromField(fieldNames.get(i), record));
+        }
+        builder.append(" FROM dual) INCOMING ON (");
         builder.appendList(" AND ", record.getKeyFieldNames(), (name) -> getUpsertIncomingClause(name, table, record));
         builder.append(")");
         if (!record.getNonKeyFieldNames().isEmpty()) {
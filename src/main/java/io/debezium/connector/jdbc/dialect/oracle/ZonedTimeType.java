@@ -15,6 +15,7 @@
 import org.apache.kafka.connect.errors.ConnectException;
 import org.hibernate.engine.jdbc.Size;
 
+import io.debezium.connector.jdbc.QueryBinder;
 import io.debezium.connector.jdbc.ValueBindDescriptor;
 import io.debezium.connector.jdbc.dialect.DatabaseDialect;
 import io.debezium.connector.jdbc.type.AbstractTimeType;
@@ -64,9 +65,15 @@ public String getDefaultValueBinding(DatabaseDialect dialect, Schema schema, Obj
 
     @Override
     public List<ValueBindDescriptor> bind(int index, Schema schema, Object value) {
+        return collectBoundValues(index, schema, value);
+    }
+
+    @Override
+    public int bind(QueryBinder query, int index, Schema schema, Object value) {
 
         if (value == null) {
-            return List.of(new ValueBindDescriptor(index, null));
+            query.setNull(index);
+            return 1;
         }
 
         if (value instanceof String) {
@@ -74,13 +81,15 @@ public List<ValueBindDescriptor> bind(int index, Schema schema, Object value) {
 
             if (getDialect().isTimeZoneSet()) {
                 if (getDialect().shouldBindTimeWithTimeZoneAsDatabaseTimeZone()) {
-                    return List
-                            .of(new ValueBindDescriptor(index, zdt.withZoneSameInstant(getDatabaseTimeZone().toZoneId())));
+                    query.setObject(index, zdt.withZoneSameInstant(getDatabaseTimeZone().toZoneId()));
+                    return 1;
                 }
 
-                return List.of(new ValueBindDescriptor(index, zdt, getJdbcType()));
+                query.setObject(index, zdt, getJdbcType());
+                return 1;
             }
-            return List.of(new ValueBindDescriptor(index, zdt));
+            query.setObject(index, zdt);
+            return 1;
 
         }
 
@@ -6,9 +6,8 @@
 package io.debezium.connector.jdbc.dialect.oracle;
 
 import java.time.ZonedDateTime;
-import java.util.List;
 
-import io.debezium.connector.jdbc.ValueBindDescriptor;
+import io.debezium.connector.jdbc.QueryBinder;
 import io.debezium.connector.jdbc.type.Type;
 import io.debezium.connector.jdbc.type.debezium.DebeziumZonedTimestampType;
 import io.debezium.time.ZonedTimestamp;
@@ -22,7 +21,7 @@ public class ZonedTimestampType extends DebeziumZonedTimestampType {
 
     public static final ZonedTimestampType INSTANCE = new ZonedTimestampType();
 
-    protected List<ValueBindDescriptor> infinityTimestampValue(int index, Object value) {
+    protected int infinityTimestampValue(QueryBinder query, int index, Object value) {
         final ZonedDateTime zdt;
 
         if (POSITIVE_INFINITY.equals(value)) {
@@ -32,14 +31,16 @@ protected List<ValueBindDescriptor> infinityTimestampValue(int index, Object val
             zdt = ZonedDateTime.parse(getDialect().getTimestampNegativeInfinityValue(), ZonedTimestamp.FORMATTER);
         }
 
-        return List.of(new ValueBindDescriptor(index, zdt, getJdbcBindType()));
+        query.setObject(index, zdt, getJdbcBindType());
+        return 1;
     }
 
     @Override
-    protected List<ValueBindDescriptor> normalTimestampValue(int index, Object value) {
+    protected int normalTimestampValue(QueryBinder query, int index, Object value) {
 
         final ZonedDateTime zdt = ZonedDateTime.parse((String) value, ZonedTimestamp.FORMATTER).withZoneSameInstant(getDatabaseTimeZone().toZoneId());
 
-        return List.of(new ValueBindDescriptor(index, zdt, getJdbcBindType()));
+        query.setObject(index, zdt, getJdbcBindType());
+        return 1;
     }
 }
@@ -5,11 +5,11 @@
  */
 package io.debezium.connector.jdbc.dialect.postgres;
 
-import java.util.Arrays;
 import java.util.List;
 
 import org.apache.kafka.connect.data.Schema;
 
+import io.debezium.connector.jdbc.QueryBinder;
 import io.debezium.connector.jdbc.ValueBindDescriptor;
 import io.debezium.connector.jdbc.dialect.DatabaseDialect;
 import io.debezium.connector.jdbc.type.AbstractType;
@@ -42,9 +42,16 @@ private String getElementTypeName(DatabaseDialect dialect, Schema schema, boolea
 
     @Override
     public List<ValueBindDescriptor> bind(int index, Schema schema, Object value) {
+        return collectBoundValues(index, schema, value);
+    }
+
+    @Override
+    public int bind(QueryBinder query, int index, Schema schema, Object value) {
         if (value == null) {
-            return Arrays.asList(new ValueBindDescriptor(index, null));
+            query.setNull(index);
+            return 1;
         }
-        return List.of(new ValueBindDescriptor(index, value, java.sql.Types.ARRAY, getElementTypeName(this.getDialect(), schema, false)));
+        query.setArray(index, value, getElementTypeName(this.getDialect(), schema, false));
+        return 1;
     }
 }
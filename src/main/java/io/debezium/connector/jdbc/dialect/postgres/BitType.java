@@ -12,6 +12,7 @@
 
 import org.apache.kafka.connect.data.Schema;
 
+import io.debezium.connector.jdbc.QueryBinder;
 import io.debezium.connector.jdbc.ValueBindDescriptor;
 import io.debezium.connector.jdbc.dialect.DatabaseDialect;
 import io.debezium.connector.jdbc.relational.ColumnDescriptor;
@@ -76,22 +77,31 @@ public String getTypeName(DatabaseDialect dialect, Schema schema, boolean key) {
 
     @Override
     public List<ValueBindDescriptor> bind(int index, Schema schema, Object value) {
+        return collectBoundValues(index, schema, value);
+    }
+
+    @Override
+    public int bind(QueryBinder query, int index, Schema schema, Object value) {
 
         if (value == null) {
-            return List.of(new ValueBindDescriptor(index, null));
+            query.setNull(index);
+            return 1;
         }
 
         if (isBitOne(schema) && (value instanceof Boolean)) {
-            return List.of(new ValueBindDescriptor(index, ((boolean) value) ? '1' : '0'));
+            query.setObject(index, ((boolean) value) ? '1' : '0');
+            return 1;
         }
 
         final int length = Integer.parseInt(schema.parameters().get(Bits.LENGTH_FIELD));
         final String binaryBitString = new BigInteger((byte[]) value).toString(2);
         if (length == Integer.MAX_VALUE) {
-            return List.of(new ValueBindDescriptor(index, binaryBitString));
+            query.setObject(index, binaryBitString);
+            return 1;
         }
 
-        return List.of(new ValueBindDescriptor(index, Strings.justifyRight(binaryBitString, length, '0')));
+        query.setObject(index, Strings.justifyRight(binaryBitString, length, '0'));
+        return 1;
     }
 
     private boolean isBitOne(Schema schema) {
@@ -9,6 +9,7 @@
 
 import org.apache.kafka.connect.data.Schema;
 
+import io.debezium.connector.jdbc.QueryBinder;
 import io.debezium.connector.jdbc.ValueBindDescriptor;
 import io.debezium.connector.jdbc.dialect.DatabaseDialect;
 import io.debezium.connector.jdbc.relational.ColumnDescriptor;
@@ -52,12 +53,19 @@ public String getDefaultValueBinding(DatabaseDialect dialect, Schema schema, Obj
 
     @Override
     public List<ValueBindDescriptor> bind(int index, Schema schema, Object value) {
+        return collectBoundValues(index, schema, value);
+    }
+
+    @Override
+    public int bind(QueryBinder query, int index, Schema schema, Object value) {
 
         if (value != null && Long.class.isAssignableFrom(value.getClass())) {
             final double doubleValue = ((Long) value).doubleValue() / 1_000_000d;
-            return List.of(new ValueBindDescriptor(index, ((long) doubleValue) + " seconds"));
+            query.setObject(index, ((long) doubleValue) + " seconds");
+            return 1;
         }
 
-        return super.bind(index, schema, value);
+        query.setObject(index, value);
+        return 1;
     }
 }
@@ -9,6 +9,7 @@
 
 import org.apache.kafka.connect.data.Schema;
 
+import io.debezium.connector.jdbc.QueryBinder;
 import io.debezium.connector.jdbc.ValueBindDescriptor;
 import io.debezium.connector.jdbc.dialect.DatabaseDialect;
 import io.debezium.connector.jdbc.relational.ColumnDescriptor;
@@ -46,10 +47,16 @@ public String getTypeName(DatabaseDialect dialect, Schema schema, boolean key) {
 
     @Override
     public List<ValueBindDescriptor> bind(int index, Schema schema, Object value) {
+        return collectBoundValues(index, schema, value);
+    }
+
+    @Override
+    public int bind(QueryBinder query, int index, Schema schema, Object value) {
         if (isHstore(schema)) {
             value = HstoreConverter.jsonToString((String) value);
         }
-        return super.bind(index, schema, value);
+        query.setObject(index, value);
+        return 1;
     }
 
     private String resolveType(Schema schema) {
@@ -10,6 +10,7 @@
 
 import org.apache.kafka.connect.data.Schema;
 
+import io.debezium.connector.jdbc.QueryBinder;
 import io.debezium.connector.jdbc.ValueBindDescriptor;
 import io.debezium.connector.jdbc.dialect.DatabaseDialect;
 import io.debezium.connector.jdbc.relational.ColumnDescriptor;
@@ -38,9 +39,15 @@ public String getTypeName(DatabaseDialect dialect, Schema schema, boolean key) {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public List<ValueBindDescriptor> bind(int index, Schema schema, Object value) {
-        return super.bind(index, schema, HstoreConverter.mapToString((Map<String, String>) value));
+        return collectBoundValues(index, schema, value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public int bind(QueryBinder query, int index, Schema schema, Object value) {
+        query.setObject(index, HstoreConverter.mapToString((Map<String, String>) value));
+        return 1;
     }
 
 }
@@ -0,0 +1,438 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc.dialect.postgres;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Encodes rows in the PostgreSQL {@code COPY ... (FORMAT binary)} format.
+ *
+ * Values are encoded based on the destination column type. A value is only encoded when its Java type
+ * maps onto the column type without any server-side conversion; otherwise the encoder reports the value
+ * as unsupported and the batch should be written using prepared statements instead.
+ */
+class PostgresBinaryCopyEncoder {
+
+    private static final byte[] SIGNATURE = { 'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0 };
+    private static final LocalDate POSTGRES_EPOCH_DATE = LocalDate.of(2000, 1, 1);
+    private static final LocalDateTime POSTGRES_EPOCH = POSTGRES_EPOCH_DATE.atStartOfDay();
+    private static final long POSTGRES_EPOCH_MICROS = POSTGRES_EPOCH.toEpochSecond(ZoneOffset.UTC) * 1_000_000L;
+
+    private static final short NUMERIC_POSITIVE = 0x0000;
+    private static final short NUMERIC_NEGATIVE = 0x4000;
+    private static final byte JSONB_VERSION = 1;
+
+    private final String[] typeNames;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(8192);
+    private final DataOutputStream out = new DataOutputStream(buffer);
+
+    /**
+     * @param columnTypeNames the destination column type names, in tuple order
+     */
+    PostgresBinaryCopyEncoder(List<String> columnTypeNames) {
+        this.typeNames = new String[columnTypeNames.size()];
+        for (int i = 0; i < typeNames.length; i++) {
+            typeNames[i] = columnTypeNames.get(i).toLowerCase(Locale.ROOT);
+        }
+        write(SIGNATURE);
+        writeInt(0); // flags
+        writeInt(0); // header extension length
+    }
+
+    /**
+     * Returns whether values can be encoded for columns of the given type.
+     *
+     * @param typeName the column type name, should not be {@code null}
+     * @return true if the type is supported, false otherwise
+     */
+    static boolean isSupportedType(String typeName) {
+        switch (typeName.toLowerCase(Locale.ROOT)) {
+            case "bool":
+            case "int2":
+            case "smallserial":
+            case "int4":
+            case "serial":
+            case "int8":
+            case "bigserial":
+            case "float4":
+            case "float8":
+            case "numeric":
+            case "text":
+            case "varchar":
+            case "bpchar":
+            case "json":
+            case "jsonb":
+            case "uuid":
+            case "bytea":
+            case "date":
+            case "time":
+            case "timestamp":
+            case "timestamptz":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Appends a tuple to the encoded stream.
+     *
+     * @param values the values of the tuple in column order, never {@code null}
+     * @return true if the tuple was encoded; false if a value cannot be encoded, leaving the stream unusable
+     */
+    boolean writeTuple(Object[] values) {
+        writeShort(values.length);
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == null) {
+                writeInt(-1);
+            }
+            else if (!writeValue(typeNames[i], values[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Completes the stream and returns the encoded bytes.
+     *
+     * @return the encoded stream including the header and trailer
+     */
+    byte[] finish() {
+        writeShort(-1);
+        return buffer.toByteArray();
+    }
+
+    private boolean writeValue(String typeName, Object value) {
+        switch (typeName) {
+            case "bool":
+                if (value instanceof Boolean) {
+                    writeInt(1);
+                    write((Boolean) value ? 1 : 0);
+                    return true;
+                }
+                return false;
+            case "int2":
+            case "smallserial":
+                // Values out of range are left for the database to reject rather than wrapped
+                if (isIntegralInRange(value, Short.MIN_VALUE, Short.MAX_VALUE)) {
+                    writeInt(2);
+                    writeShort(((Number) value).shortValue());
+                    return true;
+                }
+                return false;
+            case "int4":
+            case "serial":
+                if (isIntegralInRange(value, Integer.MIN_VALUE, Integer.MAX_VALUE)) {
+                    writeInt(4);
+                    writeInt(((Number) value).intValue());
+                    return true;
+                }
+                return false;
+            case "int8":
+            case "bigserial":
+                if (isIntegral(value)) {
+                    writeInt(8);
+                    writeLong(((Number) value).longValue());
+                    return true;
+                }
+                return false;
+            case "float4":
+                if (value instanceof Float) {
+                    writeInt(4);
+                    writeInt(Float.floatToIntBits((Float) value));
+                    return true;
+                }
+                return false;
+            case "float8":
+                if (value instanceof Double || value instanceof Float) {
+                    writeInt(8);
+                    writeLong(Double.doubleToLongBits(((Number) value).doubleValue()));
+                    return true;
+                }
+                return false;
+            case "numeric":
+                if (value instanceof BigDecimal) {
+                    writeNumeric((BigDecimal) value);
+                    return true;
+                }
+                if (isIntegral(value)) {
+                    writeNumeric(BigDecimal.valueOf(((Number) value).longValue()));
+                    return true;
+                }
+                if (value instanceof BigInteger) {
+                    writeNumeric(new BigDecimal((BigInteger) value));
+                    return true;
+                }
+                return false;
+            case "text":
+            case "varchar":
+            case "bpchar":
+            case "json":
+                if (value instanceof String) {
+                    writeBytes(((String) value).getBytes(StandardCharsets.UTF_8));
+                    return true;
+                }
+                return false;
+            case "jsonb":
+                if (value instanceof String) {
+                    final byte[] bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+                    writeInt(bytes.length + 1);
+                    write(JSONB_VERSION);
+                    write(bytes);
+                    return true;
+                }
+                return false;
+            case "uuid":
+                return writeUuid(value);
+            case "bytea":
+                if (value instanceof byte[]) {
+                    writeBytes((byte[]) value);
+                    return true;
+                }
+                if (value instanceof ByteBuffer) {
+                    final ByteBuffer byteBuffer = ((ByteBuffer) value).duplicate();
+                    final byte[] bytes = new byte[byteBuffer.remaining()];
+                    byteBuffer.get(bytes);
+                    writeBytes(bytes);
+                    return true;
+                }
+                return false;
+            case "date":
+                return writeDate(value);
+            case "time":
+                return writeTime(value);
+            case "timestamp":
+                return writeTimestamp(value);
+            case "timestamptz":
+                return writeTimestampWithTimeZone(value);
+            default:
+                return false;
+        }
+    }
+
+    private boolean writeUuid(Object value) {
+        final UUID uuid;
+        if (value instanceof UUID) {
+            uuid = (UUID) value;
+        }
+        else if (value instanceof String) {
+            try {
+                uuid = UUID.fromString((String) value);
+            }
+            catch (IllegalArgumentException e) {
+                // Let the database report the invalid value through the prepared statement path
+                return false;
+            }
+        }
+        else {
+            return false;
+        }
+        writeInt(16);
+        writeLong(uuid.getMostSignificantBits());
+        writeLong(uuid.getLeastSignificantBits());
+        return true;
+    }
+
+    private boolean writeDate(Object value) {
+        final LocalDate date;
+        if (value instanceof LocalDate) {
+            date = (LocalDate) value;
+        }
+        else if (value instanceof java.sql.Date) {
+            date = ((java.sql.Date) value).toLocalDate();
+        }
+        else {
+            return false;
+        }
+        writeInt(4);
+        writeInt(Math.toIntExact(ChronoUnit.DAYS.between(POSTGRES_EPOCH_DATE, date)));
+        return true;
+    }
+
+    private boolean writeTime(Object value) {
+        final LocalTime time;
+        if (value instanceof LocalTime) {
+            time = (LocalTime) value;
+        }
+        else if (value instanceof java.sql.Time) {
+            time = ((java.sql.Time) value).toLocalTime();
+        }
+        else {
+            return false;
+        }
+        writeInt(8);
+        writeLong(roundToMicros(time.toSecondOfDay(), time.getNano()));
+        return true;
+    }
+
+    private boolean writeTimestamp(Object value) {
+        final LocalDateTime dateTime;
+        if (value instanceof LocalDateTime) {
+            dateTime = (LocalDateTime) value;
+        }
+        else if (value instanceof java.sql.Timestamp) {
+            dateTime = ((java.sql.Timestamp) value).toLocalDateTime();
+        }
+        else {
+            return false;
+        }
+        writeInt(8);
+        writeLong(roundToMicros(dateTime.toEpochSecond(ZoneOffset.UTC), dateTime.getNano()) - POSTGRES_EPOCH_MICROS);
+        return true;
+    }
+
+    private boolean writeTimestampWithTimeZone(Object value) {
+        final Instant instant;
+        if (value instanceof OffsetDateTime) {
+            instant = ((OffsetDateTime) value).toInstant();
+        }
+        else if (value instanceof ZonedDateTime) {
+            instant = ((ZonedDateTime) value).toInstant();
+        }
+        else if (value instanceof Instant) {
+            instant = (Instant) value;
+        }
+        else {
+            return false;
+        }
+        writeInt(8);
+        writeLong(roundToMicros(instant.getEpochSecond(), instant.getNano()) - POSTGRES_EPOCH_MICROS);
+        return true;
+    }
+
+    /**
+     * Writes a numeric value as base-10000 digits, see {@code numeric_send} in the PostgreSQL sources.
+     */
+    private void writeNumeric(BigDecimal value) {
+        BigDecimal absolute = value.abs();
+        if (absolute.scale() < 0) {
+            absolute = absolute.setScale(0);
+        }
+        final int displayScale = absolute.scale();
+
+        final String plain = absolute.toPlainString();
+        final int point = plain.indexOf('.');
+        String integerPart = point < 0 ? plain : plain.substring(0, point);
+        String fractionPart = point < 0 ? "" : plain.substring(point + 1);
+        if ("0".equals(integerPart)) {
+            integerPart = "";
+        }
+        integerPart = "0".repeat((4 - integerPart.length() % 4) % 4) + integerPart;
+        fractionPart = fractionPart + "0".repeat((4 - fractionPart.length() % 4) % 4);
+
+        final String digits = integerPart + fractionPart;
+        int weight = integerPart.length() / 4 - 1;
+        int first = 0;
+        int last = digits.length() / 4;
+        while (first < last && digitGroup(digits, first) == 0) {
+            first++;
+            weight--;
+        }
+        while (last > first && digitGroup(digits, last - 1) == 0) {
+            last--;
+        }
+
+        final int count = last - first;
+        writeInt(8 + count * 2);
+        writeShort(count);
+        writeShort(count == 0 ? 0 : weight);
+        writeShort(value.signum() < 0 ? NUMERIC_NEGATIVE : NUMERIC_POSITIVE);
+        writeShort(displayScale);
+        for (int i = first; i < last; i++) {
+            writeShort(digitGroup(digits, i));
+        }
+    }
+
+    private static int digitGroup(String digits, int group) {
+        return Integer.parseInt(digits, group * 4, group * 4 + 4, 10);
+    }
+
+    private static boolean isIntegral(Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+
+    private static boolean isIntegralInRange(Object value, long min, long max) {
+        if (!isIntegral(value)) {
+            return false;
+        }
+        final long longValue = ((Number) value).longValue();
+        return longValue >= min && longValue <= max;
+    }
+
+    private static long roundToMicros(long seconds, int nanos) {
+        // PostgreSQL rounds fractional seconds to the nearest microsecond
+        return seconds * 1_000_000L + (nanos + 500) / 1_000;
+    }
+
+    private void writeBytes(byte[] bytes) {
+        writeInt(bytes.length);
+        write(bytes);
+    }
+
+    private void write(byte[] bytes) {
+        try {
+            out.write(bytes);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(int value) {
+        try {
+            out.writeByte(value);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeShort(int value) {
+        try {
+            out.writeShort(value);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeInt(int value) {
+        try {
+            out.writeInt(value);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeLong(long value) {
+        try {
+            out.writeLong(value);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
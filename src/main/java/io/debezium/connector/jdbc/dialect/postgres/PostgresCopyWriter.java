@@ -0,0 +1,144 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc.dialect.postgres;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.connector.jdbc.BindPlan;
+import io.debezium.connector.jdbc.SinkRecordDescriptor;
+import io.debezium.connector.jdbc.dialect.BulkRowBinder;
+import io.debezium.connector.jdbc.dialect.BulkWriter;
+import io.debezium.connector.jdbc.dialect.DatabaseDialect;
+import io.debezium.connector.jdbc.dialect.SqlStatementBuilder;
+
+/**
+ * A {@link BulkWriter} that inserts a batch of records into a PostgreSQL table using
+ * {@code COPY ... FROM STDIN (FORMAT binary)}, either directly into the destination table
+ * or into a staging table, see {@link PostgresStagingWriter}.
+ *
+ * The values of each record are bound by the registered types exactly as for prepared statements,
+ * and the whole batch is encoded before anything is sent to the database. If any value cannot be
+ * encoded, the batch is left to the prepared statement path.
+ */
+class PostgresCopyWriter implements BulkWriter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PostgresCopyWriter.class);
+
+    private final DatabaseDialect dialect;
+    private final String copyStatement;
+    private final List<String> columnTypeNames;
+    private final boolean sequenced;
+
+    /**
+     * @param dialect the database dialect, should not be {@code null}
+     * @param copyStatement the {@code COPY} statement, should not be {@code null}
+     * @param columnTypeNames the destination column type names, in bind plan order
+     * @param sequenced whether the position of each record in the batch is copied as an additional last column
+     */
+    PostgresCopyWriter(DatabaseDialect dialect, String copyStatement, List<String> columnTypeNames, boolean sequenced) {
+        this.dialect = dialect;
+        this.copyStatement = copyStatement;
+        this.columnTypeNames = columnTypeNames;
+        this.sequenced = sequenced;
+    }
+
+    /**
+     * Returns whether values of all the given column types can be encoded.
+     *
+     * @param columnTypeNames the destination column type names, should not be {@code null}
+     */
+    static boolean isSupported(List<String> columnTypeNames) {
+        for (String columnTypeName : columnTypeNames) {
+            if (!PostgresBinaryCopyEncoder.isSupportedType(columnTypeName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the {@code COPY} statement for the given columns.
+     *
+     * @param tableName the qualified table name, should not be {@code null}
+     * @param columnNames the column identifiers, in bind plan order
+     * @param sequenced whether the sequence column of the staging table is copied as well
+     */
+    static String getCopyStatement(String tableName, List<String> columnNames, boolean sequenced) {
+        final SqlStatementBuilder builder = new SqlStatementBuilder();
+        builder.append("COPY ");
+        builder.append(tableName);
+        builder.append(" (");
+        builder.appendList(",", columnNames, (name) -> name);
+        if (sequenced) {
+            builder.append(",").append(PostgresStagingWriter.SEQUENCE_COLUMN);
+        }
+        builder.append(") FROM STDIN (FORMAT binary)");
+        return builder.build();
+    }
+
+    @Override
+    public boolean write(Connection connection, BindPlan bindPlan, List<SinkRecordDescriptor> records) throws SQLException {
+        if (!supports(connection, bindPlan)) {
+            return false;
+        }
+
+        final byte[] data = encode(bindPlan, records);
+        if (data == null) {
+            return false;
+        }
+
+        copy(connection, data);
+        return true;
+    }
+
+    boolean supports(Connection connection, BindPlan bindPlan) throws SQLException {
+        return bindPlan.size() == columnTypeNames.size() && connection.isWrapperFor(PGConnection.class);
+    }
+
+    /**
+     * Encodes the records, returning {@code null} if any value cannot be encoded.
+     */
+    byte[] encode(BindPlan bindPlan, List<SinkRecordDescriptor> records) {
+        final List<String> typeNames = new ArrayList<>(columnTypeNames);
+        if (sequenced) {
+            typeNames.add("int8");
+        }
+
+        final PostgresBinaryCopyEncoder encoder = new PostgresBinaryCopyEncoder(typeNames);
+        final BulkRowBinder binder = new BulkRowBinder(columnTypeNames.size(), sequenced ? 1 : 0);
+        long sequence = 0;
+        for (SinkRecordDescriptor record : records) {
+            final Object[] row = binder.bind(bindPlan, record, dialect);
+            if (row != null && sequenced) {
+                row[row.length - 1] = sequence++;
+            }
+            if (row == null || !encoder.writeTuple(row)) {
+                LOGGER.debug("Batch for '{}' contains values that cannot be copied in binary format, using prepared statements.", copyStatement);
+                return null;
+            }
+        }
+        return encoder.finish();
+    }
+
+    void copy(Connection connection, byte[] data) throws SQLException {
+        try {
+            final long rows = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(copyStatement, new ByteArrayInputStream(data));
+            LOGGER.trace("Copied {} rows using '{}'", rows, copyStatement);
+        }
+        catch (IOException e) {
+            throw new SQLException("Failed to stream rows using COPY", e);
+        }
+    }
+}
@@ -12,6 +12,8 @@
 import java.sql.SQLException;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import org.apache.kafka.connect.data.Schema;
@@ -20,7 +22,9 @@
 import org.hibernate.dialect.PostgreSQLDialect;
 
 import io.debezium.connector.jdbc.JdbcSinkConnectorConfig;
+import io.debezium.connector.jdbc.JdbcSinkConnectorConfig.InsertMode;
 import io.debezium.connector.jdbc.SinkRecordDescriptor;
+import io.debezium.connector.jdbc.dialect.BulkWriter;
 import io.debezium.connector.jdbc.dialect.DatabaseDialect;
 import io.debezium.connector.jdbc.dialect.DatabaseDialectProvider;
 import io.debezium.connector.jdbc.dialect.GeneralDatabaseDialect;
@@ -120,6 +124,60 @@ public String getUpsertStatement(TableDescriptor table, SinkRecordDescriptor rec
         return builder.build();
     }
 
+    @Override
+    public boolean isTransientError(SQLException exception) {
+        // lock_not_available, too_many_connections, admin_shutdown, crash_shutdown and cannot_connect_now
+        final String sqlState = exception.getSQLState();
+        if ("55P03".equals(sqlState) || "53300".equals(sqlState) || "57P01".equals(sqlState) || "57P02".equals(sqlState) || "57P03".equals(sqlState)) {
+            return true;
+        }
+        return super.isTransientError(exception);
+    }
+
+    @Override
+    public Optional<BulkWriter> getBulkWriter(TableDescriptor table, SinkRecordDescriptor record) {
+        final JdbcSinkConnectorConfig config = getConfig();
+        final boolean staging = config.isPostgresStagingUpsert() && (record.isDelete() || config.getInsertMode() == InsertMode.UPSERT);
+        final boolean copy = config.isPostgresCopyInsert() && !record.isDelete() && config.getInsertMode() == InsertMode.INSERT;
+        if (!staging && !copy) {
+            return Optional.empty();
+        }
+
+        // Columns are copied in the same order as the bind plan of the equivalent statement
+        final List<String> fieldNames = new ArrayList<>(record.getKeyFieldNames());
+        if (!record.isDelete()) {
+            fieldNames.addAll(record.getNonKeyFieldNames());
+        }
+
+        final List<String> columnNames = new ArrayList<>(fieldNames.size());
+        final List<String> columnTypeNames = new ArrayList<>(fieldNames.size());
+        for (String fieldName : fieldNames) {
+            final String columnName = resolveColumnName(record.getFields().get(fieldName));
+            columnNames.add(toIdentifier(columnName));
+            columnTypeNames.add(table.getColumnByName(columnName).getTypeName());
+        }
+        if (!PostgresCopyWriter.isSupported(columnTypeNames)) {
+            return Optional.empty();
+        }
+
+        final String tableName = getQualifiedTableName(table.getId());
+        if (copy) {
+            final String copyStatement = PostgresCopyWriter.getCopyStatement(tableName, columnNames, false);
+            return Optional.of(new PostgresCopyWriter(this, copyStatement, columnTypeNames, false));
+        }
+
+        final List<String> keyColumnNames = columnNames.subList(0, record.getKeyFieldNames().size());
+        final List<String> nonKeyColumnNames = columnNames.subList(keyColumnNames.size(), columnNames.size());
+        final String copyStatement = PostgresCopyWriter.getCopyStatement(PostgresStagingWriter.STAGING_TABLE, columnNames, true);
+        final String applyStatement = record.isDelete()
+                ? PostgresStagingWriter.getDeleteStatement(tableName, keyColumnNames)
+                : PostgresStagingWriter.getUpsertStatement(tableName, keyColumnNames, nonKeyColumnNames);
+        return Optional.of(new PostgresStagingWriter(
+                new PostgresCopyWriter(this, copyStatement, columnTypeNames, true),
+                PostgresStagingWriter.getCreateStatement(tableName, columnNames),
+                applyStatement));
+    }
+
     @Override
     public String getQueryBindingWithValueCast(ColumnDescriptor column, Schema schema, Type type) {
         if (schema.type() == Schema.Type.STRING) {
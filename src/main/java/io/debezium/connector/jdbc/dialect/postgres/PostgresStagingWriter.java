@@ -0,0 +1,142 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc.dialect.postgres;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.connector.jdbc.BindPlan;
+import io.debezium.connector.jdbc.SinkRecordDescriptor;
+import io.debezium.connector.jdbc.dialect.BulkWriter;
+import io.debezium.connector.jdbc.dialect.SqlStatementBuilder;
+
+/**
+ * A {@link BulkWriter} that applies a batch of upserts or deletes to a PostgreSQL table using a
+ * transaction-scoped staging table.
+ *
+ * The batch is copied into a temporary table mirroring the affected destination columns together with
+ * the position of each record in the batch, and is then applied with a single set-based statement.
+ * When the same key occurs several times in the batch, only its last occurrence is applied.
+ */
+class PostgresStagingWriter implements BulkWriter {
+
+    static final String STAGING_TABLE = "__dbz_staging";
+    static final String SEQUENCE_COLUMN = "__dbz_seq";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PostgresStagingWriter.class);
+
+    private final PostgresCopyWriter copyWriter;
+    private final String createStatement;
+    private final String applyStatement;
+
+    /**
+     * @param copyWriter the sequenced writer copying into the staging table, should not be {@code null}
+     * @param createStatement the statement creating the staging table, should not be {@code null}
+     * @param applyStatement the statement applying the staged rows to the destination table, should not be {@code null}
+     */
+    PostgresStagingWriter(PostgresCopyWriter copyWriter, String createStatement, String applyStatement) {
+        this.copyWriter = copyWriter;
+        this.createStatement = createStatement;
+        this.applyStatement = applyStatement;
+    }
+
+    /**
+     * Returns the statement creating the staging table with the types of the given destination columns.
+     *
+     * @param tableName the qualified destination table name, should not be {@code null}
+     * @param columnNames the column identifiers, in bind plan order
+     */
+    static String getCreateStatement(String tableName, List<String> columnNames) {
+        // Only the column types are mirrored, constraints of the destination table do not apply to staged deletes
+        final SqlStatementBuilder builder = new SqlStatementBuilder();
+        builder.append("CREATE TEMPORARY TABLE ");
+        builder.append(STAGING_TABLE);
+        builder.append(" ON COMMIT DROP AS SELECT ");
+        builder.appendList(",", columnNames, (name) -> name);
+        builder.append(",0::bigint AS ").append(SEQUENCE_COLUMN);
+        builder.append(" FROM ");
+        builder.append(tableName);
+        builder.append(" WITH NO DATA");
+        return builder.build();
+    }
+
+    /**
+     * Returns the statement upserting the last staged row of each key into the destination table.
+     *
+     * @param tableName the qualified destination table name, should not be {@code null}
+     * @param keyColumnNames the key column identifiers, should not be empty
+     * @param nonKeyColumnNames the non-key column identifiers, may be empty
+     */
+    static String getUpsertStatement(String tableName, List<String> keyColumnNames, List<String> nonKeyColumnNames) {
+        final SqlStatementBuilder builder = new SqlStatementBuilder();
+        builder.append("INSERT INTO ");
+        builder.append(tableName);
+        builder.append(" (");
+        builder.appendLists(",", keyColumnNames, nonKeyColumnNames, (name) -> name);
+        builder.append(") SELECT DISTINCT ON (");
+        builder.appendList(",", keyColumnNames, (name) -> name);
+        builder.append(") ");
+        builder.appendLists(",", keyColumnNames, nonKeyColumnNames, (name) -> name);
+        builder.append(" FROM ");
+        builder.append(STAGING_TABLE);
+        builder.append(" ORDER BY ");
+        builder.appendList(",", keyColumnNames, (name) -> name);
+        builder.append(",").append(SEQUENCE_COLUMN).append(" DESC");
+        builder.append(" ON CONFLICT (");
+        builder.appendList(",", keyColumnNames, (name) -> name);
+        if (nonKeyColumnNames.isEmpty()) {
+            builder.append(") DO NOTHING");
+        }
+        else {
+            builder.append(") DO UPDATE SET ");
+            builder.appendList(",", nonKeyColumnNames, (name) -> name + "=EXCLUDED." + name);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns the statement deleting the rows matching the staged keys from the destination table.
+     *
+     * @param tableName the qualified destination table name, should not be {@code null}
+     * @param keyColumnNames the key column identifiers, should not be empty
+     */
+    static String getDeleteStatement(String tableName, List<String> keyColumnNames) {
+        final SqlStatementBuilder builder = new SqlStatementBuilder();
+        builder.append("DELETE FROM ");
+        builder.append(tableName);
+        builder.append(" AS t USING ");
+        builder.append(STAGING_TABLE);
+        builder.append(" AS s WHERE ");
+        builder.appendList(" AND ", keyColumnNames, (name) -> "t." + name + "=s." + name);
+        return builder.build();
+    }
+
+    @Override
+    public boolean write(Connection connection, BindPlan bindPlan, List<SinkRecordDescriptor> records) throws SQLException {
+        if (!copyWriter.supports(connection, bindPlan)) {
+            return false;
+        }
+
+        // Encode before touching the database so that a fallback leaves nothing behind
+        final byte[] data = copyWriter.encode(bindPlan, records);
+        if (data == null) {
+            return false;
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(createStatement);
+            copyWriter.copy(connection, data);
+            final int rows = statement.executeUpdate(applyStatement);
+            LOGGER.trace("Applied {} staged rows using '{}'", rows, applyStatement);
+        }
+        return true;
+    }
+}
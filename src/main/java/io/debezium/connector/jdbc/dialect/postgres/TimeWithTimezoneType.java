@@ -8,12 +8,11 @@
 import java.time.LocalDate;
 import java.time.OffsetTime;
 import java.time.ZonedDateTime;
-import java.util.List;
 
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.errors.ConnectException;
 
-import io.debezium.connector.jdbc.ValueBindDescriptor;
+import io.debezium.connector.jdbc.QueryBinder;
 import io.debezium.connector.jdbc.type.Type;
 import io.debezium.connector.jdbc.type.debezium.ZonedTimeType;
 import io.debezium.time.ZonedTime;
@@ -33,10 +32,11 @@ public String[] getRegistrationKeys() {
     }
 
     @Override
-    public List<ValueBindDescriptor> bind(int index, Schema schema, Object value) {
+    public int bind(QueryBinder query, int index, Schema schema, Object value) {
 
         if (value == null) {
-            return List.of(new ValueBindDescriptor(index, null));
+            query.setNull(index);
+            return 1;
         }
 
         if (value instanceof String) {
@@ -45,13 +45,16 @@ public List<ValueBindDescriptor> bind(int index, Schema schema, Object value) {
 
             if (getDialect().isTimeZoneSet()) {
                 if (getDialect().shouldBindTimeWithTimeZoneAsDatabaseTimeZone()) {
-                    return List.of(new ValueBindDescriptor(index, zdt.withZoneSameInstant(getDatabaseTimeZone().toZoneId())));
+                    query.setObject(index, zdt.withZoneSameInstant(getDatabaseTimeZone().toZoneId()));
+                    return 1;
                 }
 
-                return List.of(new ValueBindDescriptor(index, zdt.toOffsetDateTime().toOffsetTime()));
+                query.setObject(index, zdt.toOffsetDateTime().toOffsetTime());
+                return 1;
             }
 
-            return List.of(new ValueBindDescriptor(index, zdt));
+            query.setObject(index, zdt);
+            return 1;
 
         }
 
@@ -6,11 +6,10 @@
 package io.debezium.connector.jdbc.dialect.postgres;
 
 import java.sql.Types;
-import java.util.List;
 
 import org.apache.kafka.connect.data.Schema;
 
-import io.debezium.connector.jdbc.ValueBindDescriptor;
+import io.debezium.connector.jdbc.QueryBinder;
 import io.debezium.connector.jdbc.relational.ColumnDescriptor;
 import io.debezium.connector.jdbc.type.Type;
 import io.debezium.connector.jdbc.type.debezium.DebeziumZonedTimestampType;
@@ -36,13 +35,20 @@ public String getQueryBinding(ColumnDescriptor column, Schema schema, Object val
     }
 
     @Override
-    protected List<ValueBindDescriptor> infinityTimestampValue(int index, Object value) {
+    public boolean isQueryBindingValueDependent() {
+        return true;
+    }
+
+    @Override
+    protected int infinityTimestampValue(QueryBinder query, int index, Object value) {
 
         if (POSITIVE_INFINITY.equals(value)) {
-            return List.of(new ValueBindDescriptor(index, POSITIVE_INFINITY, Types.VARCHAR));
+            query.setObject(index, POSITIVE_INFINITY, Types.VARCHAR);
+            return 1;
         }
         else {
-            return List.of(new ValueBindDescriptor(index, NEGATIVE_INFINITY, Types.VARCHAR));
+            query.setObject(index, NEGATIVE_INFINITY, Types.VARCHAR);
+            return 1;
         }
     }
 }
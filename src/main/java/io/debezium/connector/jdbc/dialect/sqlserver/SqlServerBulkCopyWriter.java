@@ -0,0 +1,154 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc.dialect.sqlserver;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.microsoft.sqlserver.jdbc.SQLServerBulkCopy;
+import com.microsoft.sqlserver.jdbc.SQLServerBulkCopyOptions;
+import com.microsoft.sqlserver.jdbc.SQLServerConnection;
+
+import io.debezium.connector.jdbc.BindPlan;
+import io.debezium.connector.jdbc.SinkRecordDescriptor;
+import io.debezium.connector.jdbc.dialect.BulkRowBinder;
+import io.debezium.connector.jdbc.dialect.BulkWriter;
+import io.debezium.connector.jdbc.dialect.DatabaseDialect;
+import io.debezium.connector.jdbc.relational.ColumnDescriptor;
+
+/**
+ * A {@link BulkWriter} that writes a batch of records to SQL Server using {@link SQLServerBulkCopy}.
+ *
+ * Inserts are bulk copied directly into the destination table. Upserts and deletes are bulk copied
+ * into a session temporary table together with the position of each record in the batch, and are then
+ * applied with a single {@code MERGE} or {@code DELETE} statement that only considers the last change
+ * per key. The whole batch is converted before anything is sent to the database, and batches with
+ * values that cannot be bulk copied as is are left to the prepared statement path.
+ */
+class SqlServerBulkCopyWriter implements BulkWriter {
+
+    static final String STAGING_TABLE = "#dbz_staging";
+    static final String SEQUENCE_COLUMN = "__dbz_seq";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SqlServerBulkCopyWriter.class);
+
+    private final DatabaseDialect dialect;
+    private final String destinationTable;
+    private final List<ColumnDescriptor> columns;
+    private final boolean keepIdentity;
+    private final String createStatement;
+    private final String applyStatement;
+
+    /**
+     * Creates a writer that bulk copies directly into the destination table.
+     *
+     * @param dialect the database dialect, should not be {@code null}
+     * @param destinationTable the qualified destination table name, should not be {@code null}
+     * @param columns the destination columns, in bind plan order
+     * @param keepIdentity whether values supplied for identity columns are retained
+     */
+    SqlServerBulkCopyWriter(DatabaseDialect dialect, String destinationTable, List<ColumnDescriptor> columns, boolean keepIdentity) {
+        this(dialect, destinationTable, columns, keepIdentity, null, null);
+    }
+
+    /**
+     * Creates a writer that bulk copies into the staging table before applying the batch.
+     *
+     * @param dialect the database dialect, should not be {@code null}
+     * @param columns the destination columns, in bind plan order
+     * @param createStatement the statement (re)creating the staging table, should not be {@code null}
+     * @param applyStatement the statements applying and dropping the staging table, should not be {@code null}
+     */
+    SqlServerBulkCopyWriter(DatabaseDialect dialect, List<ColumnDescriptor> columns, String createStatement, String applyStatement) {
+        // The staging table inherits identity columns, whose values must be retained
+        this(dialect, STAGING_TABLE, columns, true, createStatement, applyStatement);
+    }
+
+    private SqlServerBulkCopyWriter(DatabaseDialect dialect, String destinationTable, List<ColumnDescriptor> columns, boolean keepIdentity,
+                                    String createStatement, String applyStatement) {
+        this.dialect = dialect;
+        this.destinationTable = destinationTable;
+        this.columns = columns;
+        this.keepIdentity = keepIdentity;
+        this.createStatement = createStatement;
+        this.applyStatement = applyStatement;
+    }
+
+    @Override
+    public boolean write(Connection connection, BindPlan bindPlan, List<SinkRecordDescriptor> records) throws SQLException {
+        if (bindPlan.size() != columns.size() || !connection.isWrapperFor(SQLServerConnection.class)) {
+            return false;
+        }
+
+        final boolean staged = createStatement != null;
+        final List<Object[]> rows = convert(bindPlan, records, staged);
+        if (rows == null) {
+            LOGGER.debug("Batch for '{}' contains values that cannot be bulk copied, using prepared statements.", destinationTable);
+            return false;
+        }
+
+        if (staged) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(createStatement);
+            }
+        }
+
+        final SQLServerBulkCopyOptions options = new SQLServerBulkCopyOptions();
+        options.setKeepIdentity(keepIdentity);
+        // Explicit nulls are written as nulls rather than column defaults, as for INSERT statements
+        options.setKeepNulls(true);
+        // Constraints are checked and triggers fired, as for INSERT statements, instead of the driver's defaults
+        // that skip both and leave the constraints untrusted
+        options.setCheckConstraints(true);
+        options.setFireTriggers(true);
+        options.setBulkCopyTimeout(0);
+
+        try (SQLServerBulkCopy bulkCopy = new SQLServerBulkCopy(connection.unwrap(SQLServerConnection.class))) {
+            bulkCopy.setBulkCopyOptions(options);
+            bulkCopy.setDestinationTableName(destinationTable);
+            final SqlServerBulkData data = new SqlServerBulkData(columns, staged, rows);
+            for (Integer ordinal : data.getColumnOrdinals()) {
+                bulkCopy.addColumnMapping(ordinal, data.getColumnName(ordinal));
+            }
+            bulkCopy.writeToServer(data);
+        }
+
+        if (staged) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(applyStatement);
+            }
+        }
+        return true;
+    }
+
+    private List<Object[]> convert(BindPlan bindPlan, List<SinkRecordDescriptor> records, boolean sequenced) {
+        final BulkRowBinder binder = new BulkRowBinder(columns.size(), sequenced ? 1 : 0);
+        final List<Object[]> rows = new ArrayList<>(records.size());
+        for (SinkRecordDescriptor record : records) {
+            final Object[] row = binder.bind(bindPlan, record, dialect);
+            if (row == null) {
+                return null;
+            }
+            for (int i = 0; i < columns.size(); i++) {
+                row[i] = SqlServerBulkData.convert(columns.get(i), row[i]);
+                if (row[i] == SqlServerBulkData.UNSUPPORTED) {
+                    return null;
+                }
+            }
+            if (sequenced) {
+                row[row.length - 1] = (long) rows.size();
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+}
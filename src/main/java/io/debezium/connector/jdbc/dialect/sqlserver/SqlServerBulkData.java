@@ -0,0 +1,208 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc.dialect.sqlserver;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.microsoft.sqlserver.jdbc.ISQLServerBulkData;
+
+import io.debezium.connector.jdbc.relational.ColumnDescriptor;
+
+/**
+ * An {@link ISQLServerBulkData} adapter over the rows of a batch of records, as consumed by
+ * {@link com.microsoft.sqlserver.jdbc.SQLServerBulkCopy}.
+ *
+ * Source column metadata is taken from the destination columns. When the rows are sequenced, the
+ * position of each record in the batch is provided as an additional last {@code BIGINT} column.
+ */
+class SqlServerBulkData implements ISQLServerBulkData {
+
+    /**
+     * Marker returned by {@link #convert(ColumnDescriptor, Object)} for values that cannot be bulk copied.
+     */
+    static final Object UNSUPPORTED = new Object();
+
+    private final List<ColumnDescriptor> columns;
+    private final List<Object[]> rows;
+    private final Set<Integer> ordinals = new LinkedHashSet<>();
+    private int position = -1;
+
+    /**
+     * @param columns the destination columns, in row order
+     * @param sequenced whether the rows have a trailing sequence column
+     * @param rows the converted rows, see {@link #convert(ColumnDescriptor, Object)}
+     */
+    SqlServerBulkData(List<ColumnDescriptor> columns, boolean sequenced, List<Object[]> rows) {
+        this.columns = columns;
+        this.rows = rows;
+        for (int i = 1; i <= columns.size() + (sequenced ? 1 : 0); i++) {
+            ordinals.add(i);
+        }
+    }
+
+    /**
+     * Returns whether values can be bulk copied into columns of the given JDBC type.
+     *
+     * @param jdbcType the JDBC type of the column
+     * @return true if the type is supported, false otherwise
+     */
+    static boolean isSupportedType(int jdbcType) {
+        switch (jdbcType) {
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+            case Types.BIT:
+            case Types.BOOLEAN:
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+            case Types.DATE:
+            case Types.TIMESTAMP:
+            case microsoft.sql.Types.DATETIMEOFFSET:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Converts a bound value into the representation expected by the bulk copy API.
+     *
+     * @param column the destination column, should not be {@code null}
+     * @param value the bound value, may be {@code null}
+     * @return the converted value, or {@link #UNSUPPORTED} if the value cannot be bulk copied as is
+     */
+    static Object convert(ColumnDescriptor column, Object value) {
+        if (value == null) {
+            return null;
+        }
+        switch (column.getJdbcType()) {
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+                return value instanceof String ? value : UNSUPPORTED;
+            case Types.BIT:
+            case Types.BOOLEAN:
+                return value instanceof Boolean ? value : UNSUPPORTED;
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return value instanceof Byte || value instanceof Short || value instanceof Integer || value instanceof Long ? value : UNSUPPORTED;
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return value instanceof Float || value instanceof Double ? value : UNSUPPORTED;
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+                return value instanceof BigDecimal ? value : UNSUPPORTED;
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+                if (value instanceof ByteBuffer) {
+                    final ByteBuffer buffer = ((ByteBuffer) value).duplicate();
+                    final byte[] bytes = new byte[buffer.remaining()];
+                    buffer.get(bytes);
+                    return bytes;
+                }
+                return value instanceof byte[] ? value : UNSUPPORTED;
+            case Types.DATE:
+                if (value instanceof LocalDate) {
+                    return Date.valueOf((LocalDate) value);
+                }
+                return value instanceof Date ? value : UNSUPPORTED;
+            case Types.TIMESTAMP:
+                if (value instanceof LocalDateTime) {
+                    return Timestamp.valueOf((LocalDateTime) value);
+                }
+                return value instanceof Timestamp ? value : UNSUPPORTED;
+            case microsoft.sql.Types.DATETIMEOFFSET:
+                if (value instanceof ZonedDateTime) {
+                    value = ((ZonedDateTime) value).toOffsetDateTime();
+                }
+                if (value instanceof OffsetDateTime) {
+                    final OffsetDateTime dateTime = (OffsetDateTime) value;
+                    return microsoft.sql.DateTimeOffset.valueOf(Timestamp.from(dateTime.toInstant()), dateTime.getOffset().getTotalSeconds() / 60);
+                }
+                return UNSUPPORTED;
+            default:
+                return UNSUPPORTED;
+        }
+    }
+
+    @Override
+    public Set<Integer> getColumnOrdinals() {
+        return ordinals;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        if (column > columns.size()) {
+            return SqlServerBulkCopyWriter.SEQUENCE_COLUMN;
+        }
+        return columns.get(column - 1).getColumnName();
+    }
+
+    @Override
+    public int getColumnType(int column) {
+        if (column > columns.size()) {
+            return Types.BIGINT;
+        }
+        return columns.get(column - 1).getJdbcType();
+    }
+
+    @Override
+    public int getPrecision(int column) {
+        if (column > columns.size()) {
+            return 19;
+        }
+        return columns.get(column - 1).getPrecision();
+    }
+
+    @Override
+    public int getScale(int column) {
+        if (column > columns.size()) {
+            return 0;
+        }
+        return columns.get(column - 1).getScale();
+    }
+
+    @Override
+    public Object[] getRowData() {
+        return rows.get(position);
+    }
+
+    @Override
+    public boolean next() {
+        return ++position < rows.size();
+    }
+}
@@ -5,6 +5,9 @@
  */
 package io.debezium.connector.jdbc.dialect.sqlserver;
 
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import org.hibernate.SessionFactory;
@@ -12,12 +15,15 @@
 import org.hibernate.dialect.SQLServerDialect;
 
 import io.debezium.connector.jdbc.JdbcSinkConnectorConfig;
+import io.debezium.connector.jdbc.JdbcSinkConnectorConfig.InsertMode;
 import io.debezium.connector.jdbc.SinkRecordDescriptor;
+import io.debezium.connector.jdbc.dialect.BulkWriter;
 import io.debezium.connector.jdbc.dialect.DatabaseDialect;
 import io.debezium.connector.jdbc.dialect.DatabaseDialectProvider;
 import io.debezium.connector.jdbc.dialect.GeneralDatabaseDialect;
 import io.debezium.connector.jdbc.dialect.SqlStatementBuilder;
 import io.debezium.connector.jdbc.dialect.sqlserver.connect.ConnectTimeType;
+import io.debezium.connector.jdbc.relational.ColumnDescriptor;
 import io.debezium.connector.jdbc.relational.TableDescriptor;
 
 /**
@@ -27,6 +33,10 @@
  */
 public class SqlServerDatabaseDialect extends GeneralDatabaseDialect {
 
+    private static final int MAX_QUERY_PARAMETERS = 2100;
+    // Table value constructors are limited to 1000 row value expressions
+    private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
     public static class SqlServerDatabaseDialectProvider implements DatabaseDialectProvider {
         @Override
         public boolean supports(Dialect dialect) {
@@ -54,6 +64,17 @@ public String getInsertStatement(TableDescriptor table, SinkRecordDescriptor rec
         return wrapWithIdentityInsert(table, insertStatement);
     }
 
+    @Override
+    public int getMaxRowsPerStatement(int parametersPerRow) {
+        return Math.max(1, Math.min(MAX_ROWS_PER_STATEMENT, MAX_QUERY_PARAMETERS / parametersPerRow));
+    }
+
+    @Override
+    public String getMultiRowInsertStatement(TableDescriptor table, SinkRecordDescriptor record, int rows) {
+        String insertStatement = super.getMultiRowInsertStatement(table, record, rows);
+        return wrapWithIdentityInsert(table, insertStatement);
+    }
+
     @Override
     public String getAlterTablePrefix() {
         return "ADD ";
@@ -132,7 +153,155 @@ public String getUpsertStatement(TableDescriptor table, SinkRecordDescriptor rec
         builder.append(" WITH (HOLDLOCK) AS TARGET USING (SELECT ");
         builder.appendLists(", ", record.getKeyFieldNames(), record.getNonKeyFieldNames(),
                 (name) -> columnNameFromField(name, columnQueryBindingFromField(name, table, record) + " AS ", record));
-        builder.append(") AS INCOMING ON (");
+        builder.append(") AS INCOMING");
+        appendMergeClauses(builder, record);
+
+        return wrapWithIdentityInsert(table, builder.build());
+    }
+
+    @Override
+    public String getMultiRowUpsertStatement(TableDescriptor table, SinkRecordDescriptor record, int rows) {
+        final SqlStatementBuilder builder = new SqlStatementBuilder();
+        builder.append("MERGE INTO ");
+        builder.append(getQualifiedTableName(table.getId()));
+        builder.append(" WITH (HOLDLOCK) AS TARGET USING (VALUES ");
+        appendMultiRowValues(builder, table, record, rows);
+        builder.append(") AS INCOMING (");
+        builder.appendLists(", ", record.getKeyFieldNames(), record.getNonKeyFieldNames(), (name) -> columnNameFromField(name, record));
+        builder.append(")");
+        appendMergeClauses(builder, record);
+
+        return wrapWithIdentityInsert(table, builder.build());
+    }
+
+    @Override
+    public boolean isTransientError(SQLException exception) {
+        // Deadlock victim, lock request timeout and the transient errors of Azure SQL Database
+        switch (exception.getErrorCode()) {
+            case 1205:
+            case 1222:
+            case 4060:
+            case 10928:
+            case 10929:
+            case 40197:
+            case 40501:
+            case 40613:
+            case 49918:
+            case 49919:
+            case 49920:
+                return true;
+            default:
+                return super.isTransientError(exception);
+        }
+    }
+
+    @Override
+    public boolean isRecordError(SQLException exception) {
+        // Constraint violations, truncation, conversion and overflow errors, which the driver reports with other SQL states
+        switch (exception.getErrorCode()) {
+            case 515:
+            case 547:
+            case 2601:
+            case 2627:
+            case 2628:
+            case 8152:
+            case 220:
+            case 241:
+            case 242:
+            case 245:
+            case 8114:
+            case 8115:
+                return true;
+            default:
+                return super.isRecordError(exception);
+        }
+    }
+
+    @Override
+    public Optional<BulkWriter> getBulkWriter(TableDescriptor table, SinkRecordDescriptor record) {
+        final JdbcSinkConnectorConfig config = getConfig();
+        final boolean staged = record.isDelete() || config.getInsertMode() == InsertMode.UPSERT;
+        if (!config.isSqlServerBulkCopy() || (!staged && config.getInsertMode() != InsertMode.INSERT)) {
+            return Optional.empty();
+        }
+
+        // Columns are copied in the same order as the bind plan of the equivalent statement
+        final List<String> fieldNames = new ArrayList<>(record.getKeyFieldNames());
+        if (!record.isDelete()) {
+            fieldNames.addAll(record.getNonKeyFieldNames());
+        }
+
+        boolean identity = false;
+        final List<ColumnDescriptor> columns = new ArrayList<>(fieldNames.size());
+        for (String fieldName : fieldNames) {
+            final ColumnDescriptor column = table.getColumnByName(resolveColumnName(record.getFields().get(fieldName)));
+            if (!SqlServerBulkData.isSupportedType(column.getJdbcType())) {
+                return Optional.empty();
+            }
+            identity |= column.isAutoIncrement();
+            columns.add(column);
+        }
+
+        if (!staged) {
+            if (identity && !config.isSqlServerIdentityInsert()) {
+                // Let the INSERT statement report the explicit identity value rather than silently replacing it
+                return Optional.empty();
+            }
+            return Optional.of(new SqlServerBulkCopyWriter(this, getQualifiedTableName(table.getId()), columns, identity));
+        }
+
+        final String applyStatement = record.isDelete() ? getStagedDeleteStatement(table, record) : getStagedMergeStatement(table, record);
+        return Optional.of(new SqlServerBulkCopyWriter(this, columns,
+                getCreateStagingTableStatement(table, fieldNames, record),
+                applyStatement + "DROP TABLE " + SqlServerBulkCopyWriter.STAGING_TABLE + ";"));
+    }
+
+    private String getCreateStagingTableStatement(TableDescriptor table, List<String> fieldNames, SinkRecordDescriptor record) {
+        final SqlStatementBuilder builder = new SqlStatementBuilder();
+        builder.append("IF OBJECT_ID('tempdb..").append(SqlServerBulkCopyWriter.STAGING_TABLE).append("') IS NOT NULL ");
+        builder.append("DROP TABLE ").append(SqlServerBulkCopyWriter.STAGING_TABLE).append(";");
+        builder.append("SELECT TOP 0 ");
+        builder.appendList(", ", fieldNames, (name) -> columnNameFromField(name, record));
+        builder.append(", CAST(0 AS BIGINT) AS ").append(SqlServerBulkCopyWriter.SEQUENCE_COLUMN);
+        builder.append(" INTO ").append(SqlServerBulkCopyWriter.STAGING_TABLE);
+        builder.append(" FROM ").append(getQualifiedTableName(table.getId()));
+        builder.append(";");
+        return builder.build();
+    }
+
+    private String getStagedMergeStatement(TableDescriptor table, SinkRecordDescriptor record) {
+        final SqlStatementBuilder builder = new SqlStatementBuilder();
+        builder.append("MERGE INTO ");
+        builder.append(getQualifiedTableName(table.getId()));
+        builder.append(" WITH (HOLDLOCK) AS TARGET USING (SELECT ");
+        builder.appendLists(", ", record.getKeyFieldNames(), record.getNonKeyFieldNames(), (name) -> columnNameFromField(name, record));
+        builder.append(" FROM (SELECT *, ROW_NUMBER() OVER (PARTITION BY ");
+        builder.appendList(", ", record.getKeyFieldNames(), (name) -> columnNameFromField(name, record));
+        builder.append(" ORDER BY ").append(SqlServerBulkCopyWriter.SEQUENCE_COLUMN).append(" DESC) AS __dbz_rn FROM ");
+        builder.append(SqlServerBulkCopyWriter.STAGING_TABLE);
+        builder.append(") AS STAGED WHERE __dbz_rn = 1) AS INCOMING");
+        appendMergeClauses(builder, record);
+
+        return wrapWithIdentityInsert(table, builder.build());
+    }
+
+    private String getStagedDeleteStatement(TableDescriptor table, SinkRecordDescriptor record) {
+        final SqlStatementBuilder builder = new SqlStatementBuilder();
+        builder.append("DELETE TARGET FROM ");
+        builder.append(getQualifiedTableName(table.getId()));
+        builder.append(" AS TARGET INNER JOIN ");
+        builder.append(SqlServerBulkCopyWriter.STAGING_TABLE);
+        builder.append(" AS INCOMING ON ");
+        builder.appendList(" AND ", record.getKeyFieldNames(), (name) -> {
+            final String columnName = columnNameFromField(name, record);
+            return "TARGET." + columnName + "=INCOMING." + columnName;
+        });
+        builder.append(";");
+        return builder.build();
+    }
+
+    private void appendMergeClauses(SqlStatementBuilder builder, SinkRecordDescriptor record) {
+        builder.append(" ON (");
         builder.appendList(" AND ", record.getKeyFieldNames(), (name) -> {
             final String columnName = columnNameFromField(name, record);
             return "TARGET." + columnName + "=INCOMING." + columnName;
@@ -153,8 +322,6 @@ public String getUpsertStatement(TableDescriptor table, SinkRecordDescriptor rec
         builder.appendLists(",", record.getNonKeyFieldNames(), record.getKeyFieldNames(), (name) -> columnNameFromField(name, "INCOMING.", record));
         builder.append(")");
         builder.append(";"); // SQL server requires this to be terminated this way.
-
-        return wrapWithIdentityInsert(table, builder.build());
     }
 
     @Override
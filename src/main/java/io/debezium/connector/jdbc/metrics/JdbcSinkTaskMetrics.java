@@ -0,0 +1,348 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.connector.jdbc.relational.TableId;
+
+/**
+ * Collects the metrics of a JDBC sink task and exposes them as an MXBean named
+ * {@code debezium.jdbc:type=connector-metrics,context=sink,server=<connector name>,task=<index>},
+ * following the naming of the metrics of the Debezium source connectors.
+ *
+ * Recording is safe from any thread and does not allocate, except when the first batch of a table is recorded.
+ */
+public class JdbcSinkTaskMetrics implements JdbcSinkTaskMetricsMXBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JdbcSinkTaskMetrics.class);
+
+    private final LongAdder recordsReceived = new LongAdder();
+    private final LongAdder rowsWritten = new LongAdder();
+    private final LongAdder batchesWritten = new LongAdder();
+    private final ConcurrentMap<TableId, TableMetrics> tables = new ConcurrentHashMap<>();
+    private final LatencyHistogram rowsPerBatch = new LatencyHistogram();
+    private final LatencyHistogram putTime = new LatencyHistogram();
+    private final LatencyHistogram bindTime = new LatencyHistogram();
+    private final LatencyHistogram executeTime = new LatencyHistogram();
+    private final LatencyHistogram commitTime = new LatencyHistogram();
+    private final LatencyHistogram tableChangesTime = new LatencyHistogram();
+    private final AtomicLong bufferedBytesPeak = new AtomicLong();
+    private volatile long bufferedBytes;
+    private volatile Supplier<Map<TableId, Long>> bufferedBytesByTable = Map::of;
+    private volatile LongSupplier offsetLag = () -> 0;
+    private volatile LongSupplier retries = () -> 0;
+    private volatile LongSupplier retryTimeMs = () -> 0;
+    private volatile LongSupplier tableMetadataCacheHits = () -> 0;
+    private volatile LongSupplier tableMetadataCacheMisses = () -> 0;
+    private volatile LongSupplier statementCacheHits = () -> 0;
+    private volatile LongSupplier statementCacheMisses = () -> 0;
+    private volatile LongSupplier recordShapeCacheHits = () -> 0;
+    private volatile LongSupplier recordShapeCacheMisses = () -> 0;
+    private ObjectName name;
+
+    /**
+     * Registers the metrics with the platform MBean server, using the first task index not registered
+     * for the connector yet. Failures are logged, as metrics are not essential to the task.
+     *
+     * @param connectorName the name of the connector
+     */
+    public synchronized void register(String connectorName) {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            for (int task = 0; name == null; task++) {
+                final ObjectName candidate = getObjectName(connectorName, task);
+                if (!server.isRegistered(candidate)) {
+                    server.registerMBean(this, candidate);
+                    name = candidate;
+                }
+            }
+            LOGGER.info("Registered metrics {}.", name);
+        }
+        catch (JMException e) {
+            LOGGER.warn("Unable to register metrics of connector '{}'", connectorName, e);
+        }
+    }
+
+    public synchronized void unregister() {
+        if (name != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+            }
+            catch (JMException e) {
+                LOGGER.warn("Unable to unregister metrics {}", name, e);
+            }
+            name = null;
+        }
+    }
+
+    private static ObjectName getObjectName(String connectorName, int task) throws MalformedObjectNameException {
+        return new ObjectName("debezium.jdbc:type=connector-metrics,context=sink,server=" + ObjectName.quote(connectorName) + ",task=" + task);
+    }
+
+    /**
+     * Records a call to {@code put}.
+     *
+     * @param records the number of records received
+     * @param nanos the duration of the call
+     */
+    public void recordPut(int records, long nanos) {
+        recordsReceived.add(records);
+        putTime.record(toMicros(nanos));
+    }
+
+    public void recordBind(long nanos) {
+        bindTime.record(toMicros(nanos));
+    }
+
+    public void recordExecute(long nanos) {
+        executeTime.record(toMicros(nanos));
+    }
+
+    public void recordCommit(long nanos) {
+        commitTime.record(toMicros(nanos));
+    }
+
+    /**
+     * Records the time spent resolving the relational model of a table and applying schema changes to it.
+     */
+    public void recordTableChanges(long nanos) {
+        tableChangesTime.record(toMicros(nanos));
+    }
+
+    /**
+     * Records a committed batch.
+     *
+     * @param tableId the table written, should not be {@code null}
+     * @param rows the number of rows written
+     * @param nanos the duration of the write, from executing the batch until it has been committed
+     */
+    public void recordBatch(TableId tableId, int rows, long nanos) {
+        rowsWritten.add(rows);
+        batchesWritten.increment();
+        rowsPerBatch.record(rows);
+
+        TableMetrics table = tables.get(tableId);
+        if (table == null) {
+            table = tables.computeIfAbsent(tableId, key -> new TableMetrics());
+        }
+        table.rowsWritten.add(rows);
+        table.writeTime.record(toMicros(nanos));
+    }
+
+    /**
+     * Records the estimated size of the buffered changes.
+     */
+    public void recordBufferedBytes(long bytes) {
+        bufferedBytes = bytes;
+        long peak = bufferedBytesPeak.get();
+        while (bytes > peak && !bufferedBytesPeak.compareAndSet(peak, bytes)) {
+            peak = bufferedBytesPeak.get();
+        }
+    }
+
+    /**
+     * Sets the supplier of the estimated size of the buffered changes of each table. It is only called when
+     * the metric is read, from the thread reading it.
+     */
+    public void setBufferedBytesByTable(Supplier<Map<TableId, Long>> bufferedBytesByTable) {
+        this.bufferedBytesByTable = bufferedBytesByTable;
+    }
+
+    public void setOffsetLag(LongSupplier offsetLag) {
+        this.offsetLag = offsetLag;
+    }
+
+    public void setRetries(LongSupplier retries, LongSupplier retryTimeMs) {
+        this.retries = retries;
+        this.retryTimeMs = retryTimeMs;
+    }
+
+    public void setTableMetadataCache(LongSupplier hits, LongSupplier misses) {
+        this.tableMetadataCacheHits = hits;
+        this.tableMetadataCacheMisses = misses;
+    }
+
+    public void setStatementCache(LongSupplier hits, LongSupplier misses) {
+        this.statementCacheHits = hits;
+        this.statementCacheMisses = misses;
+    }
+
+    public void setRecordShapeCache(LongSupplier hits, LongSupplier misses) {
+        this.recordShapeCacheHits = hits;
+        this.recordShapeCacheMisses = misses;
+    }
+
+    @Override
+    public long getTotalNumberOfRecordsReceived() {
+        return recordsReceived.sum();
+    }
+
+    @Override
+    public long getTotalNumberOfRowsWritten() {
+        return rowsWritten.sum();
+    }
+
+    @Override
+    public long getTotalNumberOfBatchesWritten() {
+        return batchesWritten.sum();
+    }
+
+    @Override
+    public Map<String, Long> getRowsWrittenByTable() {
+        final Map<String, Long> rows = new HashMap<>();
+        tables.forEach((tableId, table) -> rows.put(tableId.toFullIdentiferString(), table.rowsWritten.sum()));
+        return rows;
+    }
+
+    @Override
+    public Map<String, Long> getBatchesWrittenByTable() {
+        final Map<String, Long> batches = new HashMap<>();
+        tables.forEach((tableId, table) -> batches.put(tableId.toFullIdentiferString(), table.writeTime.getCount()));
+        return batches;
+    }
+
+    @Override
+    public Map<String, Long> getRowsPerBatch() {
+        return rowsPerBatch.getSummary();
+    }
+
+    @Override
+    public Map<String, Long> getPutTimeMicros() {
+        return putTime.getSummary();
+    }
+
+    @Override
+    public Map<String, Long> getBindTimeMicros() {
+        return bindTime.getSummary();
+    }
+
+    @Override
+    public Map<String, Long> getExecuteTimeMicros() {
+        return executeTime.getSummary();
+    }
+
+    @Override
+    public Map<String, Long> getCommitTimeMicros() {
+        return commitTime.getSummary();
+    }
+
+    @Override
+    public Map<String, Long> getTableChangesTimeMicros() {
+        return tableChangesTime.getSummary();
+    }
+
+    @Override
+    public Map<String, Map<String, Long>> getWriteTimeMicrosByTable() {
+        final Map<String, Map<String, Long>> writeTimes = new HashMap<>();
+        tables.forEach((tableId, table) -> writeTimes.put(tableId.toFullIdentiferString(), table.writeTime.getSummary()));
+        return writeTimes;
+    }
+
+    @Override
+    public long getBufferedBytes() {
+        return bufferedBytes;
+    }
+
+    @Override
+    public long getBufferedBytesPeak() {
+        return bufferedBytesPeak.get();
+    }
+
+    @Override
+    public Map<String, Long> getBufferedBytesByTable() {
+        final Map<String, Long> bufferedBytes = new HashMap<>();
+        bufferedBytesByTable.get().forEach((tableId, bytes) -> bufferedBytes.put(tableId.toFullIdentiferString(), bytes));
+        return bufferedBytes;
+    }
+
+    @Override
+    public long getOffsetLag() {
+        return offsetLag.getAsLong();
+    }
+
+    @Override
+    public long getNumberOfRetries() {
+        return retries.getAsLong();
+    }
+
+    @Override
+    public long getRetryTimeMs() {
+        return retryTimeMs.getAsLong();
+    }
+
+    @Override
+    public long getTableMetadataCacheHits() {
+        return tableMetadataCacheHits.getAsLong();
+    }
+
+    @Override
+    public long getTableMetadataCacheMisses() {
+        return tableMetadataCacheMisses.getAsLong();
+    }
+
+    @Override
+    public long getStatementCacheHits() {
+        return statementCacheHits.getAsLong();
+    }
+
+    @Override
+    public long getStatementCacheMisses() {
+        return statementCacheMisses.getAsLong();
+    }
+
+    @Override
+    public long getRecordShapeCacheHits() {
+        return recordShapeCacheHits.getAsLong();
+    }
+
+    @Override
+    public long getRecordShapeCacheMisses() {
+        return recordShapeCacheMisses.getAsLong();
+    }
+
+    @Override
+    public void reset() {
+        recordsReceived.reset();
+        rowsWritten.reset();
+        batchesWritten.reset();
+        tables.clear();
+        rowsPerBatch.reset();
+        putTime.reset();
+        bindTime.reset();
+        executeTime.reset();
+        commitTime.reset();
+        tableChangesTime.reset();
+        bufferedBytesPeak.set(bufferedBytes);
+    }
+
+    private static long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    private static class TableMetrics {
+
+        private final LongAdder rowsWritten = new LongAdder();
+        private final LatencyHistogram writeTime = new LatencyHistogram();
+    }
+}
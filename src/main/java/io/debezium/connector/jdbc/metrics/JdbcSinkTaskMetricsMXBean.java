@@ -0,0 +1,64 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc.metrics;
+
+import java.util.Map;
+
+/**
+ * Metrics of a JDBC sink task. Latencies are summarized by {@link LatencyHistogram#getSummary()} in microseconds.
+ */
+public interface JdbcSinkTaskMetricsMXBean {
+
+    long getTotalNumberOfRecordsReceived();
+
+    long getTotalNumberOfRowsWritten();
+
+    long getTotalNumberOfBatchesWritten();
+
+    Map<String, Long> getRowsWrittenByTable();
+
+    Map<String, Long> getBatchesWrittenByTable();
+
+    Map<String, Long> getRowsPerBatch();
+
+    Map<String, Long> getPutTimeMicros();
+
+    Map<String, Long> getBindTimeMicros();
+
+    Map<String, Long> getExecuteTimeMicros();
+
+    Map<String, Long> getCommitTimeMicros();
+
+    Map<String, Long> getTableChangesTimeMicros();
+
+    Map<String, Map<String, Long>> getWriteTimeMicrosByTable();
+
+    long getBufferedBytes();
+
+    long getBufferedBytesPeak();
+
+    Map<String, Long> getBufferedBytesByTable();
+
+    long getOffsetLag();
+
+    long getNumberOfRetries();
+
+    long getRetryTimeMs();
+
+    long getTableMetadataCacheHits();
+
+    long getTableMetadataCacheMisses();
+
+    long getStatementCacheHits();
+
+    long getStatementCacheMisses();
+
+    long getRecordShapeCacheHits();
+
+    long getRecordShapeCacheMisses();
+
+    void reset();
+}
@@ -10,6 +10,7 @@
 
 import org.apache.kafka.connect.data.Schema;
 
+import io.debezium.connector.jdbc.QueryBinder;
 import io.debezium.connector.jdbc.ValueBindDescriptor;
 
 /**
@@ -26,9 +27,16 @@ public String[] getRegistrationKeys() {
 
     @Override
     public List<ValueBindDescriptor> bind(int index, Schema schema, Object value) {
+        return collectBoundValues(index, schema, value);
+    }
+
+    @Override
+    public int bind(QueryBinder query, int index, Schema schema, Object value) {
         if (value instanceof ByteBuffer) {
-            return List.of(new ValueBindDescriptor(index, ((ByteBuffer) value).array()));
+            query.setBytes(index, ((ByteBuffer) value).array());
+            return 1;
         }
-        return super.bind(index, schema, value);
+        query.setObject(index, value);
+        return 1;
     }
 }
@@ -12,17 +12,30 @@
 import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.errors.ConnectException;
 
+import io.debezium.connector.jdbc.QueryBinder;
 import io.debezium.connector.jdbc.ValueBindDescriptor;
 
 public abstract class AbstractGeoType extends AbstractType {
     public static final String SRID = "srid";
     public static final String WKB = "wkb";
 
+    @Override
+    public boolean isQueryBindingValueDependent() {
+        // Null values are bound as-is, non-null values are bound using a conversion function
+        return true;
+    }
+
     @Override
     public List<ValueBindDescriptor> bind(int index, Schema schema, Object value) {
+        return collectBoundValues(index, schema, value);
+    }
+
+    @Override
+    public int bind(QueryBinder query, int index, Schema schema, Object value) {
 
         if (value == null) {
-            return List.of(new ValueBindDescriptor(index, null));
+            query.setNull(index);
+            return 1;
         }
 
         if (value instanceof Struct) {
@@ -32,7 +45,9 @@ public List<ValueBindDescriptor> bind(int index, Schema schema, Object value) {
             final Integer srid = Optional.ofNullable(((Struct) value).getInt32(SRID)).orElse(0);
             final byte[] wkb = ((Struct) value).getBytes(WKB);
 
-            return List.of(new ValueBindDescriptor(index, wkb), new ValueBindDescriptor(index + 1, srid));
+            query.setBytes(index, wkb);
+            query.setInt(index + 1, srid);
+            return 2;
         }
 
         throw new ConnectException(String.format("Unexpected %s value '%s' with type '%s'", getClass().getSimpleName(),
@@ -5,6 +5,7 @@
  */
 package io.debezium.connector.jdbc.type;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -13,6 +14,7 @@
 import org.apache.kafka.connect.errors.ConnectException;
 
 import io.debezium.connector.jdbc.JdbcSinkConnectorConfig;
+import io.debezium.connector.jdbc.QueryBinder;
 import io.debezium.connector.jdbc.ValueBindDescriptor;
 import io.debezium.connector.jdbc.dialect.DatabaseDialect;
 import io.debezium.connector.jdbc.relational.ColumnDescriptor;
@@ -68,6 +70,22 @@ public List<ValueBindDescriptor> bind(int index, Schema schema, Object value) {
         return List.of(new ValueBindDescriptor(index, value));
     }
 
+    /**
+     * Returns the values bound by {@link #bind(QueryBinder, int, Schema, Object)} as descriptors. Types that
+     * override that method to bind through the typed methods of the query binder implement
+     * {@link #bind(int, Schema, Object)} with this method, so both bind the same values.
+     *
+     * @param index parameter index to bind
+     * @param schema field schema, never {@code null}
+     * @param value value to be bound, may be {@code null}
+     * @return the list of {@link ValueBindDescriptor}
+     */
+    protected final List<ValueBindDescriptor> collectBoundValues(int index, Schema schema, Object value) {
+        final List<ValueBindDescriptor> boundValues = new ArrayList<>(1);
+        bind(boundValues::add, index, schema, value);
+        return boundValues;
+    }
+
     protected DatabaseDialect getDialect() {
         return dialect;
     }
@@ -10,6 +10,7 @@
 import org.apache.kafka.connect.data.Schema;
 
 import io.debezium.connector.jdbc.JdbcSinkConnectorConfig;
+import io.debezium.connector.jdbc.QueryBinder;
 import io.debezium.connector.jdbc.ValueBindDescriptor;
 import io.debezium.connector.jdbc.dialect.DatabaseDialect;
 import io.debezium.connector.jdbc.relational.ColumnDescriptor;
@@ -62,6 +63,17 @@ public interface Type {
      */
     String getQueryBinding(ColumnDescriptor column, Schema schema, Object value);
 
+    /**
+     * Returns whether the SQL string returned by {@link #getQueryBinding(ColumnDescriptor, Schema, Object)}
+     * varies based on the value being bound. DML statements that contain such a type cannot be reused
+     * for values other than the ones the statement was created for.
+     *
+     * @return {@code true} if the query binding depends on the value, {@code false} otherwise
+     */
+    default boolean isQueryBindingValueDependent() {
+        return false;
+    }
+
     /**
      * Resolve the default value clause value.
      *
@@ -81,4 +93,24 @@ public interface Type {
      * @return the list of {@link ValueBindDescriptor}
      */
     List<ValueBindDescriptor> bind(int index, Schema schema, Object value);
+
+    /**
+     * Binds the value directly to the query, using the typed methods of the query binder.
+     *
+     * By default, the values returned by {@link #bind(int, Schema, Object)} are bound, so types that only
+     * implement that method keep working, at the cost of allocating the descriptors for every value.
+     *
+     * @param query  the query binder, never {@code null}
+     * @param index  parameter index to bind
+     * @param schema field schema, never {@code null}
+     * @param value  value to be bound, may be {@code null}
+     * @return the number of parameters bound
+     */
+    default int bind(QueryBinder query, int index, Schema schema, Object value) {
+        final List<ValueBindDescriptor> boundValues = bind(index, schema, value);
+        for (ValueBindDescriptor boundValue : boundValues) {
+            query.bind(boundValue);
+        }
+        return boundValues.size();
+    }
 }
@@ -11,6 +11,7 @@
 import org.apache.kafka.connect.data.Schema;
 import org.hibernate.engine.jdbc.Size;
 
+import io.debezium.connector.jdbc.QueryBinder;
 import io.debezium.connector.jdbc.ValueBindDescriptor;
 import io.debezium.connector.jdbc.dialect.DatabaseDialect;
 import io.debezium.connector.jdbc.type.Type;
@@ -49,7 +50,12 @@ else if (key) {
 
     @Override
     public List<ValueBindDescriptor> bind(int index, Schema schema, Object value) {
+        return collectBoundValues(index, schema, value);
+    }
 
-        return List.of(new ValueBindDescriptor(index, value, Types.VARBINARY));
+    @Override
+    public int bind(QueryBinder query, int index, Schema schema, Object value) {
+        query.setObject(index, value, Types.VARBINARY);
+        return 1;
     }
 }
@@ -6,9 +6,12 @@
 package io.debezium.connector.jdbc.type.connect;
 
 import java.sql.Types;
+import java.util.List;
 
 import org.apache.kafka.connect.data.Schema;
 
+import io.debezium.connector.jdbc.QueryBinder;
+import io.debezium.connector.jdbc.ValueBindDescriptor;
 import io.debezium.connector.jdbc.dialect.DatabaseDialect;
 import io.debezium.connector.jdbc.type.Type;
 
@@ -31,4 +34,18 @@ public String getTypeName(DatabaseDialect dialect, Schema schema, boolean key) {
         return dialect.getTypeName(Types.SMALLINT);
     }
 
+    @Override
+    public List<ValueBindDescriptor> bind(int index, Schema schema, Object value) {
+        return collectBoundValues(index, schema, value);
+    }
+
+    @Override
+    public int bind(QueryBinder query, int index, Schema schema, Object value) {
+        if (value instanceof Short) {
+            query.setShort(index, ((Short) value).shortValue());
+            return 1;
+        }
+        query.setObject(index, value);
+        return 1;
+    }
 }
@@ -11,6 +11,7 @@
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.errors.ConnectException;
 
+import io.debezium.connector.jdbc.QueryBinder;
 import io.debezium.connector.jdbc.ValueBindDescriptor;
 import io.debezium.connector.jdbc.type.AbstractTimestampType;
 
@@ -23,21 +24,27 @@ public abstract class AbstractDebeziumTimestampType extends AbstractTimestampTyp
 
     @Override
     public List<ValueBindDescriptor> bind(int index, Schema schema, Object value) {
+        return collectBoundValues(index, schema, value);
+    }
+
+    @Override
+    public int bind(QueryBinder query, int index, Schema schema, Object value) {
 
         if (value == null) {
-            return List.of(new ValueBindDescriptor(index, null));
+            query.setNull(index);
+            return 1;
         }
         if (value instanceof Number) {
 
             final LocalDateTime localDateTime = getLocalDateTime(((Number) value).longValue());
 
             if (getDialect().isTimeZoneSet()) {
-                return List.of(new ValueBindDescriptor(index,
-                        localDateTime.atZone(getDatabaseTimeZone().toZoneId()).toLocalDateTime(),
-                        getJdbcType()));
+                query.setObject(index, localDateTime.atZone(getDatabaseTimeZone().toZoneId()).toLocalDateTime(), getJdbcType());
+                return 1;
             }
 
-            return List.of(new ValueBindDescriptor(index, localDateTime, getJdbcType()));
+            query.setObject(index, localDateTime, getJdbcType());
+            return 1;
         }
 
         throw new ConnectException(String.format("Unexpected %s value '%s' with type '%s'", getClass().getSimpleName(),
@@ -12,6 +12,7 @@
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.errors.ConnectException;
 
+import io.debezium.connector.jdbc.QueryBinder;
 import io.debezium.connector.jdbc.ValueBindDescriptor;
 import io.debezium.connector.jdbc.dialect.DatabaseDialect;
 import io.debezium.connector.jdbc.type.AbstractTimestampType;
@@ -41,24 +42,30 @@ public String getDefaultValueBinding(DatabaseDialect dialect, Schema schema, Obj
 
     @Override
     public List<ValueBindDescriptor> bind(int index, Schema schema, Object value) {
+        return collectBoundValues(index, schema, value);
+    }
+
+    @Override
+    public int bind(QueryBinder query, int index, Schema schema, Object value) {
 
         if (value == null) {
-            return List.of(new ValueBindDescriptor(index, null));
+            query.setNull(index);
+            return 1;
         }
         if (value instanceof String) {
 
             if (POSITIVE_INFINITY.equals(value) || NEGATIVE_INFINITY.equals(value)) {
-                return infinityTimestampValue(index, value);
+                return infinityTimestampValue(query, index, value);
             }
 
-            return normalTimestampValue(index, value);
+            return normalTimestampValue(query, index, value);
         }
 
         throw new ConnectException(String.format("Unexpected %s value '%s' with type '%s'", getClass().getSimpleName(),
                 value, value.getClass().getName()));
     }
 
-    protected List<ValueBindDescriptor> infinityTimestampValue(int index, Object value) {
+    protected int infinityTimestampValue(QueryBinder query, int index, Object value) {
         final ZonedDateTime zdt;
 
         if (POSITIVE_INFINITY.equals(value)) {
@@ -68,15 +75,17 @@ protected List<ValueBindDescriptor> infinityTimestampValue(int index, Object val
             zdt = ZonedDateTime.parse(getDialect().getTimestampNegativeInfinityValue(), ZonedTimestamp.FORMATTER);
         }
 
-        return List.of(new ValueBindDescriptor(index, zdt.toOffsetDateTime(), getJdbcBindType()));
+        query.setObject(index, zdt.toOffsetDateTime(), getJdbcBindType());
+        return 1;
     }
 
-    protected List<ValueBindDescriptor> normalTimestampValue(int index, Object value) {
+    protected int normalTimestampValue(QueryBinder query, int index, Object value) {
 
         final ZonedDateTime zdt;
         zdt = ZonedDateTime.parse((String) value, ZonedTimestamp.FORMATTER).withZoneSameInstant(getDatabaseTimeZone().toZoneId());
 
-        return List.of(new ValueBindDescriptor(index, zdt.toOffsetDateTime(), getJdbcBindType()));
+        query.setObject(index, zdt.toOffsetDateTime(), getJdbcBindType());
+        return 1;
     }
 
     protected int getJdbcBindType() {
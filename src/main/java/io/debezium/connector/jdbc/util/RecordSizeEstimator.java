@@ -0,0 +1,101 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc.util;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Map;
+
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+
+/**
+ * Estimates the serialized size of Kafka Connect values from their schemas and contents.
+ *
+ * The estimate is not meant to match any specific converter. It approximates the number of bytes
+ * needed to hold the value, so that buffers can bound their memory use: fixed width types count
+ * their width, strings and byte arrays their length, and containers the sum of their contents.
+ */
+public final class RecordSizeEstimator {
+
+    private static final int NULL_SIZE = 1;
+
+    private RecordSizeEstimator() {
+    }
+
+    /**
+     * Estimates the serialized size of a value.
+     *
+     * @param schema the value schema, may be {@code null} for schemaless values
+     * @param value the value, may be {@code null}
+     * @return the estimated size in bytes
+     */
+    public static long estimate(Schema schema, Object value) {
+        if (value == null) {
+            return NULL_SIZE;
+        }
+        else if (value instanceof Struct) {
+            final Struct struct = (Struct) value;
+            long size = 0;
+            for (Field field : struct.schema().fields()) {
+                size += estimate(field.schema(), struct.get(field));
+            }
+            return size;
+        }
+        else if (value instanceof CharSequence) {
+            return ((CharSequence) value).length();
+        }
+        else if (value instanceof byte[]) {
+            return ((byte[]) value).length;
+        }
+        else if (value instanceof ByteBuffer) {
+            return ((ByteBuffer) value).remaining();
+        }
+        else if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).unscaledValue().bitLength() / 8 + 1;
+        }
+        else if (value instanceof Collection) {
+            final Schema elementSchema = schema != null && schema.type() == Schema.Type.ARRAY ? schema.valueSchema() : null;
+            long size = 0;
+            for (Object element : (Collection<?>) value) {
+                size += estimate(elementSchema, element);
+            }
+            return size;
+        }
+        else if (value instanceof Map) {
+            final boolean map = schema != null && schema.type() == Schema.Type.MAP;
+            final Schema keySchema = map ? schema.keySchema() : null;
+            final Schema valueSchema = map ? schema.valueSchema() : null;
+            long size = 0;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                size += estimate(keySchema, entry.getKey()) + estimate(valueSchema, entry.getValue());
+            }
+            return size;
+        }
+        return estimateFixedWidth(schema);
+    }
+
+    private static long estimateFixedWidth(Schema schema) {
+        if (schema == null) {
+            return Long.BYTES;
+        }
+        switch (schema.type()) {
+            case INT8:
+            case BOOLEAN:
+                return 1;
+            case INT16:
+                return Short.BYTES;
+            case INT32:
+            case FLOAT32:
+                return Integer.BYTES;
+            default:
+                // INT64, FLOAT64 and logical types represented as objects, such as dates
+                return Long.BYTES;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc;
+
+import static io.debezium.connector.jdbc.JdbcSinkConnectorConfig.PrimaryKeyMode.RECORD_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.kafka.connect.sink.SinkRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import io.debezium.connector.jdbc.dialect.DatabaseDialect;
+import io.debezium.connector.jdbc.junit.jupiter.SinkRecordFactoryArgumentsProvider;
+import io.debezium.connector.jdbc.type.Type;
+import io.debezium.connector.jdbc.util.SinkRecordFactory;
+
+/**
+ * Unit tests for the {@link BindPlan} class.
+ */
+@Tag("UnitTests")
+class BindPlanTest {
+
+    private final List<SinkRecordDescriptor.FieldDescriptor> boundFields = new ArrayList<>();
+    private final List<Object> boundValues = new ArrayList<>();
+    private DatabaseDialect dialect;
+    private JdbcSinkConnectorConfig config;
+
+    @BeforeEach
+    void setUp() {
+        dialect = mock(DatabaseDialect.class);
+        Type type = mock(Type.class);
+        when(type.getTypeName(eq(dialect), any(), anyBoolean())).thenReturn("");
+        when(dialect.getSchemaType(any())).thenReturn(type);
+        when(dialect.bindValue(any(SinkRecordDescriptor.FieldDescriptor.class), any(QueryBinder.class), anyInt(), any())).thenAnswer(invocation -> {
+            boundFields.add(invocation.getArgument(0));
+            boundValues.add(invocation.getArgument(3));
+            return 1;
+        });
+
+        config = new JdbcSinkConnectorConfig(Map.of("insert.mode", "insert", "primary.key.mode", "record_key"));
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @DisplayName("When records share the schema instances of the plan then their fields are bound positionally")
+    void bindSameSchemasPositionally(SinkRecordFactory factory) {
+        final SinkRecord record = factory.createRecord("topic", (byte) 1);
+        final SinkRecordDescriptor first = createDescriptor(record);
+        final SinkRecordDescriptor second = createDescriptor(record.newRecord(record.topic(), record.kafkaPartition(), record.keySchema(),
+                record.key(), record.valueSchema(), record.value(), record.timestamp()));
+        final BindPlan bindPlan = BindPlan.of(config, first);
+
+        assertThat(bindPlan.bind(second, mock(QueryBinder.class), dialect)).isEqualTo(4);
+
+        assertThat(boundValues).containsExactly((byte) 1, "John Doe", "John Doe$");
+        // The field descriptors resolved by the plan are bound instead of those of the record
+        assertThat(boundFields).containsExactly(first.getFields().get("id"), first.getFields().get("name"), first.getFields().get("nick_name_"));
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @DisplayName("When records have other schema instances than the plan then their fields are bound by name")
+    void bindOtherSchemasByName(SinkRecordFactory factory) {
+        final BindPlan bindPlan = BindPlan.of(config, createDescriptor(factory.createRecord("topic", (byte) 1)));
+        final SinkRecordDescriptor other = createDescriptor(factory.createRecord("topic", (byte) 2));
+
+        assertThat(bindPlan.bind(other, mock(QueryBinder.class), dialect, 5)).isEqualTo(8);
+
+        assertThat(boundValues).containsExactly((byte) 2, "John Doe", "John Doe$");
+        assertThat(boundFields).containsExactly(other.getFields().get("id"), other.getFields().get("name"), other.getFields().get("nick_name_"));
+    }
+
+    private SinkRecordDescriptor createDescriptor(SinkRecord record) {
+        return SinkRecordDescriptor.builder()
+                .withSinkRecord(record)
+                .withDialect(dialect)
+                .withPrimaryKeyFields(Set.of("id"))
+                .withPrimaryKeyMode(RECORD_KEY)
+                .build();
+    }
+}
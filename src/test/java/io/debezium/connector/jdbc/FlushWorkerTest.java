@@ -0,0 +1,152 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.kafka.connect.errors.ConnectException;
+import org.hibernate.StatelessSession;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link FlushWorker} class.
+ */
+@Tag("UnitTests")
+class FlushWorkerTest {
+
+    @Test
+    @DisplayName("When operations are submitted to a threaded worker then they are applied in submission order")
+    void operationsAreAppliedInOrder() {
+        final List<Integer> applied = new CopyOnWriteArrayList<>();
+        try (FlushWorker worker = FlushWorker.threaded(null, null, "test-flush")) {
+            for (int i = 0; i < 100; i++) {
+                final int value = i;
+                worker.submit(() -> applied.add(value));
+            }
+            worker.awaitCompletion();
+        }
+        assertThat(applied).hasSize(100).isSorted();
+    }
+
+    @Test
+    @DisplayName("When an operation fails then later operations are skipped and the failure is reported once")
+    void failureSkipsLaterOperations() {
+        final List<Integer> applied = new CopyOnWriteArrayList<>();
+        try (FlushWorker worker = FlushWorker.threaded(null, null, "test-flush")) {
+            worker.submit(() -> applied.add(1));
+            worker.submit(() -> {
+                throw new ConnectException("Failed");
+            });
+            try {
+                worker.submit(() -> applied.add(3));
+            }
+            catch (ConnectException e) {
+                // The failure may already have been observed when submitting
+            }
+
+            assertThatThrownBy(worker::awaitCompletion).isInstanceOf(ConnectException.class).hasMessage("Failed");
+            assertThat(applied).containsExactly(1);
+
+            // The worker is usable again once the failure has been reported
+            worker.submit(() -> applied.add(4));
+            worker.awaitCompletion();
+            assertThat(applied).containsExactly(1, 4);
+        }
+    }
+
+    @Test
+    @DisplayName("When operations are submitted to an inline worker then they are applied immediately")
+    void inlineOperationsAreAppliedImmediately() {
+        final List<Integer> applied = new CopyOnWriteArrayList<>();
+        try (FlushWorker worker = FlushWorker.inline(null, null)) {
+            worker.submit(() -> applied.add(1));
+            assertThat(applied).containsExactly(1);
+            assertThatThrownBy(() -> worker.submit(() -> {
+                throw new ConnectException("Failed");
+            })).isInstanceOf(ConnectException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("When operations are submitted to a pipelined worker then they are committed in order using alternating sessions")
+    void pipelinedOperationsAreCommittedInOrder() {
+        final StatelessSession[] sessions = { mock(StatelessSession.class), mock(StatelessSession.class) };
+        final List<Integer> committed = new CopyOnWriteArrayList<>();
+        final List<StatelessSession> preparedWith = new CopyOnWriteArrayList<>();
+        try (FlushWorker worker = FlushWorker.pipelined(sessions, new RecordWriter[2], "test-flush")) {
+            for (int i = 0; i < 100; i++) {
+                final int value = i;
+                worker.submit((session, recordWriter) -> {
+                    preparedWith.add(session);
+                    return () -> committed.add(value);
+                });
+            }
+            assertThat(worker.hasPendingOperations()).isTrue();
+            worker.awaitCompletion();
+            assertThat(worker.hasPendingOperations()).isFalse();
+        }
+        assertThat(committed).hasSize(100).isSorted();
+        assertThat(preparedWith.subList(0, 4)).containsExactly(sessions[0], sessions[1], sessions[0], sessions[1]);
+    }
+
+    @Test
+    @DisplayName("When an operation is committed by a pipelined worker then the next operation is prepared concurrently")
+    void pipelinedOperationIsPreparedWhileCommitting() {
+        final CountDownLatch secondPrepared = new CountDownLatch(1);
+        final AtomicBoolean overlapped = new AtomicBoolean();
+        try (FlushWorker worker = FlushWorker.pipelined(new StatelessSession[2], new RecordWriter[2], "test-flush")) {
+            worker.submit((session, recordWriter) -> () -> overlapped.set(await(secondPrepared)));
+            worker.submit((session, recordWriter) -> {
+                secondPrepared.countDown();
+                return () -> {
+                };
+            });
+            worker.awaitCompletion();
+        }
+        assertThat(overlapped).isTrue();
+    }
+
+    @Test
+    @DisplayName("When a pipelined commit fails then later operations are not committed and the failure is reported")
+    void pipelinedFailureSkipsLaterCommits() {
+        final List<Integer> committed = new CopyOnWriteArrayList<>();
+        try (FlushWorker worker = FlushWorker.pipelined(new StatelessSession[2], new RecordWriter[2], "test-flush")) {
+            worker.submit((session, recordWriter) -> () -> {
+                throw new ConnectException("Failed");
+            });
+            try {
+                worker.submit((session, recordWriter) -> () -> committed.add(2));
+                worker.submit((session, recordWriter) -> () -> committed.add(3));
+            }
+            catch (ConnectException e) {
+                // The failure may already have been observed when submitting
+            }
+
+            assertThatThrownBy(worker::awaitCompletion).isInstanceOf(ConnectException.class).hasMessage("Failed");
+            assertThat(committed).isEmpty();
+        }
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(10, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.connect.errors.ConnectException;
+import org.apache.kafka.connect.sink.SinkRecord;
+import org.hibernate.StatelessSession;
+import org.hibernate.dialect.DatabaseVersion;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.connector.jdbc.dialect.DatabaseDialect;
+import io.debezium.connector.jdbc.metrics.JdbcSinkTaskMetrics;
+import io.debezium.connector.jdbc.relational.TableDescriptor;
+import io.debezium.connector.jdbc.relational.TableId;
+import io.debezium.connector.jdbc.type.Type;
+import io.debezium.connector.jdbc.util.FlatSinkRecordFactory;
+
+/**
+ * Unit tests for the buffering of the {@link JdbcSinkConnectorTask} and the {@link JdbcChangeEventSink},
+ * and for the offsets committed by the task.
+ */
+@Tag("UnitTests")
+class JdbcSinkConnectorTaskTest {
+
+    private static final String TOPIC = "topic";
+    private static final TopicPartition PARTITION = new TopicPartition(TOPIC, 0);
+
+    private final FlatSinkRecordFactory factory = new FlatSinkRecordFactory();
+    private final List<Long> written = new CopyOnWriteArrayList<>();
+    private DatabaseDialect dialect;
+    private StatelessSession session;
+    private RecordWriter recordWriter;
+    private JdbcSinkConnectorTask task;
+    private long failingOffset = -1;
+
+    @BeforeEach
+    void setUp() {
+        dialect = mock(DatabaseDialect.class);
+        final Type type = mock(Type.class);
+        when(type.getTypeName(eq(dialect), any(), anyBoolean())).thenReturn("");
+        when(dialect.getSchemaType(any())).thenReturn(type);
+        when(dialect.getVersion()).thenReturn(mock(DatabaseVersion.class));
+        when(dialect.getTableId(anyString())).thenAnswer(invocation -> new TableId(null, null, invocation.getArgument(0)));
+
+        final TableDescriptor table = mock(TableDescriptor.class);
+        session = mock(StatelessSession.class);
+        when(session.doReturningWork(any())).thenReturn(table);
+
+        recordWriter = mock(RecordWriter.class);
+        when(recordWriter.prepare(anyList(), any(), any())).thenAnswer(invocation -> {
+            final List<SinkRecordDescriptor> records = invocation.getArgument(0);
+            final List<Long> offsets = records.stream().map(SinkRecordDescriptor::getOffset).collect(Collectors.toList());
+            return (RecordWriter.PreparedWrite) () -> {
+                if (offsets.contains(failingOffset)) {
+                    throw new ConnectException("Failed to write offset " + failingOffset);
+                }
+                written.addAll(offsets);
+            };
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (task != null) {
+            task.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("When fewer records than the batch size are put then they are held until the batch is full")
+    void recordsAreHeldBelowBatchSize() {
+        startTask(Map.of("batch.size", "3", "flush.interval.ms", "60000"));
+
+        task.put(records(0, 1));
+        task.put(records(1, 2));
+        assertThat(written).isEmpty();
+
+        task.put(records(2, 3));
+        assertThat(written).containsExactly(0L, 1L, 2L);
+        assertThat(task.preCommit(Map.of())).containsOnly(Map.entry(PARTITION, new OffsetAndMetadata(3)));
+    }
+
+    @Test
+    @DisplayName("When the flush interval has passed then the held records are written by the next put")
+    void recordsAreWrittenOnceIntervalHasPassed() throws InterruptedException {
+        startTask(Map.of("batch.size", "100", "flush.interval.ms", "50"));
+
+        task.put(records(0, 2));
+        Thread.sleep(100);
+        task.put(List.of());
+
+        assertThat(written).containsExactly(0L, 1L);
+    }
+
+    @Test
+    @DisplayName("When offsets are committed then the held records are written and their offsets returned")
+    void preCommitFlushesHeldRecords() {
+        startTask(Map.of("batch.size", "100", "flush.interval.ms", "60000"));
+
+        task.put(records(0, 2));
+        assertThat(written).isEmpty();
+
+        assertThat(task.preCommit(Map.of())).containsOnly(Map.entry(PARTITION, new OffsetAndMetadata(2)));
+        assertThat(written).containsExactly(0L, 1L);
+    }
+
+    @Test
+    @DisplayName("When a batch fails then the committed offset is the first record not written")
+    void failedWriteRewindsToFirstUnwrittenRecord() {
+        startTask(Map.of("batch.size", "2", "flush.interval.ms", "60000"));
+        failingOffset = 2;
+
+        task.put(records(0, 4));
+        assertThat(written).containsExactly(0L, 1L);
+
+        assertThat(task.preCommit(Map.of())).containsOnly(Map.entry(PARTITION, new OffsetAndMetadata(2)));
+        assertThatThrownBy(() -> task.put(records(4, 5))).isInstanceOf(ConnectException.class);
+        assertThat(task.preCommit(Map.of())).containsOnly(Map.entry(PARTITION, new OffsetAndMetadata(2)));
+    }
+
+    private void startTask(Map<String, String> properties) {
+        final JdbcSinkConnectorConfig config = new JdbcSinkConnectorConfig(properties);
+        task = new JdbcSinkConnectorTask();
+        task.start(new JdbcChangeEventSink(config, session, dialect, recordWriter), new JdbcSinkTaskMetrics(), "jdbc-sink-task-test");
+    }
+
+    private List<SinkRecord> records(long fromOffset, long toOffset) {
+        return LongStream.range(fromOffset, toOffset)
+                .mapToObj(offset -> {
+                    final SinkRecord record = factory.createRecord(TOPIC, (byte) offset);
+                    return new SinkRecord(TOPIC, 0, record.keySchema(), record.key(), record.valueSchema(), record.value(), offset);
+                })
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link MultiRowChunks} class.
+ */
+@Tag("UnitTests")
+class MultiRowChunksTest {
+
+    @Test
+    @DisplayName("When records exceed the maximum rows then full chunks are followed by power of two chunks")
+    void chunkSizes() {
+        final List<List<Integer>> chunks = MultiRowChunks.split(range(37), 16, null);
+
+        assertThat(chunks).extracting(List::size).containsExactly(16, 16, 4, 1);
+        assertThat(chunks.stream().flatMap(List::stream)).containsExactlyElementsOf(range(37));
+    }
+
+    @Test
+    @DisplayName("When the maximum rows is one then every record is its own chunk")
+    void singleRowChunks() {
+        assertThat(MultiRowChunks.split(range(3), 1, null)).extracting(List::size).containsExactly(1, 1, 1);
+    }
+
+    @Test
+    @DisplayName("When keys must be distinct then a repeated key starts a new chunk")
+    void repeatedKeysStartNewChunk() {
+        final List<Integer> records = List.of(1, 2, 3, 2, 4, 5);
+
+        final List<List<Integer>> chunks = MultiRowChunks.split(records, 16, Function.identity());
+
+        assertThat(chunks).containsExactly(List.of(1, 2), List.of(3), List.of(2, 4), List.of(5));
+    }
+
+    private static List<Integer> range(int count) {
+        return IntStream.range(0, count).boxed().collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link OffsetTracker} class.
+ */
+@Tag("UnitTests")
+class OffsetTrackerTest {
+
+    private static final TopicPartition PARTITION = new TopicPartition("topic", 0);
+    private static final TopicPartition OTHER_PARTITION = new TopicPartition("topic", 1);
+
+    @Test
+    @DisplayName("When records are committed out of order then the committed offset only advances past contiguous committed records")
+    void advanceToContiguousCommittedOffset() {
+        final OffsetTracker tracker = new OffsetTracker();
+        for (long offset = 10; offset < 15; offset++) {
+            tracker.received(PARTITION, offset);
+        }
+        assertThat(tracker.getCommittedOffsets()).containsExactly(Map.entry(PARTITION, new OffsetAndMetadata(10)));
+
+        tracker.committed(PARTITION, 12);
+        tracker.committed(PARTITION, 13);
+        assertThat(tracker.getCommittedOffsets()).containsExactly(Map.entry(PARTITION, new OffsetAndMetadata(10)));
+        assertThat(tracker.getLag()).containsExactly(Map.entry(PARTITION, 5L));
+
+        tracker.committed(PARTITION, 10);
+        tracker.committed(PARTITION, 11);
+        assertThat(tracker.getCommittedOffsets()).containsExactly(Map.entry(PARTITION, new OffsetAndMetadata(14)));
+        assertThat(tracker.getTotalLag()).isEqualTo(1);
+
+        tracker.committed(PARTITION, 14);
+        assertThat(tracker.getCommittedOffsets()).containsExactly(Map.entry(PARTITION, new OffsetAndMetadata(15)));
+        assertThat(tracker.getTotalLag()).isZero();
+    }
+
+    @Test
+    @DisplayName("When offsets of a partition have gaps then the committed offset advances in the order records were received")
+    void trackOffsetsWithGaps() {
+        final OffsetTracker tracker = new OffsetTracker();
+        tracker.received(PARTITION, 1);
+        tracker.received(PARTITION, 5);
+        tracker.received(PARTITION, 6);
+
+        tracker.committed(PARTITION, 1);
+        assertThat(tracker.getCommittedOffsets()).containsExactly(Map.entry(PARTITION, new OffsetAndMetadata(5)));
+
+        // Offsets that were never received are ignored
+        tracker.committed(PARTITION, 3);
+        tracker.committed(PARTITION, 6);
+        assertThat(tracker.getCommittedOffsets()).containsExactly(Map.entry(PARTITION, new OffsetAndMetadata(5)));
+
+        tracker.committed(PARTITION, 5);
+        assertThat(tracker.getCommittedOffsets()).containsExactly(Map.entry(PARTITION, new OffsetAndMetadata(7)));
+    }
+
+    @Test
+    @DisplayName("When all received records are committed then every partition advances past its last received record")
+    void commitAllReceived() {
+        final OffsetTracker tracker = new OffsetTracker();
+        for (long offset = 0; offset < 1_000; offset++) {
+            tracker.received(PARTITION, offset);
+            tracker.received(OTHER_PARTITION, offset * 2);
+        }
+        tracker.committed(PARTITION, 500);
+        tracker.committedAllReceived();
+
+        assertThat(tracker.getCommittedOffsets()).containsOnly(
+                Map.entry(PARTITION, new OffsetAndMetadata(1_000)),
+                Map.entry(OTHER_PARTITION, new OffsetAndMetadata(1_999)));
+        assertThat(tracker.getTotalLag()).isZero();
+    }
+
+    @Test
+    @DisplayName("When records are redelivered then the committed offset does not advance past them until they are committed again")
+    void trackRedeliveredRecords() {
+        final OffsetTracker tracker = new OffsetTracker();
+        tracker.received(PARTITION, 0);
+        tracker.received(PARTITION, 1);
+        tracker.received(PARTITION, 2);
+        tracker.committed(PARTITION, 0);
+
+        tracker.received(PARTITION, 1);
+        tracker.committed(PARTITION, 2);
+        assertThat(tracker.getCommittedOffsets()).containsExactly(Map.entry(PARTITION, new OffsetAndMetadata(1)));
+
+        tracker.committed(PARTITION, 1);
+        assertThat(tracker.getCommittedOffsets()).containsExactly(Map.entry(PARTITION, new OffsetAndMetadata(2)));
+    }
+
+    @Test
+    @DisplayName("When a partition is removed then its offsets are no longer reported")
+    void removePartition() {
+        final OffsetTracker tracker = new OffsetTracker();
+        tracker.received(PARTITION, 0);
+        tracker.received(OTHER_PARTITION, 0);
+        tracker.remove(List.of(PARTITION));
+        tracker.committed(PARTITION, 0);
+
+        assertThat(tracker.getCommittedOffsets()).containsOnlyKeys(OTHER_PARTITION);
+    }
+}
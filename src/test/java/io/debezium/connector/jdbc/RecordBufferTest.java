@@ -78,7 +78,35 @@ void correctlyBuffer(SinkRecordFactory factory) {
 
     @ParameterizedTest
     @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
-    @DisplayName("When key schema changes then the buffer will be flushed")
+    @DisplayName("When the buffered records reach the batch byte budget then the buffer will be flushed")
+    void correctlyBufferByEstimatedSize(SinkRecordFactory factory) {
+
+        List<SinkRecordDescriptor> sinkRecords = IntStream.range(0, 10)
+                .mapToObj(i -> SinkRecordDescriptor.builder()
+                        .withSinkRecord(factory.createRecord("topic", (byte) i))
+                        .withDialect(dialect)
+                        .withPrimaryKeyFields(Set.of())
+                        .withPrimaryKeyMode(RECORD_KEY)
+                        .build())
+                .collect(Collectors.toList());
+
+        final long recordSize = sinkRecords.get(0).getEstimatedSize();
+        JdbcSinkConnectorConfig config = new JdbcSinkConnectorConfig(Map.of("batch.size", "100", "batch.max.bytes", String.valueOf(recordSize * 3)));
+
+        RecordBuffer recordBuffer = new RecordBuffer(config);
+
+        List<List<SinkRecordDescriptor>> batches = sinkRecords.stream().map(recordBuffer::add)
+                .filter(not(List::isEmpty))
+                .collect(Collectors.toList());
+
+        assertThat(recordSize).isPositive();
+        assertThat(batches).extracting(List::size).containsExactly(3, 3, 3);
+        assertThat(recordBuffer.getEstimatedSize()).isEqualTo(recordSize);
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @DisplayName("When key schema changes then the records are buffered in a separate partition")
     void keySchemaChange(SinkRecordFactory factory) {
 
         JdbcSinkConnectorConfig config = new JdbcSinkConnectorConfig(Map.of("batch.size", "5"));
@@ -117,13 +145,15 @@ void keySchemaChange(SinkRecordFactory factory) {
                 .filter(not(List::isEmpty))
                 .collect(Collectors.toList());
 
-        assertThat(batches.size()).isEqualTo(1);
+        assertThat(batches).isEmpty();
+        assertThat(recordBuffer.getPartitionCount()).isEqualTo(2);
+        assertThat(recordBuffer.flush()).containsExactlyElementsOf(sinkRecords);
 
     }
 
     @ParameterizedTest
     @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
-    @DisplayName("When value schema changes then the buffer will be flushed")
+    @DisplayName("When value schema changes then the records are buffered in a separate partition")
     void valueSchemaChange(SinkRecordFactory factory) {
 
         JdbcSinkConnectorConfig config = new JdbcSinkConnectorConfig(Map.of("batch.size", "5"));
@@ -162,7 +192,85 @@ void valueSchemaChange(SinkRecordFactory factory) {
                 .filter(not(List::isEmpty))
                 .collect(Collectors.toList());
 
-        assertThat(batches.size()).isEqualTo(1);
+        assertThat(batches).isEmpty();
+        assertThat(recordBuffer.getPartitionCount()).isEqualTo(2);
+        assertThat(recordBuffer.flush()).containsExactlyElementsOf(sinkRecords);
+
+    }
 
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @DisplayName("When records of two schema versions interleave then the buffer is flushed by batch size grouped by schema")
+    void interleavedSchemaVersions(SinkRecordFactory factory) {
+
+        JdbcSinkConnectorConfig config = new JdbcSinkConnectorConfig(Map.of("batch.size", "5"));
+
+        RecordBuffer recordBuffer = new RecordBuffer(config);
+
+        List<SinkRecordDescriptor> sinkRecords = IntStream.range(0, 5)
+                .mapToObj(i -> i % 2 == 0 ? createRecord(factory, (byte) i) : createRecordWithInt16Value(factory, (byte) i))
+                .collect(Collectors.toList());
+
+        List<List<SinkRecordDescriptor>> batches = sinkRecords.stream().map(recordBuffer::add)
+                .filter(not(List::isEmpty))
+                .collect(Collectors.toList());
+
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).containsExactly(sinkRecords.get(0), sinkRecords.get(2), sinkRecords.get(4), sinkRecords.get(1), sinkRecords.get(3));
+        assertThat(recordBuffer.isEmpty()).isTrue();
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @DisplayName("When a key changes back to an earlier schema version then the buffer will be flushed")
+    void keyOrderingAcrossSchemaVersions(SinkRecordFactory factory) {
+
+        JdbcSinkConnectorConfig config = new JdbcSinkConnectorConfig(Map.of("batch.size", "10", "primary.key.mode", "record_key", "primary.key.fields", "id"));
+
+        RecordBuffer recordBuffer = new RecordBuffer(config);
+
+        List<SinkRecordDescriptor> sinkRecords = List.of(
+                createRecord(factory, (byte) 1),
+                createRecordWithInt16Value(factory, (byte) 1),
+                createRecord(factory, (byte) 2),
+                createRecord(factory, (byte) 1));
+
+        List<List<SinkRecordDescriptor>> batches = sinkRecords.stream().map(recordBuffer::add)
+                .filter(not(List::isEmpty))
+                .collect(Collectors.toList());
+
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).containsExactly(sinkRecords.get(0), sinkRecords.get(2), sinkRecords.get(1));
+        assertThat(recordBuffer.flush()).containsExactly(sinkRecords.get(3));
+    }
+
+    private SinkRecordDescriptor createRecord(SinkRecordFactory factory, byte id) {
+        return SinkRecordDescriptor.builder()
+                .withSinkRecord(factory.createRecord("topic", id))
+                .withDialect(dialect)
+                .withPrimaryKeyFields(Set.of("id"))
+                .withPrimaryKeyMode(RECORD_KEY)
+                .build();
+    }
+
+    private SinkRecordDescriptor createRecordWithInt16Value(SinkRecordFactory factory, byte id) {
+        SinkRecord sinkRecord = factory.updateBuilder()
+                .name("prefix")
+                .topic("topic")
+                .keySchema(factory.basicKeySchema())
+                .recordSchema(SchemaBuilder.struct().field("id", Schema.INT16_SCHEMA))
+                .sourceSchema(factory.basicSourceSchema())
+                .key("id", id)
+                .before("id", (short) id)
+                .after("id", (short) id)
+                .source("ts_ms", (int) Instant.now().getEpochSecond())
+                .build();
+
+        return SinkRecordDescriptor.builder()
+                .withSinkRecord(sinkRecord)
+                .withDialect(dialect)
+                .withPrimaryKeyFields(Set.of("id"))
+                .withPrimaryKeyMode(RECORD_KEY)
+                .build();
     }
 }
@@ -0,0 +1,121 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+import java.sql.BatchUpdateException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.kafka.connect.errors.ConnectException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.connector.jdbc.dialect.DatabaseDialect;
+
+/**
+ * Unit tests for the {@link RecordWriter} class.
+ */
+@Tag("UnitTests")
+class RecordWriterTest {
+
+    private final List<SinkRecordDescriptor> records = new ArrayList<>();
+    private final List<SinkRecordDescriptor> written = new ArrayList<>();
+    private final List<SinkRecordDescriptor> reported = new ArrayList<>();
+    private final List<List<SinkRecordDescriptor>> writes = new ArrayList<>();
+    private CompiledStatement statement;
+    private RecordWriter recordWriter;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 8; i++) {
+            records.add(mock(SinkRecordDescriptor.class));
+        }
+        statement = mock(CompiledStatement.class);
+        when(statement.getMaxRows()).thenReturn(1);
+        final DatabaseDialect dialect = mock(DatabaseDialect.class);
+        when(dialect.isTransientError(any())).thenCallRealMethod();
+        when(dialect.isRecordError(any())).thenCallRealMethod();
+        recordWriter = spy(new RecordWriter(null, null, null, dialect));
+    }
+
+    @Test
+    @DisplayName("When the driver does not identify the failed records then the batch is bisected until they are isolated")
+    void bisectFailedBatch() {
+        failWritesOf(Set.of(records.get(2), records.get(5)), "23505");
+
+        recordWriter.writeIsolatingFailures(records, statement, new SQLException("Failed", "23505"), (record, failure) -> reported.add(record));
+
+        assertThat(reported).containsExactly(records.get(2), records.get(5));
+        assertThat(written).containsExactly(records.get(0), records.get(1), records.get(3), records.get(4), records.get(6), records.get(7));
+    }
+
+    @Test
+    @DisplayName("When the driver stops the batch at the failed record then the records around it are written without bisection")
+    void isolateFailedRecordFromUpdateCounts() {
+        failWritesOf(Set.of(records.get(3)), "23505");
+
+        final BatchUpdateException failure = new BatchUpdateException("Failed", "23505", new int[]{ 1, 1, 1 });
+        recordWriter.writeIsolatingFailures(records, statement, new ConnectException(failure), (record, f) -> reported.add(record));
+
+        assertThat(reported).containsExactly(records.get(3));
+        assertThat(written).hasSize(7);
+        assertThat(writes).containsExactly(records.subList(0, 3), records.subList(4, 8));
+    }
+
+    @Test
+    @DisplayName("When a part of the batch fails because of the connection then the failure is not attributed to the records")
+    void propagateConnectionFailures() {
+        failWritesOf(Set.of(records.get(0)), "08006");
+
+        assertThatThrownBy(() -> recordWriter.writeIsolatingFailures(records, statement, new SQLException("Failed", "23505"),
+                (record, failure) -> reported.add(record))).isInstanceOf(ConnectException.class);
+        assertThat(reported).isEmpty();
+        assertThat(recordWriter.isRecordFailure(new ConnectException(new SQLException("Failed", "40001")))).isFalse();
+        assertThat(recordWriter.isRecordFailure(new ConnectException("Failed"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("When a part of the batch fails because of the table rather than its values then the failure is not attributed to the records")
+    void propagateStatementFailures() {
+        failWritesOf(Set.of(records.get(6)), "42703");
+
+        assertThatThrownBy(() -> recordWriter.writeIsolatingFailures(records, statement, new SQLException("Failed", "23505"),
+                (record, failure) -> reported.add(record))).isInstanceOf(ConnectException.class);
+        assertThat(reported).isEmpty();
+        // Missing tables and columns, missing privileges and read-only databases fail the put instead of reaching the dead letter queue
+        assertThat(recordWriter.isRecordFailure(new ConnectException(new SQLException("Failed", "42P01")))).isFalse();
+        assertThat(recordWriter.isRecordFailure(new ConnectException(new SQLException("Failed", "42501")))).isFalse();
+        assertThat(recordWriter.isRecordFailure(new ConnectException(new SQLException("Failed", "25006")))).isFalse();
+        assertThat(recordWriter.isRecordFailure(new ConnectException(new SQLException("Failed", "22001")))).isTrue();
+        assertThat(recordWriter.isRecordFailure(new ConnectException(new SQLException("Failed", "23505")))).isTrue();
+    }
+
+    private void failWritesOf(Set<SinkRecordDescriptor> failing, String sqlState) {
+        doAnswer(invocation -> {
+            final List<SinkRecordDescriptor> batch = invocation.getArgument(0);
+            if (batch.stream().anyMatch(failing::contains)) {
+                throw new ConnectException(new SQLException("Failed", sqlState));
+            }
+            writes.add(new ArrayList<>(batch));
+            written.addAll(batch);
+            return null;
+        }).when(recordWriter).write(anyList(), any(CompiledStatement.class), isNull());
+    }
+}
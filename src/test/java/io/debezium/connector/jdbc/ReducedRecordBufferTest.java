@@ -201,6 +201,44 @@ void correctlyBufferWithDuplicate(SinkRecordFactory factory) {
         assertThat(batches.get(0).size()).isEqualTo(5);
     }
 
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @DisplayName("When deletes and inserts are interleaved then the buffer is not flushed and returns deletes before the other changes")
+    void reduceInterleavedDeletes(SinkRecordFactory factory) {
+
+        JdbcSinkConnectorConfig config = new JdbcSinkConnectorConfig(Map.of("batch.size", "10", "primary.key.mode", "record_key", "primary.key.fields", "id"));
+
+        ReducedRecordBuffer reducedRecordBuffer = new ReducedRecordBuffer(config);
+
+        List<SinkRecordDescriptor> sinkRecords = Stream.of(
+                factory.createRecord("topic", (byte) 1),
+                factory.deleteRecord("topic"),
+                factory.createRecord("topic", (byte) 1),
+                factory.createRecord("topic", (byte) 2),
+                factory.deleteRecord("topic"),
+                factory.createRecord("topic", (byte) 1),
+                factory.createRecord("topic", (byte) 3))
+                .map(record -> SinkRecordDescriptor.builder()
+                        .withSinkRecord(record)
+                        .withDialect(dialect)
+                        .withPrimaryKeyFields(Set.of("id"))
+                        .withPrimaryKeyMode(RECORD_KEY)
+                        .build())
+                .collect(Collectors.toList());
+
+        List<List<SinkRecordDescriptor>> batches = sinkRecords.stream().map(reducedRecordBuffer::add)
+                .filter(not(List::isEmpty))
+                .collect(Collectors.toList());
+
+        assertThat(batches).isEmpty();
+
+        List<SinkRecordDescriptor> flushed = reducedRecordBuffer.flush();
+        assertThat(flushed).extracting(SinkRecordDescriptor::isDelete).containsExactly(true, false, false, false);
+        assertThat(flushed.get(0)).isSameAs(sinkRecords.get(4));
+        assertThat(flushed.subList(1, 4)).containsExactly(sinkRecords.get(5), sinkRecords.get(3), sinkRecords.get(6));
+        assertThat(reducedRecordBuffer.isEmpty()).isTrue();
+    }
+
     @ParameterizedTest
     @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
     @DisplayName("When primary key mode is none then reduced buffer should raise exception")
@@ -0,0 +1,101 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link ReductionKeyMap} class.
+ */
+@Tag("UnitTests")
+class ReductionKeyMapTest {
+
+    private static final Schema COMPOSITE_SCHEMA = SchemaBuilder.struct()
+            .field("id", Schema.INT64_SCHEMA)
+            .field("tenant", Schema.OPTIONAL_STRING_SCHEMA)
+            .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+            .build();
+    private static final Field[] COMPOSITE_KEY = { COMPOSITE_SCHEMA.field("id"), COMPOSITE_SCHEMA.field("tenant") };
+
+    private static final Schema BYTES_SCHEMA = SchemaBuilder.struct().field("id", Schema.BYTES_SCHEMA).build();
+    private static final Field[] BYTES_KEY = { BYTES_SCHEMA.field("id") };
+
+    @Test
+    @DisplayName("When keys are added then they are positioned in insertion order by their key field values")
+    void positionKeysInInsertionOrder() {
+        final ReductionKeyMap map = new ReductionKeyMap();
+        assertThat(map.indexOf(composite(2L, "a", "x"), COMPOSITE_KEY)).isEqualTo(0);
+        assertThat(map.indexOf(composite(1L, "a", "x"), COMPOSITE_KEY)).isEqualTo(1);
+        assertThat(map.indexOf(composite(1L, null, "x"), COMPOSITE_KEY)).isEqualTo(2);
+        // Fields outside of the key do not matter
+        assertThat(map.indexOf(composite(2L, "a", "y"), COMPOSITE_KEY)).isEqualTo(0);
+        assertThat(map.indexOf(composite(1L, null, "y"), COMPOSITE_KEY)).isEqualTo(2);
+        assertThat(map.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("When the map grows then the positions of its keys are retained")
+    void retainKeysWhenGrowing() {
+        final ReductionKeyMap map = new ReductionKeyMap();
+        for (long i = 0; i < 10_000; i++) {
+            assertThat(map.indexOf(composite(i, "a", null), COMPOSITE_KEY)).isEqualTo((int) i);
+        }
+        for (long i = 0; i < 10_000; i++) {
+            assertThat(map.indexOf(composite(i, "a", null), COMPOSITE_KEY)).isEqualTo((int) i);
+        }
+        assertThat(map.size()).isEqualTo(10_000);
+    }
+
+    @Test
+    @DisplayName("When key fields are byte arrays then they are compared by content")
+    void compareByteArraysByContent() {
+        final ReductionKeyMap map = new ReductionKeyMap();
+        assertThat(map.indexOf(bytes(new byte[]{ 1, 2 }), BYTES_KEY)).isEqualTo(0);
+        assertThat(map.indexOf(bytes(new byte[]{ 1, 2 }), BYTES_KEY)).isEqualTo(0);
+        assertThat(map.indexOf(bytes(new byte[]{ 2, 1 }), BYTES_KEY)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("When distinct keys have the same hash then they are not merged")
+    void separateKeysWithSameHash() {
+        final Struct first = bytes(new byte[]{ 0, 31 });
+        final Struct second = bytes(new byte[]{ 1, 0 });
+        assertThat(ReductionKeyMap.hash(first, BYTES_KEY)).isEqualTo(ReductionKeyMap.hash(second, BYTES_KEY));
+
+        final ReductionKeyMap map = new ReductionKeyMap();
+        assertThat(map.indexOf(first, BYTES_KEY)).isEqualTo(0);
+        assertThat(map.indexOf(second, BYTES_KEY)).isEqualTo(1);
+        assertThat(map.indexOf(first, BYTES_KEY)).isEqualTo(0);
+        assertThat(map.indexOf(second, BYTES_KEY)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("When the map is cleared then positions start at 0 again")
+    void clear() {
+        final ReductionKeyMap map = new ReductionKeyMap();
+        map.indexOf(composite(1L, "a", null), COMPOSITE_KEY);
+        map.indexOf(composite(2L, "a", null), COMPOSITE_KEY);
+        map.clear();
+        assertThat(map.size()).isZero();
+        assertThat(map.indexOf(composite(2L, "a", null), COMPOSITE_KEY)).isEqualTo(0);
+    }
+
+    private static Struct composite(long id, String tenant, String name) {
+        return new Struct(COMPOSITE_SCHEMA).put("id", id).put("tenant", tenant).put("name", name);
+    }
+
+    private static Struct bytes(byte[] id) {
+        return new Struct(BYTES_SCHEMA).put("id", id);
+    }
+}
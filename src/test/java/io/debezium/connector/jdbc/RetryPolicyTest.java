@@ -0,0 +1,85 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.kafka.connect.errors.ConnectException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link RetryPolicy} class.
+ */
+@Tag("UnitTests")
+class RetryPolicyTest {
+
+    private static final ConnectException TRANSIENT = new ConnectException("Deadlock");
+    private static final ConnectException PERMANENT = new ConnectException("Constraint violation");
+
+    @Test
+    @DisplayName("When a write fails with a transient error then it is retried until it succeeds")
+    void retryTransientFailures() {
+        final RetryPolicy policy = new RetryPolicy(3, 0);
+        final AtomicInteger retries = new AtomicInteger();
+
+        policy.run("table", () -> {
+            throw TRANSIENT;
+        }, () -> {
+            if (retries.incrementAndGet() < 3) {
+                throw TRANSIENT;
+            }
+        }, e -> e == TRANSIENT);
+
+        assertThat(retries).hasValue(3);
+        assertThat(policy.getRetryCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("When a write fails with a permanent error or exhausts its retries then the failure is thrown")
+    void throwPermanentFailures() {
+        final RetryPolicy policy = new RetryPolicy(2, 0);
+        final AtomicInteger retries = new AtomicInteger();
+
+        assertThatThrownBy(() -> policy.run("table", () -> {
+            throw PERMANENT;
+        }, retries::incrementAndGet, e -> e == TRANSIENT)).isSameAs(PERMANENT);
+        assertThat(retries).hasValue(0);
+
+        assertThatThrownBy(() -> policy.run("table", () -> {
+            throw TRANSIENT;
+        }, () -> {
+            retries.incrementAndGet();
+            throw TRANSIENT;
+        }, e -> e == TRANSIENT)).isSameAs(TRANSIENT);
+        assertThat(retries).hasValue(2);
+        assertThat(policy.getRetryCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("When retries are disabled then a transient failure is thrown")
+    void disabledRetries() {
+        final RetryPolicy policy = new RetryPolicy(0, 0);
+        assertThatThrownBy(() -> policy.run("table", () -> {
+            throw TRANSIENT;
+        }, () -> {
+        }, e -> true)).isSameAs(TRANSIENT);
+        assertThat(policy.getRetryCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("When retrying then the backoff grows exponentially up to a minute and is randomized by up to half")
+    void backoff() {
+        final RetryPolicy policy = new RetryPolicy(10, 100);
+        assertThat(policy.getBackoffMs(1)).isBetween(50L, 100L);
+        assertThat(policy.getBackoffMs(4)).isBetween(400L, 800L);
+        assertThat(policy.getBackoffMs(30)).isBetween(30_000L, 60_000L);
+    }
+}
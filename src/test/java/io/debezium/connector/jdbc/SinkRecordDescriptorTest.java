@@ -0,0 +1,103 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc;
+
+import static io.debezium.connector.jdbc.JdbcSinkConnectorConfig.PrimaryKeyMode.RECORD_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Set;
+
+import org.apache.kafka.connect.sink.SinkRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import io.debezium.connector.jdbc.dialect.DatabaseDialect;
+import io.debezium.connector.jdbc.junit.jupiter.SinkRecordFactoryArgumentsProvider;
+import io.debezium.connector.jdbc.type.Type;
+import io.debezium.connector.jdbc.util.SinkRecordFactory;
+
+/**
+ * Unit tests for the {@link SinkRecordDescriptor} shape cache.
+ */
+@Tag("UnitTests")
+class SinkRecordDescriptorTest {
+
+    private DatabaseDialect dialect;
+
+    @BeforeEach
+    void setUp() {
+        dialect = mock(DatabaseDialect.class);
+        Type type = mock(Type.class);
+        when(type.getTypeName(eq(dialect), any(), anyBoolean())).thenReturn("");
+        when(dialect.getSchemaType(any())).thenReturn(type);
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @DisplayName("When records share the topic and schema instances then the field descriptors are shared")
+    void sameSchemasShareFields(SinkRecordFactory factory) {
+        final SinkRecordDescriptor.ShapeCache cache = new SinkRecordDescriptor.ShapeCache();
+
+        final SinkRecord first = factory.createRecord("topic", (byte) 1);
+        final SinkRecord second = first.newRecord(first.topic(), first.kafkaPartition(), first.keySchema(), first.key(),
+                first.valueSchema(), first.value(), first.timestamp());
+
+        final SinkRecordDescriptor firstDescriptor = createDescriptor(first, cache);
+        final SinkRecordDescriptor secondDescriptor = createDescriptor(second, cache);
+
+        assertThat(secondDescriptor.getFields()).isSameAs(firstDescriptor.getFields());
+        assertThat(secondDescriptor.getKeyFieldNames()).containsExactly("id");
+        assertThat(secondDescriptor.getNonKeyFieldNames()).containsExactly("name", "nick_name_");
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @DisplayName("When records have different schema instances or topics then the fields are resolved separately")
+    void differentSchemasOrTopicsResolveFields(SinkRecordFactory factory) {
+        final SinkRecordDescriptor.ShapeCache cache = new SinkRecordDescriptor.ShapeCache();
+
+        final SinkRecordDescriptor first = createDescriptor(factory.createRecord("topic", (byte) 1), cache);
+        final SinkRecordDescriptor otherSchema = createDescriptor(factory.createRecord("topic", (byte) 1), cache);
+        final SinkRecordDescriptor otherTopic = createDescriptor(factory.createRecord("other", (byte) 1), cache);
+
+        assertThat(otherSchema.getFields()).isNotSameAs(first.getFields());
+        assertThat(otherTopic.getFields()).isNotSameAs(first.getFields());
+        assertThat(cache.getMisses()).isEqualTo(3);
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @DisplayName("When the cache is full then it is cleared")
+    void cacheIsBounded(SinkRecordFactory factory) {
+        final SinkRecordDescriptor.ShapeCache cache = new SinkRecordDescriptor.ShapeCache(2);
+
+        for (int i = 0; i < 5; i++) {
+            createDescriptor(factory.createRecord("topic", (byte) i), cache);
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(2);
+    }
+
+    private SinkRecordDescriptor createDescriptor(SinkRecord record, SinkRecordDescriptor.ShapeCache cache) {
+        return SinkRecordDescriptor.builder()
+                .withSinkRecord(record)
+                .withDialect(dialect)
+                .withPrimaryKeyFields(Set.of("id"))
+                .withPrimaryKeyMode(RECORD_KEY)
+                .withShapeCache(cache)
+                .build();
+    }
+}
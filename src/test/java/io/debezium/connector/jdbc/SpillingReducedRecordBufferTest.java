@@ -0,0 +1,202 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc;
+
+import static io.debezium.connector.jdbc.JdbcSinkConnectorConfig.PrimaryKeyMode.RECORD_KEY;
+import static java.util.function.Predicate.not;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.sink.SinkRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import io.debezium.connector.jdbc.dialect.DatabaseDialect;
+import io.debezium.connector.jdbc.junit.jupiter.SinkRecordFactoryArgumentsProvider;
+import io.debezium.connector.jdbc.type.Type;
+import io.debezium.connector.jdbc.util.SinkRecordFactory;
+
+/**
+ * Unit tests for the {@link SpillingReducedRecordBuffer} class.
+ */
+@Tag("UnitTests")
+class SpillingReducedRecordBufferTest {
+
+    @TempDir
+    Path spillDirectory;
+
+    private DatabaseDialect dialect;
+
+    @BeforeEach
+    void setUp() {
+        dialect = mock(DatabaseDialect.class);
+        Type type = mock(Type.class);
+        when(type.getTypeName(eq(dialect), any(), anyBoolean())).thenReturn("");
+        when(dialect.getSchemaType(any())).thenReturn(type);
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @DisplayName("When every change is spilled then the buffer reduces changes as the in-memory reduction buffer")
+    void reduceSpilledChanges(SinkRecordFactory factory) throws Exception {
+
+        SpillingReducedRecordBuffer buffer = new SpillingReducedRecordBuffer(createConfig("10", "1"), "table", this::createDescriptor);
+
+        List<SinkRecordDescriptor> sinkRecords = createDescriptors(
+                factory.createRecord("topic", (byte) 1),
+                factory.deleteRecord("topic"),
+                factory.createRecord("topic", (byte) 1),
+                factory.createRecord("topic", (byte) 2),
+                factory.deleteRecord("topic"),
+                factory.createRecord("topic", (byte) 1),
+                factory.createRecord("topic", (byte) 3));
+
+        List<List<SinkRecordDescriptor>> batches = sinkRecords.stream().map(buffer::add)
+                .filter(not(List::isEmpty))
+                .collect(Collectors.toList());
+
+        assertThat(batches).isEmpty();
+        assertThat(buffer.getEstimatedSize()).isZero();
+        try (Stream<Path> files = Files.list(spillDirectory)) {
+            assertThat(files.count()).isEqualTo(1);
+        }
+
+        List<SinkRecordDescriptor> flushed = drain(buffer, buffer.flush());
+        assertThat(flushed).extracting(SinkRecordDescriptor::isDelete).containsExactly(true, false, false, false);
+        assertThat(flushed).extracting(SinkRecordDescriptor::getOffset).containsExactly(4L, 5L, 3L, 6L);
+        assertThat(flushed.get(1).getKeyStruct(RECORD_KEY)).isEqualTo(sinkRecords.get(5).getKeyStruct(RECORD_KEY));
+        assertThat(buffer.isEmpty()).isTrue();
+
+        buffer.close();
+        try (Stream<Path> files = Files.list(spillDirectory)) {
+            assertThat(files.count()).isZero();
+        }
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @DisplayName("When the reduction window is reached then the changes are returned in parts bounded by the spill size")
+    void flushInParts(SinkRecordFactory factory) {
+
+        final long recordSize = createDescriptor(factory.createRecord("topic", (byte) 0)).getEstimatedSize();
+        SpillingReducedRecordBuffer buffer = new SpillingReducedRecordBuffer(createConfig("5", String.valueOf(recordSize * 2)), "table",
+                this::createDescriptor);
+
+        List<SinkRecordDescriptor> sinkRecords = createDescriptors(
+                factory.createRecord("topic", (byte) 0),
+                factory.createRecord("topic", (byte) 1),
+                factory.createRecord("topic", (byte) 0),
+                factory.createRecord("topic", (byte) 2),
+                factory.createRecord("topic", (byte) 3),
+                factory.createRecord("topic", (byte) 4));
+
+        List<List<SinkRecordDescriptor>> parts = new ArrayList<>();
+        for (SinkRecordDescriptor record : sinkRecords) {
+            List<SinkRecordDescriptor> flushed = buffer.add(record);
+            if (!flushed.isEmpty()) {
+                parts.add(flushed);
+                while (buffer.hasPendingFlush()) {
+                    parts.add(buffer.flush());
+                }
+            }
+        }
+
+        assertThat(parts).extracting(List::size).containsExactly(2, 2, 1);
+        assertThat(parts.stream().flatMap(List::stream)).extracting(SinkRecordDescriptor::getOffset).containsExactly(2L, 1L, 3L, 4L, 5L);
+        assertThat(buffer.isEmpty()).isTrue();
+        buffer.close();
+    }
+
+    @Test
+    @DisplayName("When an optional field with a default value is null then it is still null after the change is spilled")
+    void retainNullFieldsWithDefaultValues() {
+
+        SpillingReducedRecordBuffer buffer = new SpillingReducedRecordBuffer(createConfig("10", "1"), "table", this::createDescriptor);
+
+        final Schema keySchema = SchemaBuilder.struct().field("id", Schema.INT8_SCHEMA).build();
+        final Schema addressSchema = SchemaBuilder.struct().optional()
+                .field("city", SchemaBuilder.string().optional().defaultValue("unknown").build())
+                .build();
+        final Schema valueSchema = SchemaBuilder.struct()
+                .field("id", Schema.INT8_SCHEMA)
+                .field("nick_name", SchemaBuilder.string().optional().defaultValue("none").build())
+                .field("address", addressSchema)
+                .build();
+        final Struct value = new Struct(valueSchema)
+                .put("id", (byte) 1)
+                .put("nick_name", null)
+                .put("address", new Struct(addressSchema).put("city", null));
+
+        assertThat(buffer.add(createDescriptor(new SinkRecord("topic", 0, keySchema, new Struct(keySchema).put("id", (byte) 1),
+                valueSchema, value, 0)))).isEmpty();
+
+        List<SinkRecordDescriptor> flushed = drain(buffer, buffer.flush());
+        assertThat(flushed).hasSize(1);
+        final Struct after = flushed.get(0).getAfterStruct();
+        assertThat(after.getWithoutDefault("nick_name")).isNull();
+        assertThat(after.getStruct("address").getWithoutDefault("city")).isNull();
+        assertThat(after.schema().field("nick_name").schema().defaultValue()).isEqualTo("none");
+        buffer.close();
+    }
+
+    private JdbcSinkConnectorConfig createConfig(String batchSize, String spillBytes) {
+        return new JdbcSinkConnectorConfig(Map.of(
+                "batch.size", batchSize,
+                "primary.key.mode", "record_key",
+                "primary.key.fields", "id",
+                "use.reduction.buffer", "true",
+                "reduction.buffer.spill.bytes", spillBytes,
+                "reduction.buffer.spill.directory", spillDirectory.toString()));
+    }
+
+    private List<SinkRecordDescriptor> createDescriptors(SinkRecord... records) {
+        final List<SinkRecordDescriptor> descriptors = new ArrayList<>();
+        for (SinkRecord record : records) {
+            // Distinct offsets identify the records read back from the spill file
+            descriptors.add(createDescriptor(new SinkRecord(record.topic(), record.kafkaPartition(), record.keySchema(), record.key(),
+                    record.valueSchema(), record.value(), descriptors.size())));
+        }
+        return descriptors;
+    }
+
+    private SinkRecordDescriptor createDescriptor(SinkRecord record) {
+        return SinkRecordDescriptor.builder()
+                .withSinkRecord(record)
+                .withDialect(dialect)
+                .withPrimaryKeyFields(Set.of("id"))
+                .withPrimaryKeyMode(RECORD_KEY)
+                .build();
+    }
+
+    private static List<SinkRecordDescriptor> drain(Buffer buffer, List<SinkRecordDescriptor> flushed) {
+        final List<SinkRecordDescriptor> records = new ArrayList<>(flushed);
+        while (buffer.hasPendingFlush()) {
+            records.addAll(buffer.flush());
+        }
+        return records;
+    }
+}
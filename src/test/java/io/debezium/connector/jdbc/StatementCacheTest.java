@@ -0,0 +1,138 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc;
+
+import static io.debezium.connector.jdbc.JdbcSinkConnectorConfig.PrimaryKeyMode.RECORD_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.apache.kafka.connect.sink.SinkRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import io.debezium.connector.jdbc.JdbcSinkConnectorConfig.InsertMode;
+import io.debezium.connector.jdbc.dialect.DatabaseDialect;
+import io.debezium.connector.jdbc.junit.jupiter.SinkRecordFactoryArgumentsProvider;
+import io.debezium.connector.jdbc.relational.TableDescriptor;
+import io.debezium.connector.jdbc.type.Type;
+import io.debezium.connector.jdbc.util.SinkRecordFactory;
+
+/**
+ * Unit tests for the {@link StatementCache} class.
+ */
+@Tag("UnitTests")
+class StatementCacheTest {
+
+    private DatabaseDialect dialect;
+    private Type type;
+    private TableDescriptor table;
+    private AtomicInteger compilations;
+
+    @BeforeEach
+    void setUp() {
+        dialect = mock(DatabaseDialect.class);
+        type = mock(Type.class);
+        when(type.getTypeName(eq(dialect), any(), anyBoolean())).thenReturn("");
+        when(dialect.getSchemaType(any())).thenReturn(type);
+        table = TableDescriptor.builder().tableName("topic").build();
+        compilations = new AtomicInteger();
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @DisplayName("When records share the same table and schemas then the compiled statement is reused")
+    void statementIsReused(SinkRecordFactory factory) {
+        StatementCache cache = new StatementCache();
+
+        CompiledStatement first = cache.get(table, createDescriptor(factory.createRecord("topic", (byte) 1)), InsertMode.INSERT, compiler());
+        CompiledStatement second = cache.get(table, createDescriptor(factory.createRecord("topic", (byte) 2)), InsertMode.INSERT, compiler());
+
+        assertThat(second).isSameAs(first);
+        assertThat(compilations.get()).isEqualTo(1);
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @DisplayName("When records differ in operation then a statement is compiled for each operation")
+    void statementPerOperation(SinkRecordFactory factory) {
+        StatementCache cache = new StatementCache();
+
+        CompiledStatement insert = cache.get(table, createDescriptor(factory.createRecord("topic", (byte) 1)), InsertMode.UPSERT, compiler());
+        CompiledStatement delete = cache.get(table, createDescriptor(factory.deleteRecord("topic")), InsertMode.UPSERT, compiler());
+
+        assertThat(delete).isNotSameAs(insert);
+        assertThat(compilations.get()).isEqualTo(2);
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @DisplayName("When the destination table changes then the statement is recompiled")
+    void tableChangeRecompiles(SinkRecordFactory factory) {
+        StatementCache cache = new StatementCache();
+
+        CompiledStatement first = cache.get(table, createDescriptor(factory.createRecord("topic", (byte) 1)), InsertMode.INSERT, compiler());
+
+        TableDescriptor altered = TableDescriptor.builder().tableName("topic").build();
+        CompiledStatement second = cache.get(altered, createDescriptor(factory.createRecord("topic", (byte) 1)), InsertMode.INSERT, compiler());
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(compilations.get()).isEqualTo(2);
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @DisplayName("When a field has a value dependent query binding then the statement is never cached")
+    void valueDependentBindingIsNotCached(SinkRecordFactory factory) {
+        when(type.isQueryBindingValueDependent()).thenReturn(true);
+        StatementCache cache = new StatementCache();
+
+        cache.get(table, createDescriptor(factory.createRecord("topic", (byte) 1)), InsertMode.INSERT, compiler());
+        cache.get(table, createDescriptor(factory.createRecord("topic", (byte) 1)), InsertMode.INSERT, compiler());
+
+        assertThat(compilations.get()).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @DisplayName("When the cache exceeds its maximum size then the least recently used statement is evicted")
+    void cacheIsBounded(SinkRecordFactory factory) {
+        StatementCache cache = new StatementCache(1);
+
+        cache.get(table, createDescriptor(factory.createRecord("topic", (byte) 1)), InsertMode.INSERT, compiler());
+        cache.get(table, createDescriptor(factory.deleteRecord("topic")), InsertMode.INSERT, compiler());
+        cache.get(table, createDescriptor(factory.createRecord("topic", (byte) 1)), InsertMode.INSERT, compiler());
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(compilations.get()).isEqualTo(3);
+    }
+
+    private Supplier<CompiledStatement> compiler() {
+        return () -> new CompiledStatement("SQL-" + compilations.incrementAndGet(), null);
+    }
+
+    private SinkRecordDescriptor createDescriptor(SinkRecord record) {
+        return SinkRecordDescriptor.builder()
+                .withSinkRecord(record)
+                .withDialect(dialect)
+                .withPrimaryKeyFields(Set.of("id"))
+                .withPrimaryKeyMode(RECORD_KEY)
+                .build();
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc;
+
+import static io.debezium.connector.jdbc.JdbcSinkConnectorConfig.PrimaryKeyMode.RECORD_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Set;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.sink.SinkRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import io.debezium.connector.jdbc.dialect.DatabaseDialect;
+import io.debezium.connector.jdbc.junit.jupiter.SinkRecordFactoryArgumentsProvider;
+import io.debezium.connector.jdbc.relational.TableDescriptor;
+import io.debezium.connector.jdbc.relational.TableId;
+import io.debezium.connector.jdbc.type.Type;
+import io.debezium.connector.jdbc.util.SinkRecordFactory;
+import io.debezium.util.Clock;
+
+/**
+ * Unit tests for the {@link TableDescriptorCache} class.
+ */
+@Tag("UnitTests")
+class TableDescriptorCacheTest {
+
+    private static final TableId TABLE_ID = new TableId(null, null, "topic");
+
+    private DatabaseDialect dialect;
+    private TableDescriptor table;
+
+    @BeforeEach
+    void setUp() {
+        dialect = mock(DatabaseDialect.class);
+        Type type = mock(Type.class);
+        when(type.getTypeName(eq(dialect), any(), anyBoolean())).thenReturn("");
+        when(dialect.getSchemaType(any())).thenReturn(type);
+        table = TableDescriptor.builder().tableName("topic").build();
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @DisplayName("When a table is cached then subsequent records with the same fields are served from the cache")
+    void cachedTableIsReturned(SinkRecordFactory factory) {
+        TableDescriptorCache cache = new TableDescriptorCache(dialect, -1);
+
+        SinkRecordDescriptor first = createDescriptor(factory.createRecord("topic", (byte) 1));
+        assertThat(cache.get(TABLE_ID, first)).isNull();
+
+        cache.put(TABLE_ID, table, first);
+
+        assertThat(cache.get(TABLE_ID, first)).isSameAs(table);
+        assertThat(cache.get(TABLE_ID, createDescriptor(factory.createRecord("topic", (byte) 2)))).isSameAs(table);
+        assertThat(cache.getHits()).isEqualTo(2);
+        assertThat(cache.getMisses()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @DisplayName("When the time-to-live is zero then nothing is cached")
+    void cacheDisabled(SinkRecordFactory factory) {
+        TableDescriptorCache cache = new TableDescriptorCache(dialect, 0);
+
+        SinkRecordDescriptor record = createDescriptor(factory.createRecord("topic", (byte) 1));
+        cache.put(TABLE_ID, table, record);
+
+        assertThat(cache.get(TABLE_ID, record)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @DisplayName("When the time-to-live elapses then the cached table expires")
+    void cachedTableExpires(SinkRecordFactory factory) {
+        Clock clock = mock(Clock.class);
+        when(clock.currentTimeInMillis()).thenReturn(1000L);
+
+        TableDescriptorCache cache = new TableDescriptorCache(dialect, 500, clock);
+
+        SinkRecordDescriptor record = createDescriptor(factory.createRecord("topic", (byte) 1));
+        cache.put(TABLE_ID, table, record);
+
+        when(clock.currentTimeInMillis()).thenReturn(1499L);
+        assertThat(cache.get(TABLE_ID, record)).isSameAs(table);
+
+        when(clock.currentTimeInMillis()).thenReturn(1500L);
+        assertThat(cache.get(TABLE_ID, record)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @DisplayName("When a record has fields missing from the cached table then the cached table is invalidated")
+    void newFieldsInvalidateCachedTable(SinkRecordFactory factory) {
+        TableDescriptorCache cache = new TableDescriptorCache(dialect, -1);
+
+        cache.put(TABLE_ID, table, createDescriptor(factory.createRecord("topic", (byte) 1)));
+
+        SinkRecordDescriptor evolved = createDescriptor(factory.createRecordWithSchemaValue("topic", (byte) 1, "age", Schema.INT32_SCHEMA, 42));
+        when(dialect.resolveMissingFields(evolved, table)).thenReturn(Set.of("age"));
+
+        assertThat(cache.get(TABLE_ID, evolved)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @DisplayName("When a record has different fields that all exist in the cached table then the cached table is returned")
+    void compatibleFieldsUseCachedTable(SinkRecordFactory factory) {
+        TableDescriptorCache cache = new TableDescriptorCache(dialect, -1);
+
+        cache.put(TABLE_ID, table, createDescriptor(factory.createRecord("topic", (byte) 1)));
+
+        SinkRecordDescriptor subset = createDescriptor(factory.createRecordWithSchemaValue("topic", (byte) 1, "name", Schema.STRING_SCHEMA, "John Doe"));
+        when(dialect.resolveMissingFields(subset, table)).thenReturn(Set.of());
+
+        assertThat(cache.get(TABLE_ID, subset)).isSameAs(table);
+        assertThat(cache.get(TABLE_ID, subset)).isSameAs(table);
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @DisplayName("When a cached table is invalidated then it is no longer returned")
+    void invalidateCachedTable(SinkRecordFactory factory) {
+        TableDescriptorCache cache = new TableDescriptorCache(dialect, -1);
+
+        SinkRecordDescriptor record = createDescriptor(factory.createRecord("topic", (byte) 1));
+        cache.put(TABLE_ID, table, record);
+        cache.invalidate(TABLE_ID);
+
+        assertThat(cache.get(TABLE_ID, record)).isNull();
+    }
+
+    private SinkRecordDescriptor createDescriptor(SinkRecord record) {
+        return SinkRecordDescriptor.builder()
+                .withSinkRecord(record)
+                .withDialect(dialect)
+                .withPrimaryKeyFields(Set.of("id"))
+                .withPrimaryKeyMode(RECORD_KEY)
+                .build();
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc.dialect.mysql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.connector.jdbc.dialect.DatabaseDialect;
+
+/**
+ * Unit tests for the {@link MySqlLoadDataWriter} class.
+ */
+@Tag("UnitTests")
+class MySqlLoadDataWriterTest {
+
+    @Test
+    @DisplayName("When values are converted then escaped text is returned")
+    void textValues() {
+        final MySqlLoadDataWriter writer = new MySqlLoadDataWriter(mock(DatabaseDialect.class), "LOAD DATA", new boolean[0]);
+
+        assertThat(writer.toText(null, false)).isEqualTo("\\N");
+        assertThat(writer.toText("a\tb\nc\\d", false)).isEqualTo("a\\tb\\nc\\\\d");
+        assertThat(writer.toText("\\N", false)).isEqualTo("\\\\N");
+        assertThat(writer.toText(new BigDecimal("1E+3"), false)).isEqualTo("1000");
+        assertThat(writer.toText(ByteBuffer.wrap(new byte[]{ 0x0a, (byte) 0xff }), true)).isEqualTo("0AFF");
+    }
+
+    @Test
+    @DisplayName("When temporal values are converted then the dialect formatting is used without quotes")
+    void temporalValues() {
+        final DatabaseDialect dialect = mock(DatabaseDialect.class);
+        when(dialect.getFormattedDateTime(any())).thenReturn("'2023-05-17 10:00:00'");
+        final MySqlLoadDataWriter writer = new MySqlLoadDataWriter(dialect, "LOAD DATA", new boolean[0]);
+
+        assertThat(writer.toText(LocalDateTime.of(2023, 5, 17, 10, 0), false)).isEqualTo("2023-05-17 10:00:00");
+        assertThat(writer.toText(OffsetDateTime.of(2023, 5, 17, 10, 0, 0, 0, ZoneOffset.UTC), false)).isEqualTo("2023-05-17 10:00:00");
+    }
+
+    @Test
+    @DisplayName("When a value cannot be represented then it is unsupported")
+    void unsupportedValues() {
+        final MySqlLoadDataWriter writer = new MySqlLoadDataWriter(mock(DatabaseDialect.class), "LOAD DATA", new boolean[0]);
+
+        assertThat(writer.toText(new byte[]{ 1 }, false)).isNull();
+        assertThat(writer.toText("text", true)).isNull();
+        assertThat(writer.toText(Double.NaN, false)).isNull();
+        assertThat(writer.toText(new Object(), false)).isNull();
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc.dialect.oracle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.connector.jdbc.dialect.oracle.OracleArrayMergeWriter.ElementKind;
+
+/**
+ * Unit tests for the {@link OracleArrayMergeWriter} class.
+ */
+@Tag("UnitTests")
+class OracleArrayMergeWriterTest {
+
+    @Test
+    @DisplayName("When values are converted then collection elements are returned")
+    void convertValues() {
+        assertThat(ElementKind.of(42)).isEqualTo(ElementKind.NUMBER);
+        assertThat(ElementKind.NUMBER.convert(42)).isEqualTo(BigDecimal.valueOf(42));
+        assertThat(ElementKind.NUMBER.convert(true)).isEqualTo(BigDecimal.ONE);
+        assertThat(ElementKind.of(LocalDate.of(2023, 5, 17))).isEqualTo(ElementKind.TIMESTAMP);
+        assertThat(ElementKind.TIMESTAMP.convert(LocalDate.of(2023, 5, 17))).isEqualTo("2023-05-17T00:00:00.000000000");
+        assertThat(ElementKind.TIMESTAMP_TZ.convert(OffsetDateTime.of(2023, 5, 17, 10, 0, 0, 123, ZoneOffset.ofHours(2))))
+                .isEqualTo("2023-05-17T10:00:00.000000123 +02:00");
+    }
+
+    @Test
+    @DisplayName("When values do not fit the collection types then they are unsupported")
+    void convertUnsupportedValues() {
+        assertThat(ElementKind.of(new Object())).isNull();
+        assertThat(ElementKind.NUMBER.convert(Double.NaN)).isSameAs(OracleArrayMergeWriter.UNSUPPORTED);
+        assertThat(ElementKind.TEXT.convert("x".repeat(4001))).isSameAs(OracleArrayMergeWriter.UNSUPPORTED);
+        assertThat(ElementKind.RAW.convert(new byte[2001])).isSameAs(OracleArrayMergeWriter.UNSUPPORTED);
+    }
+
+    @Test
+    @DisplayName("When the block is created then each column is declared as a bound collection")
+    void block() {
+        final OracleArrayMergeWriter writer = new OracleArrayMergeWriter(null, "T", 2,
+                (expressions) -> "MERGE " + String.join(",", expressions));
+
+        assertThat(writer.getBlock(new ElementKind[]{ ElementKind.NUMBER, ElementKind.TIMESTAMP }))
+                .isEqualTo("DECLARE c1 SYS.ODCINUMBERLIST := ?; c2 SYS.ODCIVARCHAR2LIST := ?; "
+                        + "BEGIN FORALL i IN 1 .. c1.COUNT MERGE c1(i),TO_TIMESTAMP(c2(i), 'YYYY-MM-DD\"T\"HH24:MI:SS.FF9'); END;");
+    }
+}
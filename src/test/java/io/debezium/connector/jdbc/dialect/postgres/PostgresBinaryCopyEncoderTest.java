@@ -0,0 +1,142 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc.dialect.postgres;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link PostgresBinaryCopyEncoder} class.
+ */
+@Tag("UnitTests")
+class PostgresBinaryCopyEncoderTest {
+
+    private static final int HEADER_LENGTH = 19;
+
+    @Test
+    @DisplayName("When no tuples are written then the stream only contains the header and trailer")
+    void emptyStream() {
+        final byte[] data = new PostgresBinaryCopyEncoder(List.of("int4")).finish();
+
+        assertThat(data).hasSize(HEADER_LENGTH + 2);
+        assertThat(Arrays.copyOf(data, 11)).containsExactly('P', 'G', 'C', 'O', 'P', 'Y', '\n', 0xFF, '\r', '\n', 0);
+        assertThat(ByteBuffer.wrap(data, HEADER_LENGTH, 2).getShort()).isEqualTo((short) -1);
+    }
+
+    @Test
+    @DisplayName("When a tuple contains fixed length values and nulls then each field is length prefixed")
+    void fixedLengthValuesAndNulls() {
+        final PostgresBinaryCopyEncoder encoder = new PostgresBinaryCopyEncoder(List.of("int4", "text", "int8", "bool"));
+
+        assertThat(encoder.writeTuple(new Object[]{ 42, null, 7L, true })).isTrue();
+
+        final ByteBuffer tuple = tuple(encoder.finish());
+        assertThat(tuple.getShort()).isEqualTo((short) 4);
+        assertThat(tuple.getInt()).isEqualTo(4);
+        assertThat(tuple.getInt()).isEqualTo(42);
+        assertThat(tuple.getInt()).isEqualTo(-1);
+        assertThat(tuple.getInt()).isEqualTo(8);
+        assertThat(tuple.getLong()).isEqualTo(7L);
+        assertThat(tuple.getInt()).isEqualTo(1);
+        assertThat(tuple.get()).isEqualTo((byte) 1);
+        assertThat(tuple.getShort()).isEqualTo((short) -1);
+    }
+
+    @Test
+    @DisplayName("When temporal values are written then they are relative to the PostgreSQL epoch")
+    void temporalValues() {
+        final PostgresBinaryCopyEncoder encoder = new PostgresBinaryCopyEncoder(List.of("date", "timestamp", "timestamptz"));
+
+        assertThat(encoder.writeTuple(new Object[]{
+                LocalDate.of(2000, 1, 2),
+                LocalDateTime.of(2000, 1, 1, 0, 0, 1, 500),
+                OffsetDateTime.of(2000, 1, 1, 1, 0, 0, 0, ZoneOffset.ofHours(1)) })).isTrue();
+
+        final ByteBuffer tuple = tuple(encoder.finish());
+        tuple.getShort();
+        assertThat(tuple.getInt()).isEqualTo(4);
+        assertThat(tuple.getInt()).isEqualTo(1);
+        assertThat(tuple.getInt()).isEqualTo(8);
+        assertThat(tuple.getLong()).isEqualTo(1_000_001L);
+        assertThat(tuple.getInt()).isEqualTo(8);
+        assertThat(tuple.getLong()).isZero();
+    }
+
+    @Test
+    @DisplayName("When numeric values are written then they are encoded as base 10000 digits")
+    void numericValues() {
+        assertNumeric(new BigDecimal("12345.678"), 1, 0x0000, 3, 1, 2345, 6780);
+        assertNumeric(new BigDecimal("-0.00000001"), -2, 0x4000, 8, 1);
+        assertNumeric(new BigDecimal("1E+8"), 2, 0x0000, 0, 1);
+        assertNumeric(new BigDecimal("0.00"), 0, 0x0000, 2);
+    }
+
+    @Test
+    @DisplayName("When a value does not match the column type then the tuple is rejected")
+    void unsupportedValue() {
+        final PostgresBinaryCopyEncoder encoder = new PostgresBinaryCopyEncoder(List.of("timestamptz"));
+
+        assertThat(encoder.writeTuple(new Object[]{ "infinity" })).isFalse();
+        assertThat(PostgresBinaryCopyEncoder.isSupportedType("geometry")).isFalse();
+        assertThat(PostgresBinaryCopyEncoder.isSupportedType("INT4")).isTrue();
+    }
+
+    @Test
+    @DisplayName("When an integral value does not fit the column type then the tuple is rejected")
+    void outOfRangeIntegralValues() {
+        assertThat(new PostgresBinaryCopyEncoder(List.of("int2")).writeTuple(new Object[]{ 32768 })).isFalse();
+        assertThat(new PostgresBinaryCopyEncoder(List.of("smallserial")).writeTuple(new Object[]{ -32769L })).isFalse();
+        assertThat(new PostgresBinaryCopyEncoder(List.of("int4")).writeTuple(new Object[]{ 2147483648L })).isFalse();
+        assertThat(new PostgresBinaryCopyEncoder(List.of("serial")).writeTuple(new Object[]{ Long.MIN_VALUE })).isFalse();
+    }
+
+    @Test
+    @DisplayName("When an integral value of a wider type fits the column type then it is written")
+    void inRangeIntegralValues() {
+        final PostgresBinaryCopyEncoder encoder = new PostgresBinaryCopyEncoder(List.of("int2", "int4"));
+
+        assertThat(encoder.writeTuple(new Object[]{ (long) Short.MIN_VALUE, (long) Integer.MAX_VALUE })).isTrue();
+
+        final ByteBuffer tuple = tuple(encoder.finish());
+        tuple.getShort();
+        assertThat(tuple.getInt()).isEqualTo(2);
+        assertThat(tuple.getShort()).isEqualTo(Short.MIN_VALUE);
+        assertThat(tuple.getInt()).isEqualTo(4);
+        assertThat(tuple.getInt()).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    private static void assertNumeric(BigDecimal value, int weight, int sign, int displayScale, int... digits) {
+        final PostgresBinaryCopyEncoder encoder = new PostgresBinaryCopyEncoder(List.of("numeric"));
+        assertThat(encoder.writeTuple(new Object[]{ value })).isTrue();
+
+        final ByteBuffer tuple = tuple(encoder.finish());
+        tuple.getShort();
+        assertThat(tuple.getInt()).isEqualTo(8 + digits.length * 2);
+        assertThat(tuple.getShort()).isEqualTo((short) digits.length);
+        assertThat(tuple.getShort()).isEqualTo((short) weight);
+        assertThat(tuple.getShort()).isEqualTo((short) sign);
+        assertThat(tuple.getShort()).isEqualTo((short) displayScale);
+        for (int digit : digits) {
+            assertThat(tuple.getShort()).isEqualTo((short) digit);
+        }
+    }
+
+    private static ByteBuffer tuple(byte[] data) {
+        return ByteBuffer.wrap(data, HEADER_LENGTH, data.length - HEADER_LENGTH);
+    }
+}
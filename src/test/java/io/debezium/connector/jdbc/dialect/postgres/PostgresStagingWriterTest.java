@@ -0,0 +1,180 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc.dialect.postgres;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+import io.debezium.connector.jdbc.BindPlan;
+import io.debezium.connector.jdbc.QueryBinder;
+import io.debezium.connector.jdbc.SinkRecordDescriptor;
+import io.debezium.connector.jdbc.dialect.DatabaseDialect;
+
+/**
+ * Unit tests for the {@link PostgresStagingWriter} class and the statements it applies.
+ */
+@Tag("UnitTests")
+class PostgresStagingWriterTest {
+
+    private static final int HEADER_LENGTH = 19;
+    private static final String COPY = "COPY __dbz_staging (id,name,__dbz_seq) FROM STDIN (FORMAT binary)";
+    private static final String CREATE = "CREATE TEMPORARY TABLE __dbz_staging";
+    private static final String APPLY = "INSERT INTO t";
+
+    private Connection connection;
+    private Statement statement;
+    private CopyManager copyManager;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connection = mock(Connection.class);
+        statement = mock(Statement.class);
+        copyManager = mock(CopyManager.class);
+
+        final PGConnection pgConnection = mock(PGConnection.class);
+        when(connection.isWrapperFor(PGConnection.class)).thenReturn(true);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+    }
+
+    @Test
+    @DisplayName("When the staging table is created then it mirrors the destination columns and a sequence column")
+    void createStatement() {
+        assertThat(PostgresStagingWriter.getCreateStatement("public.t", List.of("id", "\"Name\"")))
+                .isEqualTo("CREATE TEMPORARY TABLE __dbz_staging ON COMMIT DROP AS SELECT id,\"Name\",0::bigint AS __dbz_seq "
+                        + "FROM public.t WITH NO DATA");
+        assertThat(PostgresCopyWriter.getCopyStatement("__dbz_staging", List.of("id", "\"Name\""), true))
+                .isEqualTo("COPY __dbz_staging (id,\"Name\",__dbz_seq) FROM STDIN (FORMAT binary)");
+        assertThat(PostgresCopyWriter.getCopyStatement("public.t", List.of("id", "\"Name\""), false))
+                .isEqualTo("COPY public.t (id,\"Name\") FROM STDIN (FORMAT binary)");
+    }
+
+    @Test
+    @DisplayName("When staged rows are upserted then only the last staged row of each key is applied")
+    void upsertStatement() {
+        assertThat(PostgresStagingWriter.getUpsertStatement("public.t", List.of("id", "region"), List.of("name", "qty")))
+                .isEqualTo("INSERT INTO public.t (id,region,name,qty) "
+                        + "SELECT DISTINCT ON (id,region) id,region,name,qty FROM __dbz_staging "
+                        + "ORDER BY id,region,__dbz_seq DESC "
+                        + "ON CONFLICT (id,region) DO UPDATE SET name=EXCLUDED.name,qty=EXCLUDED.qty");
+    }
+
+    @Test
+    @DisplayName("When staged rows without non-key columns are upserted then conflicting rows are left unchanged")
+    void upsertStatementWithoutNonKeyColumns() {
+        assertThat(PostgresStagingWriter.getUpsertStatement("public.t", List.of("id"), List.of()))
+                .isEqualTo("INSERT INTO public.t (id) SELECT DISTINCT ON (id) id FROM __dbz_staging "
+                        + "ORDER BY id,__dbz_seq DESC ON CONFLICT (id) DO NOTHING");
+    }
+
+    @Test
+    @DisplayName("When staged keys are deleted then the destination rows are joined on every key column")
+    void deleteStatement() {
+        assertThat(PostgresStagingWriter.getDeleteStatement("public.t", List.of("id", "region")))
+                .isEqualTo("DELETE FROM public.t AS t USING __dbz_staging AS s WHERE t.id=s.id AND t.region=s.region");
+    }
+
+    @Test
+    @DisplayName("When a batch is written then the staging table is created, copied and applied in order")
+    void write() throws Exception {
+        final SinkRecordDescriptor first = mock(SinkRecordDescriptor.class);
+        final SinkRecordDescriptor second = mock(SinkRecordDescriptor.class);
+        final SinkRecordDescriptor third = mock(SinkRecordDescriptor.class);
+        final BindPlan bindPlan = bindPlan(Map.of(first, new Object[]{ 1, "a" }, second, new Object[]{ 2, "b" }, third, new Object[]{ 1, "c" }));
+
+        assertThat(writer().write(connection, bindPlan, List.of(first, second, third))).isTrue();
+
+        final ArgumentCaptor<InputStream> data = ArgumentCaptor.forClass(InputStream.class);
+        final InOrder order = inOrder(statement, copyManager);
+        order.verify(statement).execute(CREATE);
+        order.verify(copyManager).copyIn(eq(COPY), data.capture());
+        order.verify(statement).executeUpdate(APPLY);
+
+        // Later changes to the same key are staged with a higher sequence, which the upsert orders by
+        final ByteBuffer tuples = ByteBuffer.wrap(data.getValue().readAllBytes());
+        tuples.position(HEADER_LENGTH);
+        assertTuple(tuples, 1, "a", 0L);
+        assertTuple(tuples, 2, "b", 1L);
+        assertTuple(tuples, 1, "c", 2L);
+        assertThat(tuples.getShort()).isEqualTo((short) -1);
+    }
+
+    @Test
+    @DisplayName("When a value cannot be encoded then nothing is written and the batch falls back")
+    void unsupportedValue() throws Exception {
+        final SinkRecordDescriptor first = mock(SinkRecordDescriptor.class);
+        final SinkRecordDescriptor second = mock(SinkRecordDescriptor.class);
+        final BindPlan bindPlan = bindPlan(Map.of(first, new Object[]{ 1, "a" }, second, new Object[]{ "infinity", "b" }));
+
+        assertThat(writer().write(connection, bindPlan, List.of(first, second))).isFalse();
+
+        verify(connection, never()).createStatement();
+        verify(copyManager, never()).copyIn(anyString(), any(InputStream.class));
+    }
+
+    @Test
+    @DisplayName("When a column type cannot be encoded then the batch falls back")
+    void unsupportedColumnType() {
+        assertThat(PostgresCopyWriter.isSupported(List.of("int4", "geometry"))).isFalse();
+        assertThat(PostgresCopyWriter.isSupported(List.of("INT4", "text"))).isTrue();
+    }
+
+    private static PostgresStagingWriter writer() {
+        return new PostgresStagingWriter(new PostgresCopyWriter(mock(DatabaseDialect.class), COPY, List.of("int4", "text"), true), CREATE, APPLY);
+    }
+
+    private static BindPlan bindPlan(Map<SinkRecordDescriptor, Object[]> rows) {
+        final BindPlan bindPlan = mock(BindPlan.class);
+        when(bindPlan.size()).thenReturn(rows.values().iterator().next().length);
+        when(bindPlan.bind(any(SinkRecordDescriptor.class), any(QueryBinder.class), any(DatabaseDialect.class))).thenAnswer(invocation -> {
+            final Object[] row = rows.get(invocation.<SinkRecordDescriptor> getArgument(0));
+            final QueryBinder query = invocation.getArgument(1);
+            for (int i = 0; i < row.length; i++) {
+                query.setObject(i + 1, row[i]);
+            }
+            return row.length + 1;
+        });
+        return bindPlan;
+    }
+
+    private static void assertTuple(ByteBuffer tuples, int id, String name, long sequence) {
+        final byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        assertThat(tuples.getShort()).isEqualTo((short) 3);
+        assertThat(tuples.getInt()).isEqualTo(4);
+        assertThat(tuples.getInt()).isEqualTo(id);
+        assertThat(tuples.getInt()).isEqualTo(nameBytes.length);
+        final byte[] actualName = new byte[nameBytes.length];
+        tuples.get(actualName);
+        assertThat(actualName).isEqualTo(nameBytes);
+        assertThat(tuples.getInt()).isEqualTo(8);
+        assertThat(tuples.getLong()).isEqualTo(sequence);
+    }
+}
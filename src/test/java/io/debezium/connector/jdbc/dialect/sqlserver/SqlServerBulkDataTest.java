@@ -0,0 +1,69 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc.dialect.sqlserver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.sql.Date;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.connector.jdbc.relational.ColumnDescriptor;
+
+/**
+ * Unit tests for the {@link SqlServerBulkData} class.
+ */
+@Tag("UnitTests")
+class SqlServerBulkDataTest {
+
+    @Test
+    @DisplayName("When values are converted then driver representations are returned")
+    void convertValues() {
+        assertThat(SqlServerBulkData.convert(column("id", Types.INTEGER), 42)).isEqualTo(42);
+        assertThat(SqlServerBulkData.convert(column("name", Types.NVARCHAR), null)).isNull();
+        assertThat(SqlServerBulkData.convert(column("day", Types.DATE), LocalDate.of(2023, 5, 17))).isEqualTo(Date.valueOf("2023-05-17"));
+        assertThat(SqlServerBulkData.convert(column("data", Types.VARBINARY), ByteBuffer.wrap(new byte[]{ 1, 2 }))).isEqualTo(new byte[]{ 1, 2 });
+
+        final Object offset = SqlServerBulkData.convert(column("ts", microsoft.sql.Types.DATETIMEOFFSET),
+                OffsetDateTime.of(2023, 5, 17, 10, 0, 0, 0, ZoneOffset.ofHours(2)));
+        assertThat(offset).isInstanceOf(microsoft.sql.DateTimeOffset.class);
+        assertThat(((microsoft.sql.DateTimeOffset) offset).getMinutesOffset()).isEqualTo(120);
+    }
+
+    @Test
+    @DisplayName("When a value does not match the column type then it is unsupported")
+    void convertUnsupportedValue() {
+        assertThat(SqlServerBulkData.convert(column("id", Types.INTEGER), "42")).isSameAs(SqlServerBulkData.UNSUPPORTED);
+        assertThat(SqlServerBulkData.isSupportedType(Types.SQLXML)).isFalse();
+    }
+
+    @Test
+    @DisplayName("When rows are sequenced then the sequence column follows the destination columns")
+    void sequencedRows() {
+        final SqlServerBulkData data = new SqlServerBulkData(List.of(column("id", Types.INTEGER)), true,
+                List.of(new Object[]{ 1, 0L }, new Object[]{ 2, 1L }));
+
+        assertThat(data.getColumnOrdinals()).containsExactly(1, 2);
+        assertThat(data.getColumnName(2)).isEqualTo(SqlServerBulkCopyWriter.SEQUENCE_COLUMN);
+        assertThat(data.getColumnType(2)).isEqualTo(Types.BIGINT);
+        assertThat(data.next()).isTrue();
+        assertThat(data.getRowData()).containsExactly(1, 0L);
+        assertThat(data.next()).isTrue();
+        assertThat(data.next()).isFalse();
+    }
+
+    private static ColumnDescriptor column(String name, int jdbcType) {
+        return ColumnDescriptor.builder().columnName(name).jdbcType(jdbcType).build();
+    }
+}
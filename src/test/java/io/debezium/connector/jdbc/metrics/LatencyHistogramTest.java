@@ -0,0 +1,54 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.assertj.core.data.Percentage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link LatencyHistogram} class.
+ */
+@Tag("UnitTests")
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("When values are bucketed then buckets are contiguous and contain their values")
+    void bucketsAreContiguous() {
+        for (long value = 0; value < 100_000; value++) {
+            final int bucket = LatencyHistogram.bucketOf(value);
+            assertThat(LatencyHistogram.upperBoundOf(bucket)).isGreaterThanOrEqualTo(value);
+            if (bucket > 0) {
+                assertThat(LatencyHistogram.upperBoundOf(bucket - 1)).isLessThan(value);
+            }
+        }
+        assertThat(LatencyHistogram.upperBoundOf(LatencyHistogram.bucketOf(Long.MAX_VALUE))).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("When values are recorded then percentiles are within the bucket precision")
+    void percentiles() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 10_000; value++) {
+            histogram.record(value);
+        }
+
+        assertThat(histogram.getCount()).isEqualTo(10_000);
+        assertThat(histogram.getMax()).isEqualTo(10_000);
+        assertThat(histogram.getMean()).isEqualTo(5_000);
+        assertThat(histogram.getPercentile(0.5)).isCloseTo(5_000, Percentage.withPercentage(12.5));
+        assertThat(histogram.getPercentile(0.99)).isCloseTo(9_900, Percentage.withPercentage(12.5));
+        assertThat(histogram.getPercentile(1.0)).isEqualTo(10_000);
+        assertThat(histogram.getSummary()).containsKeys("count", "mean", "p50", "p90", "p99", "p999", "max");
+
+        histogram.reset();
+        assertThat(histogram.getCount()).isZero();
+        assertThat(histogram.getPercentile(0.5)).isZero();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc.type;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.apache.kafka.connect.data.Date;
+import org.apache.kafka.connect.data.Schema;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.debezium.connector.jdbc.QueryBinder;
+import io.debezium.connector.jdbc.ValueBindDescriptor;
+import io.debezium.connector.jdbc.dialect.DatabaseDialect;
+import io.debezium.connector.jdbc.type.connect.ConnectBytesType;
+import io.debezium.connector.jdbc.type.connect.ConnectDateType;
+import io.debezium.connector.jdbc.type.connect.ConnectInt64Type;
+
+/**
+ * Unit tests for binding values through {@link Type#bind(QueryBinder, int, Schema, Object)}.
+ */
+@Tag("UnitTests")
+class TypeBindingTest {
+
+    @Test
+    @DisplayName("When a type binds directly to the query then the typed methods are used")
+    void bindTypedValues() {
+        final QueryBinder query = mock(QueryBinder.class);
+
+        assertThat(ConnectInt64Type.INSTANCE.bind(query, 3, Schema.OPTIONAL_INT64_SCHEMA, 42L)).isEqualTo(1);
+        assertThat(ConnectInt64Type.INSTANCE.bind(query, 4, Schema.OPTIONAL_INT64_SCHEMA, null)).isEqualTo(1);
+        final byte[] bytes = { 1, 2, 3 };
+        assertThat(ConnectBytesType.INSTANCE.bind(query, 5, Schema.OPTIONAL_BYTES_SCHEMA, bytes)).isEqualTo(1);
+        assertThat(ConnectDateType.INSTANCE.bind(query, 6, Date.SCHEMA, new java.util.Date(0L))).isEqualTo(1);
+        assertThat(ConnectDateType.INSTANCE.bind(query, 7, Date.SCHEMA, null)).isEqualTo(1);
+
+        verify(query).setLong(3, 42L);
+        verify(query).setObject(4, null);
+        verify(query).setObject(5, bytes, Types.VARBINARY);
+        verify(query).setObject(6, LocalDate.of(1970, 1, 1));
+        verify(query).setNull(7);
+        verify(query, never()).bind(any());
+    }
+
+    @Test
+    @DisplayName("When a type binding through the typed methods binds descriptors then they reflect the typed binding")
+    void bindDescriptorsOfTypedBinding() {
+        final byte[] bytes = { 1, 2, 3 };
+
+        final List<ValueBindDescriptor> boundValues = ConnectBytesType.INSTANCE.bind(5, Schema.OPTIONAL_BYTES_SCHEMA, bytes);
+
+        assertThat(boundValues).hasSize(1);
+        assertThat(boundValues.get(0).getIndex()).isEqualTo(5);
+        assertThat(boundValues.get(0).getValue()).isSameAs(bytes);
+        assertThat(boundValues.get(0).getTargetSqlType()).isEqualTo(Types.VARBINARY);
+        assertThat(ConnectInt64Type.INSTANCE.bind(1, Schema.OPTIONAL_INT64_SCHEMA, 42L))
+                .extracting(ValueBindDescriptor::getIndex, ValueBindDescriptor::getValue)
+                .containsExactly(tuple(1, 42L));
+    }
+
+    @Test
+    @DisplayName("When a type only overrides the descriptor binding then its descriptors are bound")
+    void bindDescriptorsOfDescriptorBinding() {
+        final QueryBinder query = mock(QueryBinder.class);
+        final Type type = new AbstractType() {
+            @Override
+            public String[] getRegistrationKeys() {
+                return new String[0];
+            }
+
+            @Override
+            public String getTypeName(DatabaseDialect dialect, Schema schema, boolean key) {
+                return "varchar";
+            }
+
+            @Override
+            public List<ValueBindDescriptor> bind(int index, Schema schema, Object value) {
+                return List.of(new ValueBindDescriptor(index, String.valueOf(value)), new ValueBindDescriptor(index + 1, value));
+            }
+        };
+
+        assertThat(type.bind(query, 1, Schema.OPTIONAL_INT64_SCHEMA, 42L)).isEqualTo(2);
+
+        final ArgumentCaptor<ValueBindDescriptor> boundValues = ArgumentCaptor.forClass(ValueBindDescriptor.class);
+        verify(query, times(2)).bind(boundValues.capture());
+        assertThat(boundValues.getAllValues())
+                .extracting(ValueBindDescriptor::getIndex, ValueBindDescriptor::getValue)
+                .containsExactly(tuple(1, "42"), tuple(2, 42L));
+        verify(query, never()).setObject(anyInt(), any());
+    }
+}
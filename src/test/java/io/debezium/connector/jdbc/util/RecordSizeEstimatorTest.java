@@ -0,0 +1,49 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link RecordSizeEstimator} class.
+ */
+@Tag("UnitTests")
+class RecordSizeEstimatorTest {
+
+    @Test
+    @DisplayName("When a struct is estimated then the sizes of its fields are summed")
+    void estimateStruct() {
+        final Schema schema = SchemaBuilder.struct()
+                .field("id", Schema.INT32_SCHEMA)
+                .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+                .field("data", Schema.OPTIONAL_BYTES_SCHEMA)
+                .field("tags", SchemaBuilder.array(Schema.STRING_SCHEMA).optional().build())
+                .build();
+        final Struct value = new Struct(schema)
+                .put("id", 1)
+                .put("name", "debezium")
+                .put("data", new byte[100])
+                .put("tags", List.of("a", "bc"));
+
+        assertThat(RecordSizeEstimator.estimate(schema, value)).isEqualTo(4 + 8 + 100 + 3);
+    }
+
+    @Test
+    @DisplayName("When a value is null then it has a minimal size")
+    void estimateNull() {
+        assertThat(RecordSizeEstimator.estimate(Schema.OPTIONAL_STRING_SCHEMA, null)).isEqualTo(1);
+        assertThat(RecordSizeEstimator.estimate(null, null)).isEqualTo(1);
+    }
+}